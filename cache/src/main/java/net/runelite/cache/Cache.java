@@ -24,8 +24,13 @@
  */
 package net.runelite.cache;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import net.runelite.cache.fs.Store;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -35,6 +40,9 @@ import org.apache.commons.cli.ParseException;
 
 public class Cache
 {
+	// the diff only decodes the changed definitions once each, so there is nothing to gain from caching them
+	private static final int DIFF_CACHE_SIZE = 0;
+
 	public static void main(String[] args) throws IOException
 	{
 		Options options = new Options();
@@ -45,6 +53,8 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "diff", true, "previous cache base, to dump only what changed since");
+		options.addOption(null, "manifest", true, "file to write the changes to when diffing");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -63,6 +73,13 @@ public class Cache
 
 		Store store = loadStore(cache);
 
+		if (cmd.hasOption("diff"))
+		{
+			Store oldStore = loadStore(cmd.getOptionValue("diff"));
+			diff(cmd, oldStore, store);
+			return;
+		}
+
 		if (cmd.hasOption("items"))
 		{
 			String itemdir = cmd.getOptionValue("items");
@@ -128,6 +145,127 @@ public class Cache
 		return store;
 	}
 
+	private static void diff(CommandLine cmd, Store oldStore, Store store) throws IOException
+	{
+		CacheDiff diff = new CacheDiff(oldStore, store);
+
+		Map<String, CacheDiff.Changes> manifest = new LinkedHashMap<>();
+		manifest.put("items", diff.diffConfig(ConfigType.ITEM));
+		manifest.put("npcs", diff.diffConfig(ConfigType.NPC));
+		manifest.put("objects", diff.diffConfig(ConfigType.OBJECT));
+		manifest.put("sprites", diff.diffArchives(IndexType.SPRITES));
+
+		for (Map.Entry<String, CacheDiff.Changes> entry : manifest.entrySet())
+		{
+			CacheDiff.Changes changes = entry.getValue();
+			System.out.println(entry.getKey() + ": " + changes.getAdded().size() + " added, "
+				+ changes.getRemoved().size() + " removed, " + changes.getModified().size() + " modified");
+		}
+
+		if (cmd.hasOption("items"))
+		{
+			File itemdir = new File(cmd.getOptionValue("items"));
+			CacheDiff.Changes changes = manifest.get("items");
+			System.out.println("Dumping changed items to " + itemdir);
+
+			ItemManager dumper = new ItemManager(store);
+			dumper.loadLazy(DIFF_CACHE_SIZE);
+			dumper.export(itemdir, changes.getChanged());
+			removeDumped(itemdir, changes, ".json");
+			if (!changes.isEmpty())
+			{
+				dumper.java(itemdir);
+			}
+		}
+
+		if (cmd.hasOption("npcs"))
+		{
+			File npcdir = new File(cmd.getOptionValue("npcs"));
+			CacheDiff.Changes changes = manifest.get("npcs");
+			System.out.println("Dumping changed npcs to " + npcdir);
+
+			NpcManager dumper = new NpcManager(store);
+			dumper.loadLazy(DIFF_CACHE_SIZE);
+			dumper.dump(npcdir, changes.getChanged());
+			removeDumped(npcdir, changes, ".json");
+			if (!changes.isEmpty())
+			{
+				dumper.java(npcdir);
+			}
+		}
+
+		if (cmd.hasOption("objects"))
+		{
+			File objectdir = new File(cmd.getOptionValue("objects"));
+			CacheDiff.Changes changes = manifest.get("objects");
+			System.out.println("Dumping changed objects to " + objectdir);
+
+			ObjectManager dumper = new ObjectManager(store);
+			dumper.loadLazy(DIFF_CACHE_SIZE);
+			dumper.dump(objectdir, changes.getChanged());
+			removeDumped(objectdir, changes, ".json");
+			if (!changes.isEmpty())
+			{
+				dumper.java(objectdir);
+			}
+		}
+
+		if (cmd.hasOption("sprites"))
+		{
+			File spritedir = new File(cmd.getOptionValue("sprites"));
+			CacheDiff.Changes changes = manifest.get("sprites");
+			System.out.println("Dumping changed sprites to " + spritedir);
+			spritedir.mkdirs();
+
+			// a modified sprite may have fewer frames than before, so clear out all of its old frames
+			for (int id : changes.getRemoved())
+			{
+				removeSpriteFrames(spritedir, id);
+			}
+			for (int id : changes.getModified())
+			{
+				removeSpriteFrames(spritedir, id);
+			}
+
+			SpriteManager dumper = new SpriteManager(store);
+			dumper.load(changes.getChanged());
+			dumper.export(spritedir);
+		}
+
+		if (cmd.hasOption("manifest"))
+		{
+			File manifestFile = new File(cmd.getOptionValue("manifest"));
+			Gson gson = new GsonBuilder()
+				.setPrettyPrinting()
+				.create();
+			try (FileWriter fw = new FileWriter(manifestFile))
+			{
+				gson.toJson(manifest, fw);
+			}
+			System.out.println("Wrote change manifest to " + manifestFile);
+		}
+	}
+
+	private static void removeDumped(File dir, CacheDiff.Changes changes, String extension)
+	{
+		for (int id : changes.getRemoved())
+		{
+			new File(dir, id + extension).delete();
+		}
+	}
+
+	private static void removeSpriteFrames(File spritedir, int spriteId)
+	{
+		File[] frames = spritedir.listFiles((dir, name) -> name.startsWith(spriteId + "-") && name.endsWith(".png"));
+		if (frames != null)
+		{
+			for (File frame : frames)
+			{
+				frame.delete();
+			}
+		}
+	}
+
 	private static void dumpItems(Store store, File itemdir) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
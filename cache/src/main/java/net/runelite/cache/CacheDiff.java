@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import lombok.Getter;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Compares two caches using the crc and revision of their archives, so that
+ * only the archives which differ need to be decoded.
+ */
+public class CacheDiff
+{
+	private final Store oldStore;
+	private final Store newStore;
+
+	public CacheDiff(Store oldStore, Store newStore)
+	{
+		this.oldStore = oldStore;
+		this.newStore = newStore;
+	}
+
+	/**
+	 * Diff the archive ids of an index where each archive holds one definition, such as sprites.
+	 */
+	public Changes diffArchives(IndexType type)
+	{
+		Index oldIndex = oldStore.getIndex(type);
+		Index newIndex = newStore.getIndex(type);
+		Changes changes = new Changes();
+
+		if (newIndex != null)
+		{
+			for (Archive archive : newIndex.getArchives())
+			{
+				Archive old = oldIndex != null ? oldIndex.getArchive(archive.getArchiveId()) : null;
+				if (old == null)
+				{
+					changes.added.add(archive.getArchiveId());
+				}
+				else if (old.getCrc() != archive.getCrc() || old.getRevision() != archive.getRevision())
+				{
+					changes.modified.add(archive.getArchiveId());
+				}
+			}
+		}
+
+		if (oldIndex != null)
+		{
+			for (Archive archive : oldIndex.getArchives())
+			{
+				if (newIndex == null || newIndex.getArchive(archive.getArchiveId()) == null)
+				{
+					changes.removed.add(archive.getArchiveId());
+				}
+			}
+		}
+
+		return changes;
+	}
+
+	/**
+	 * Diff the file ids of a config archive, where each file holds one definition. The
+	 * archives are only decoded if their crc or revision differ.
+	 */
+	public Changes diffConfig(ConfigType type) throws IOException
+	{
+		Archive oldArchive = findConfig(oldStore, type);
+		Archive newArchive = findConfig(newStore, type);
+		Changes changes = new Changes();
+
+		if (oldArchive != null && newArchive != null
+			&& oldArchive.getCrc() == newArchive.getCrc() && oldArchive.getRevision() == newArchive.getRevision())
+		{
+			return changes;
+		}
+
+		Map<Integer, byte[]> oldFiles = loadFiles(oldStore, oldArchive);
+		Map<Integer, byte[]> newFiles = loadFiles(newStore, newArchive);
+
+		for (Map.Entry<Integer, byte[]> entry : newFiles.entrySet())
+		{
+			byte[] old = oldFiles.get(entry.getKey());
+			if (old == null)
+			{
+				changes.added.add(entry.getKey());
+			}
+			else if (!Arrays.equals(old, entry.getValue()))
+			{
+				changes.modified.add(entry.getKey());
+			}
+		}
+
+		for (Integer id : oldFiles.keySet())
+		{
+			if (!newFiles.containsKey(id))
+			{
+				changes.removed.add(id);
+			}
+		}
+
+		return changes;
+	}
+
+	private static Archive findConfig(Store store, ConfigType type)
+	{
+		Index index = store.getIndex(IndexType.CONFIGS);
+		return index != null ? index.getArchive(type.getId()) : null;
+	}
+
+	private static Map<Integer, byte[]> loadFiles(Store store, Archive archive) throws IOException
+	{
+		if (archive == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		byte[] data = store.getStorage().loadArchive(archive);
+		if (data == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		ArchiveFiles files = archive.getFiles(data);
+		Map<Integer, byte[]> contents = new HashMap<>();
+		for (FSFile file : files.getFiles())
+		{
+			contents.put(file.getFileId(), file.getContents());
+		}
+		return contents;
+	}
+
+	/**
+	 * Definition ids added, removed, or modified between two caches
+	 */
+	@Getter
+	public static class Changes
+	{
+		private final SortedSet<Integer> added = new TreeSet<>();
+		private final SortedSet<Integer> removed = new TreeSet<>();
+		private final SortedSet<Integer> modified = new TreeSet<>();
+
+		/**
+		 * Ids which exist in the new cache and need to be exported
+		 */
+		public SortedSet<Integer> getChanged()
+		{
+			SortedSet<Integer> changed = new TreeSet<>(added);
+			changed.addAll(modified);
+			return changed;
+		}
+
+		public boolean isEmpty()
+		{
+			return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+		}
+	}
+}
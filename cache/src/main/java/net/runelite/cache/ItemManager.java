@@ -36,7 +36,6 @@ import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -46,12 +45,17 @@ public class ItemManager implements ItemProvider
 {
 	private final Store store;
 	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private LazyDefinitions<ItemDefinition> lazyItems;
+	private volatile boolean linked;
 
 	public ItemManager(Store store)
 	{
 		this.store = store;
 	}
 
+	/**
+	 * Decode every item, in parallel
+	 */
 	public void load() throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
@@ -63,15 +67,44 @@ public class ItemManager implements ItemProvider
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
+		LazyDefinitions.decodeAll(files.getFiles(), loader::load, items::put);
+	}
+
+	/**
+	 * Index the items without decoding them. Items are decoded when first
+	 * requested, and the most recently used {@code cacheSize} are kept.
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+
+		lazyItems = new LazyDefinitions<>(store.getStorage(), archive, (id, b) ->
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+			ItemDefinition def = loader.load(id, b);
+			if (linked)
+			{
+				link(def);
+			}
+			return def;
+		}, cacheSize);
 	}
 
+	/**
+	 * Link noted, bought, and placeholder items to their templates. When
+	 * loaded lazily, items are linked as they are decoded, and items which
+	 * were decoded before linking are dropped from the cache so that they are
+	 * decoded again linked.
+	 */
 	public void link()
 	{
+		linked = true;
+		if (lazyItems != null)
+		{
+			lazyItems.clear();
+		}
 		for (ItemDefinition oc : items.values())
 		{
 			link(oc);
@@ -94,13 +127,25 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Get every item. When loaded lazily, this decodes every item without
+	 * caching them.
+	 */
 	public Collection<ItemDefinition> getItems()
 	{
+		if (lazyItems != null)
+		{
+			return lazyItems.getAll();
+		}
 		return Collections.unmodifiableCollection(items.values());
 	}
 
 	public ItemDefinition getItem(int itemId)
 	{
+		if (lazyItems != null)
+		{
+			return lazyItems.get(itemId);
+		}
 		return items.get(itemId);
 	}
 
@@ -108,7 +153,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : getItems())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -117,13 +162,35 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Export only the given items, such as those changed in an update. Ids with no item are skipped.
+	 */
+	public void export(File out, Collection<Integer> ids) throws IOException
+	{
+		out.mkdirs();
+
+		for (int id : ids)
+		{
+			ItemDefinition def = getItem(id);
+			if (def == null)
+			{
+				continue;
+			}
+
+			ItemExporter exporter = new ItemExporter(def);
+
+			File targ = new File(out, def.id + ".json");
+			exporter.exportTo(targ);
+		}
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : getItems())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
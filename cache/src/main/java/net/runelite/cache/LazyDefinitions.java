@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.InputStream;
+
+/**
+ * Definitions of a config archive which are decoded on first access. Only the
+ * decompressed archive and the offset of each file within it are kept, along
+ * with a bounded LRU of decoded definitions.
+ *
+ * @param <T> definition type
+ */
+class LazyDefinitions<T>
+{
+	@FunctionalInterface
+	interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private final Decoder<T> decoder;
+	private final byte[] data;
+	// offset and length of each file in data by file id, length -1 for no file
+	private final int[] offsets;
+	private final int[] lengths;
+	private final Map<Integer, T> cache;
+
+	LazyDefinitions(Storage storage, Archive archive, Decoder<T> decoder, int cacheSize) throws IOException
+	{
+		this.decoder = decoder;
+
+		FileData[] fileData = archive.getFileData();
+		int maxId = Arrays.stream(fileData).mapToInt(FileData::getId).max().orElse(-1);
+		offsets = new int[maxId + 1];
+		lengths = new int[maxId + 1];
+		Arrays.fill(lengths, -1);
+
+		byte[] decompressed = archive.decompress(storage.loadArchive(archive));
+		if (fileData.length == 1)
+		{
+			data = decompressed;
+			lengths[fileData[0].getId()] = decompressed.length;
+		}
+		else
+		{
+			data = index(decompressed, fileData);
+		}
+
+		cache = new LinkedHashMap<Integer, T>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest)
+			{
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Find the offsets of the files in a multi-file archive. See
+	 * {@link ArchiveFiles#loadContents(byte[])} for the layout.
+	 *
+	 * @return the file contents, with each file contiguous
+	 */
+	private byte[] index(byte[] decompressed, FileData[] fileData)
+	{
+		int filesCount = fileData.length;
+
+		InputStream stream = new InputStream(decompressed);
+		stream.setOffset(stream.getLength() - 1);
+		int chunks = stream.readUnsignedByte();
+
+		if (chunks != 1)
+		{
+			// files are interleaved across chunks, so copy them out contiguously
+			ArchiveFiles files = new ArchiveFiles();
+			for (FileData fd : fileData)
+			{
+				files.addFile(new FSFile(fd.getId()));
+			}
+			files.loadContents(decompressed);
+
+			int size = files.getFiles().stream().mapToInt(FSFile::getSize).sum();
+			byte[] data = new byte[size];
+			int offset = 0;
+			for (FSFile file : files.getFiles())
+			{
+				System.arraycopy(file.getContents(), 0, data, offset, file.getSize());
+				offsets[file.getFileId()] = offset;
+				lengths[file.getFileId()] = file.getSize();
+				offset += file.getSize();
+			}
+			return data;
+		}
+
+		stream.setOffset(stream.getLength() - 1 - filesCount * 4);
+		int offset = 0;
+		int chunkSize = 0;
+		for (FileData fd : fileData)
+		{
+			chunkSize += stream.readInt();
+			offsets[fd.getId()] = offset;
+			lengths[fd.getId()] = chunkSize;
+			offset += chunkSize;
+		}
+		return decompressed;
+	}
+
+	T get(int id)
+	{
+		if (id < 0 || id >= lengths.length || lengths[id] < 0)
+		{
+			return null;
+		}
+
+		T def;
+		synchronized (cache)
+		{
+			def = cache.get(id);
+		}
+
+		if (def == null)
+		{
+			// decode outside of the lock, decoders may look up other definitions
+			def = decode(id);
+			synchronized (cache)
+			{
+				T existing = cache.putIfAbsent(id, def);
+				if (existing != null)
+				{
+					def = existing;
+				}
+			}
+		}
+		return def;
+	}
+
+	/**
+	 * Discard the decoded definitions, so that they are decoded again when next requested
+	 */
+	void clear()
+	{
+		synchronized (cache)
+		{
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Decode every definition without caching them
+	 */
+	List<T> getAll()
+	{
+		List<T> defs = new ArrayList<>();
+		for (int id = 0; id < lengths.length; ++id)
+		{
+			if (lengths[id] >= 0)
+			{
+				defs.add(decode(id));
+			}
+		}
+		return defs;
+	}
+
+	private T decode(int id)
+	{
+		return decoder.decode(id, Arrays.copyOfRange(data, offsets[id], offsets[id] + lengths[id]));
+	}
+
+	/**
+	 * Decode every file in parallel, passing the definitions to the consumer
+	 * in file order on the calling thread
+	 */
+	static <T> void decodeAll(Collection<FSFile> files, Decoder<T> decoder, BiConsumer<Integer, T> consumer)
+	{
+		FSFile[] f = files.toArray(new FSFile[0]);
+		Object[] defs = new Object[f.length];
+		IntStream.range(0, f.length).parallel()
+			.forEach(i -> defs[i] = decoder.decode(f[i].getFileId(), f[i].getContents()));
+
+		for (int i = 0; i < f.length; ++i)
+		{
+			@SuppressWarnings("unchecked")
+			T def = (T) defs[i];
+			consumer.accept(f[i].getFileId(), def);
+		}
+	}
+}
@@ -24,17 +24,27 @@
  */
 package net.runelite.cache;
 
+import com.google.common.base.Throwables;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -78,6 +88,8 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int LABEL_MARGIN = 64; // pixels a label glyph may extend past its line's bounds
+	private static final int TILE_SIZE = Region.X * MAP_SCALE; // pixels per side of a tile in a tile pyramid
 
 	private static byte[][][] TILE_SHAPE_2D;
 
@@ -160,6 +172,7 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tiles").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -197,6 +210,14 @@ public class MapImageDumper
 
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if (cmd.hasOption("tiles"))
+				{
+					File planeDir = new File(outDir, Integer.toString(i));
+					dumper.drawTiles(i, planeDir, ForkJoinPool.commonPool());
+					log.info("Wrote tiles {}", planeDir);
+					continue;
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
@@ -264,11 +285,215 @@ public class MapImageDumper
 		drawMap(image, z);
 		drawObjects(image, z);
 		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		drawMapLabels(image, z, regionLoader.getLowestX().getBaseX(), regionLoader.getHighestY().getBaseY());
+
+		return image;
+	}
+
+	/**
+	 * Render a plane as a pyramid of {@value #TILE_SIZE}px PNG tiles, written to
+	 * {@code outDir/<zoom>/<x>/<y>.png}. The most detailed zoom level has one tile per
+	 * region, drawn the same as the matching part of {@link #drawMap(int)}, and each
+	 * coarser level is downsampled from the four tiles beneath it until the whole
+	 * plane fits in the single tile at zoom 0. Tiles are rendered concurrently on the
+	 * executor and written as soon as they are drawn, so only the tiles in progress are
+	 * held in memory.
+	 *
+	 * @param z plane to render
+	 * @param outDir directory to write the tiles to
+	 * @param executor executor to render tiles on
+	 * @return the most detailed zoom level
+	 * @throws IOException if a tile can't be read or written
+	 */
+	public int drawTiles(int z, File outDir, Executor executor) throws IOException
+	{
+		int lowestRegionX = regionLoader.getLowestX().getRegionX();
+		int highestRegionY = regionLoader.getHighestY().getRegionY();
+		int tilesX = regionLoader.getHighestX().getRegionX() - lowestRegionX + 1;
+		int tilesY = highestRegionY - regionLoader.getLowestY().getRegionY() + 1;
+
+		int maxZoom = 0;
+		while ((1 << maxZoom) < Math.max(tilesX, tilesY))
+		{
+			++maxZoom;
+		}
+
+		final int zoom = maxZoom;
+		Set<Long> tiles = new HashSet<>();
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int x = region.getRegionX() - lowestRegionX;
+			int y = highestRegionY - region.getRegionY();
+			tiles.add(packTile(x, y));
+			tasks.add(() ->
+			{
+				writeTile(outDir, zoom, x, y, drawTile(region, z));
+				return null;
+			});
+		}
+		runTiles(tasks, executor);
+
+		for (int level = maxZoom - 1; level >= 0; --level)
+		{
+			final int childLevel = level + 1, parentLevel = level;
+			final Set<Long> children = tiles;
+			Set<Long> parents = new HashSet<>();
+			for (long tile : children)
+			{
+				parents.add(packTile(tileX(tile) >> 1, tileY(tile) >> 1));
+			}
+
+			tasks.clear();
+			for (long tile : parents)
+			{
+				int x = tileX(tile), y = tileY(tile);
+				tasks.add(() ->
+				{
+					BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+					for (int i = 0; i < 4; ++i)
+					{
+						int childX = x * 2 + (i & 1), childY = y * 2 + (i >> 1);
+						if (!children.contains(packTile(childX, childY)))
+						{
+							continue;
+						}
+
+						BufferedImage child = ImageIO.read(tileFile(outDir, childLevel, childX, childY));
+						downsample(child, image, (i & 1) * TILE_SIZE / 2, (i >> 1) * TILE_SIZE / 2);
+					}
+					writeTile(outDir, parentLevel, x, y, image);
+					return null;
+				});
+			}
+			runTiles(tasks, executor);
+
+			tiles = parents;
+		}
+
+		return maxZoom;
+	}
+
+	/**
+	 * Draw the most detailed tile of a region. Objects, icons and labels of the neighboring regions
+	 * can overhang into the tile, so they are drawn too, in the same order as {@link #drawMap(int)}
+	 * draws them.
+	 */
+	private BufferedImage drawTile(Region region, int z)
+	{
+		BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		List<Region> neighbors = new ArrayList<>(9);
+		for (Region neighbor : regionLoader.getRegions())
+		{
+			if (Math.abs(neighbor.getRegionX() - region.getRegionX()) <= 1 && Math.abs(neighbor.getRegionY() - region.getRegionY()) <= 1)
+			{
+				neighbors.add(neighbor);
+			}
+		}
+
+		drawMap(image, 0, 0, z, region);
+		for (Region neighbor : neighbors)
+		{
+			drawObjects(image, neighbor.getBaseX() - region.getBaseX(), region.getBaseY() - neighbor.getBaseY(), neighbor, z);
+		}
+		for (Region neighbor : neighbors)
+		{
+			drawMapIcons(image, neighbor.getBaseX() - region.getBaseX(), region.getBaseY() - neighbor.getBaseY(), neighbor, z);
+		}
+		drawMapLabels(image, z, region.getBaseX(), region.getBaseY());
 
 		return image;
 	}
 
+	private static void runTiles(List<Callable<Void>> tasks, Executor executor) throws IOException
+	{
+		CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+		for (Callable<Void> task : tasks)
+		{
+			completionService.submit(task);
+		}
+
+		try
+		{
+			for (int i = 0; i < tasks.size(); ++i)
+			{
+				completionService.take().get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new IOException(ex.getCause());
+		}
+	}
+
+	private static long packTile(int x, int y)
+	{
+		return (long) x << 32 | y & 0xFFFFFFFFL;
+	}
+
+	private static int tileX(long tile)
+	{
+		return (int) (tile >>> 32);
+	}
+
+	private static int tileY(long tile)
+	{
+		return (int) tile;
+	}
+
+	private static File tileFile(File outDir, int zoom, int x, int y)
+	{
+		return new File(outDir, zoom + File.separator + x + File.separator + y + ".png");
+	}
+
+	private static void writeTile(File outDir, int zoom, int x, int y, BufferedImage image) throws IOException
+	{
+		File file = tileFile(outDir, zoom, x, y);
+		file.getParentFile().mkdirs();
+		if (!ImageIO.write(image, "png", file))
+		{
+			throw new IOException("no png writer for tile " + file);
+		}
+	}
+
+	/**
+	 * Shrink an image to half its size with a 2x2 box filter, and draw it into dst at the given position
+	 */
+	static void downsample(BufferedImage src, BufferedImage dst, int dstX, int dstY)
+	{
+		int srcWidth = src.getWidth();
+		int width = srcWidth / 2;
+		int height = src.getHeight() / 2;
+		int[] pixels = src.getRGB(0, 0, srcWidth, height * 2, null, 0, srcWidth);
+		int[] out = new int[width * height];
+
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				int i = y * 2 * srcWidth + x * 2;
+				int a = pixels[i], b = pixels[i + 1], c = pixels[i + srcWidth], d = pixels[i + srcWidth + 1];
+				int argb = 0;
+				for (int shift = 0; shift < 32; shift += 8)
+				{
+					int sum = (a >>> shift & 0xFF) + (b >>> shift & 0xFF) + (c >>> shift & 0xFF) + (d >>> shift & 0xFF);
+					argb |= (sum >> 2) << shift;
+				}
+				out[y * width + x] = argb;
+			}
+		}
+
+		dst.setRGB(dstX, dstY, width, height, out, 0, width);
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
@@ -390,9 +615,12 @@ public class MapImageDumper
 
 	private void drawMap(int[][] pixels, Region region, int z)
 	{
-		if (TILE_SHAPE_2D == null)
+		synchronized (MapImageDumper.class)
 		{
-			generateTileShapes();
+			if (TILE_SHAPE_2D == null)
+			{
+				generateTileShapes();
+			}
 		}
 
 		int baseX = region.getBaseX();
@@ -1581,7 +1809,10 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapLabels(BufferedImage image, int z)
+	/**
+	 * Draw the map labels, with the image's top left corner at map square (originX, originY + Region.Y - 1)
+	 */
+	private void drawMapLabels(BufferedImage image, int z, int originX, int originY)
 	{
 		if (!renderLabels)
 		{
@@ -1604,22 +1835,32 @@ public class MapImageDumper
 			String areaLabel = area.getName();
 			String[] lines = areaLabel.split("<br>");
 			int ascent = 0;
+			int drawX = worldPosition.getX() - originX;
+			int drawY = originY - worldPosition.getY() + Region.Y - 2;
 
 			for (String line : lines)
 			{
 				int advance = 0;
 				int stringWidth = font.stringWidth(line);
+				int lineX = (drawX * MAP_SCALE) - (stringWidth / 2);
+				int lineY = (drawY * MAP_SCALE) + ascent - (font.getAscent() / 2);
+				// skip lines nowhere near the image, which is most of them when drawing tiles
+				if (lineX + stringWidth + LABEL_MARGIN < 0 || lineX - LABEL_MARGIN > image.getWidth()
+					|| lineY + LABEL_MARGIN < 0 || lineY - LABEL_MARGIN > image.getHeight())
+				{
+					ascent += font.getAscent() / 2;
+					continue;
+				}
+
 				for (int i = 0; i < line.length(); ++i)
 				{
 					char c = line.charAt(i);
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
 						blitGlyph(image,
-							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
-							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
+							lineX + advance,
+							lineY,
 							area.getTextColor(),
 							sprite
 						);
@@ -1842,7 +2083,10 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		synchronized (sprite)
+		{
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1903,6 +2147,15 @@ public class MapImageDumper
 	}
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
+	{
+		// the glyph is recolored in place, so lock it while drawing in case tiles are being drawn concurrently
+		synchronized (glyph)
+		{
+			blitGlyph0(dst, x, y, color, glyph);
+		}
+	}
+
+	private void blitGlyph0(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
 		int[] pixels = glyph.getPixels();
 		int[] shadowPixels = new int[pixels.length];
@@ -33,24 +33,28 @@ import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.providers.NpcProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
-public class NpcManager
+public class NpcManager implements NpcProvider
 {
 	private final Store store;
 	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private LazyDefinitions<NpcDefinition> lazyNpcs;
 
 	public NpcManager(Store store)
 	{
 		this.store = store;
 	}
 
+	/**
+	 * Decode every npc, in parallel
+	 */
 	public void load() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
@@ -64,29 +68,81 @@ public class NpcManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
-		}
+		LazyDefinitions.decodeAll(files.getFiles(), loader::load, npcs::put);
 	}
 
+	/**
+	 * Index the npcs without decoding them. Npcs are decoded when first
+	 * requested, and the most recently used {@code cacheSize} are kept.
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.NPC.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		lazyNpcs = new LazyDefinitions<>(store.getStorage(), archive, loader::load, cacheSize);
+	}
+
+	/**
+	 * Get every npc. When loaded lazily, this decodes every npc without
+	 * caching them.
+	 */
 	public Collection<NpcDefinition> getNpcs()
 	{
+		if (lazyNpcs != null)
+		{
+			return lazyNpcs.getAll();
+		}
 		return Collections.unmodifiableCollection(npcs.values());
 	}
 
 	public NpcDefinition get(int npcId)
 	{
+		if (lazyNpcs != null)
+		{
+			return lazyNpcs.get(npcId);
+		}
 		return npcs.get(npcId);
 	}
 
+	@Override
+	public NpcDefinition provide(int npcId)
+	{
+		return get(npcId);
+	}
+
 	public void dump(File out) throws IOException
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : getNpcs())
+		{
+			NpcExporter exporter = new NpcExporter(def);
+
+			File targ = new File(out, def.id + ".json");
+			exporter.exportTo(targ);
+		}
+	}
+
+	/**
+	 * Dump only the given npcs, such as those changed in an update. Ids with no npc are skipped.
+	 */
+	public void dump(File out, Collection<Integer> ids) throws IOException
+	{
+		out.mkdirs();
+
+		for (int id : ids)
 		{
+			NpcDefinition def = get(id);
+			if (def == null)
+			{
+				continue;
+			}
+
 			NpcExporter exporter = new NpcExporter(def);
 
 			File targ = new File(out, def.id + ".json");
@@ -100,7 +156,7 @@ public class NpcManager
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : getNpcs())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -33,24 +33,28 @@ import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.definitions.providers.ObjectProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
-public class ObjectManager
+public class ObjectManager implements ObjectProvider
 {
 	private final Store store;
 	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private LazyDefinitions<ObjectDefinition> lazyObjects;
 
 	public ObjectManager(Store store)
 	{
 		this.store = store;
 	}
 
+	/**
+	 * Decode every object, in parallel
+	 */
 	public void load() throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
@@ -64,29 +68,81 @@ public class ObjectManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		LazyDefinitions.decodeAll(files.getFiles(), loader::load, objects::put);
 	}
 
+	/**
+	 * Index the objects without decoding them. Objects are decoded when first
+	 * requested, and the most recently used {@code cacheSize} are kept.
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		lazyObjects = new LazyDefinitions<>(store.getStorage(), archive, loader::load, cacheSize);
+	}
+
+	/**
+	 * Get every object. When loaded lazily, this decodes every object without
+	 * caching them.
+	 */
 	public Collection<ObjectDefinition> getObjects()
 	{
+		if (lazyObjects != null)
+		{
+			return lazyObjects.getAll();
+		}
 		return Collections.unmodifiableCollection(objects.values());
 	}
 
 	public ObjectDefinition getObject(int id)
 	{
+		if (lazyObjects != null)
+		{
+			return lazyObjects.get(id);
+		}
 		return objects.get(id);
 	}
 
+	@Override
+	public ObjectDefinition provide(int id)
+	{
+		return getObject(id);
+	}
+
 	public void dump(File out) throws IOException
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : getObjects())
+		{
+			ObjectExporter exporter = new ObjectExporter(def);
+
+			File targ = new File(out, def.getId() + ".json");
+			exporter.exportTo(targ);
+		}
+	}
+
+	/**
+	 * Dump only the given objects, such as those changed in an update. Ids with no object are skipped.
+	 */
+	public void dump(File out, Collection<Integer> ids) throws IOException
+	{
+		out.mkdirs();
+
+		for (int id : ids)
 		{
+			ObjectDefinition def = getObject(id);
+			if (def == null)
+			{
+				continue;
+			}
+
 			ObjectExporter exporter = new ObjectExporter(def);
 
 			File targ = new File(out, def.getId() + ".json");
@@ -100,7 +156,7 @@ public class ObjectManager
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : getObjects())
 			{
 				if ("null".equals(def.getName()))
 				{
@@ -61,19 +61,42 @@ public class SpriteManager implements SpriteProvider
 
 		for (Archive a : index.getArchives())
 		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
+			load(storage, a);
+		}
+	}
 
-			SpriteLoader loader = new SpriteLoader();
-			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
+	/**
+	 * Load only the given sprites, such as those changed in an update. Ids with no sprite are skipped.
+	 */
+	public void load(Collection<Integer> spriteIds) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.SPRITES);
 
-			for (SpriteDefinition sprite : defs)
+		for (int spriteId : spriteIds)
+		{
+			Archive a = index.getArchive(spriteId);
+			if (a != null)
 			{
-				sprites.put(sprite.getId(), sprite);
-				spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
+				load(storage, a);
 			}
 		}
 	}
 
+	private void load(Storage storage, Archive a) throws IOException
+	{
+		byte[] contents = a.decompress(storage.loadArchive(a));
+
+		SpriteLoader loader = new SpriteLoader();
+		SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
+
+		for (SpriteDefinition sprite : defs)
+		{
+			sprites.put(sprite.getId(), sprite);
+			spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
+		}
+	}
+
 	public Collection<SpriteDefinition> getSprites()
 	{
 		return Collections.unmodifiableCollection(sprites.values());
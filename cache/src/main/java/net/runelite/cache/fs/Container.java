@@ -27,6 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
@@ -37,6 +39,8 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[4096]);
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,7 +96,17 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		return decompress(ByteBuffer.wrap(b), keys);
+	}
+
+	/**
+	 * Decompress a container from the remaining bytes of the given buffer,
+	 * which may be a read-only slice of a mapped cache file. The buffer's
+	 * position is not modified.
+	 */
+	public static Container decompress(ByteBuffer b, int[] keys) throws IOException
+	{
+		InputStream stream = new InputStream(b.slice());
 
 		int compression = stream.readUnsignedByte();
 		int compressedLength = stream.readInt();
@@ -102,74 +116,42 @@ public class Container
 		}
 
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		crc32.update(b.duplicate().limit(b.position() + 5)); // compression + length
 
-		byte[] data;
-		int revision = -1;
-		switch (compression)
+		if (compression != CompressionType.NONE && compression != CompressionType.BZ2 && compression != CompressionType.GZ)
 		{
-			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
+			throw new RuntimeException("Unknown decompression type");
+		}
 
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		int encryptedLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		byte[] scratch = scratch(encryptedLength);
+		stream.readBytes(scratch, 0, encryptedLength);
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		crc32.update(scratch, 0, encryptedLength);
+		if (keys != null)
+		{
+			new Xtea(keys).decrypt(scratch, 0, encryptedLength);
+		}
 
-				data = decryptedData;
+		int revision = -1;
+		if (stream.remaining() >= 2)
+		{
+			revision = stream.readUnsignedShort();
+			assert revision != -1;
+		}
 
+		byte[] data;
+		switch (compression)
+		{
+			case CompressionType.NONE:
+				data = Arrays.copyOf(scratch, compressedLength);
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				data = BZip2.decompress(scratch, 4, compressedLength, Ints.fromByteArray(scratch));
 				break;
-			}
 			case CompressionType.GZ:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				data = GZip.decompress(scratch, 4, compressedLength, Ints.fromByteArray(scratch));
 				break;
-			}
 			default:
 				throw new RuntimeException("Unknown decompression type");
 		}
@@ -180,15 +162,19 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	/**
+	 * Get this thread's scratch buffer for reading encrypted container
+	 * data, growing it to at least the given length
+	 */
+	private static byte[] scratch(int length)
 	{
-		if (keys == null)
+		byte[] scratch = SCRATCH.get();
+		if (scratch.length < length)
 		{
-			return data;
+			scratch = new byte[Integer.highestOneBit(length - 1) << 1];
+			SCRATCH.set(scratch);
 		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		return scratch;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -24,18 +24,33 @@
  */
 package net.runelite.cache.fs;
 
+import com.google.common.base.Throwables;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 
 @EqualsAndHashCode(of = "indexes")
 public final class Store implements Closeable
 {
+	private static final int MAX_DECODES_IN_FLIGHT = 64;
+
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
 
@@ -95,6 +110,121 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Decode every archive of an index on the common fork-join pool.
+	 *
+	 * @see #decodeArchives(Collection, Executor, Function, ArchiveConsumer)
+	 */
+	public void decodeArchives(Index index, ArchiveConsumer consumer) throws IOException
+	{
+		decodeArchives(index.getArchives(), ForkJoinPool.commonPool(), archive -> null, consumer);
+	}
+
+	/**
+	 * Load and decode archives concurrently on the given executor. Results are
+	 * passed to the consumer on the calling thread in the order they complete,
+	 * and only a bounded number of archives are decoded ahead of the
+	 * consumer. Archives with no data in the storage are skipped. If an
+	 * archive fails, the archives not yet started are skipped, and those
+	 * already running are waited for before the exception is thrown.
+	 *
+	 * @param archives archives to decode
+	 * @param executor executor to load and decode on
+	 * @param keys xtea keys for each archive, or null if it is not encrypted
+	 * @param consumer consumer of the decoded archives
+	 * @throws IOException if an archive can't be loaded or decoded, or the consumer throws
+	 */
+	public void decodeArchives(Collection<Archive> archives, Executor executor, Function<Archive, int[]> keys, ArchiveConsumer consumer) throws IOException
+	{
+		CompletionService<DecodedArchive> completionService = new ExecutorCompletionService<>(executor);
+		Iterator<Archive> it = archives.iterator();
+		AtomicBoolean aborted = new AtomicBoolean();
+		int inFlight = 0;
+		boolean completed = false;
+
+		try
+		{
+			for (;;)
+			{
+				for (; inFlight < MAX_DECODES_IN_FLIGHT && it.hasNext(); ++inFlight)
+				{
+					Archive archive = it.next();
+					completionService.submit(() ->
+					{
+						if (aborted.get())
+						{
+							return null;
+						}
+
+						byte[] data = storage.loadArchive(archive);
+						return new DecodedArchive(archive, data != null ? archive.getFiles(data, keys.apply(archive)) : null);
+					});
+				}
+
+				if (inFlight == 0)
+				{
+					break;
+				}
+
+				Future<DecodedArchive> future = completionService.take();
+				--inFlight;
+
+				DecodedArchive decoded = future.get();
+				if (decoded.files != null)
+				{
+					consumer.accept(decoded.archive, decoded.files);
+				}
+			}
+			completed = true;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			// fork-join pools wrap checked exceptions thrown by the task in runtime exceptions
+			for (Throwable cause : Throwables.getCausalChain(ex.getCause()))
+			{
+				Throwables.throwIfInstanceOf(cause, IOException.class);
+			}
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			if (!completed)
+			{
+				// don't return while other archives are still being decoded
+				aborted.set(true);
+				awaitDecodes(completionService, inFlight);
+			}
+		}
+	}
+
+	private static void awaitDecodes(CompletionService<DecodedArchive> completionService, int inFlight)
+	{
+		try
+		{
+			for (; inFlight > 0; --inFlight)
+			{
+				completionService.take();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class DecodedArchive
+	{
+		private final Archive archive;
+		private final ArchiveFiles files;
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * A binary companion to {@link FlatStorage}. Each index is stored in its own
+ * file, which starts with a table of the index's archives giving the offset,
+ * length, and CRC of each archive's contents. Only the table is read when the
+ * store is loaded; contents are read from a read-only mapping of the file on
+ * {@link #load(int, int)}.
+ * <p>
+ * The two formats hold the same information, so a store can be converted
+ * either way by loading it with one storage and saving it with the other.
+ */
+public class BinaryFlatStorage implements Storage
+{
+	protected static final String EXTENSION = ".flatbin";
+
+	private static final int MAGIC = 0x524C4642; // RLFB
+	private static final int VERSION = 1;
+
+	private final File directory;
+	private final Map<Integer, IndexTable> tables = new HashMap<>();
+	// archives stored since the last save
+	private final Map<Long, byte[]> pending = new HashMap<>();
+
+	public BinaryFlatStorage(File directory)
+	{
+		this.directory = directory;
+	}
+
+	/**
+	 * The archive table of one index file. Archives are stored in index order,
+	 * and the table is sorted by archive id for lookup.
+	 */
+	private static class IndexTable
+	{
+		private final File file;
+		private final int[] ids;
+		private final long[] offsets;
+		private final int[] lengths;
+		private final int[] crcs;
+		private volatile ByteBuffer mapping;
+
+		private IndexTable(File file, int size)
+		{
+			this.file = file;
+			this.ids = new int[size];
+			this.offsets = new long[size];
+			this.lengths = new int[size];
+			this.crcs = new int[size];
+		}
+
+		private void sort()
+		{
+			int size = ids.length;
+			boolean sorted = true;
+			for (int i = 1; i < size && sorted; ++i)
+			{
+				sorted = ids[i - 1] < ids[i];
+			}
+
+			if (sorted)
+			{
+				return;
+			}
+
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; ++i)
+			{
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparingInt(i -> ids[i]));
+
+			int[] ids = this.ids.clone();
+			long[] offsets = this.offsets.clone();
+			int[] lengths = this.lengths.clone();
+			int[] crcs = this.crcs.clone();
+			for (int i = 0; i < size; ++i)
+			{
+				int j = order[i];
+				this.ids[i] = ids[j];
+				this.offsets[i] = offsets[j];
+				this.lengths[i] = lengths[j];
+				this.crcs[i] = crcs[j];
+			}
+		}
+
+		private ByteBuffer map() throws IOException
+		{
+			ByteBuffer mapping = this.mapping;
+			if (mapping == null)
+			{
+				synchronized (this)
+				{
+					mapping = this.mapping;
+					if (mapping == null)
+					{
+						try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+						{
+							if (channel.size() > Integer.MAX_VALUE)
+							{
+								throw new IOException("flatcache " + file + " is too large to map");
+							}
+
+							mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+						}
+						this.mapping = mapping;
+					}
+				}
+			}
+			return mapping;
+		}
+
+		private byte[] read(int archive) throws IOException
+		{
+			int i = Arrays.binarySearch(ids, archive);
+			if (i < 0 || lengths[i] < 0)
+			{
+				return null;
+			}
+
+			ByteBuffer buffer = map().duplicate();
+			buffer.position((int) offsets[i]);
+			byte[] contents = new byte[lengths[i]];
+			buffer.get(contents);
+
+			CRC32 crc32 = new CRC32();
+			crc32.update(contents);
+			if ((int) crc32.getValue() != crcs[i])
+			{
+				throw new IOException("crc mismatch for archive " + archive + " in " + file);
+			}
+			return contents;
+		}
+	}
+
+	private File indexFile(int id)
+	{
+		return new File(directory, id + EXTENSION);
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | archive;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		String[] idxs = directory.list((dir, name) -> name.endsWith(EXTENSION));
+		if (idxs == null)
+		{
+			throw new IOException("unable to list " + directory);
+		}
+
+		for (String idx : idxs)
+		{
+			int id = Integer.parseInt(idx.substring(0, idx.length() - EXTENSION.length()));
+			store.addIndex(id);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		synchronized (tables)
+		{
+			tables.clear();
+		}
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index idx : store.getIndexes())
+		{
+			File file = indexFile(idx.getId());
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+			{
+				if (in.readInt() != MAGIC)
+				{
+					throw new IOException("not a binary flatcache: " + file);
+				}
+
+				int version = in.readUnsignedByte();
+				if (version != VERSION)
+				{
+					throw new IOException("unsupported binary flatcache version " + version + ": " + file);
+				}
+
+				idx.setProtocol(in.readInt());
+				idx.setRevision(in.readInt());
+				idx.setCompression(in.readInt());
+				idx.setCrc(in.readInt());
+				idx.setNamed(in.readBoolean());
+
+				int count = in.readInt();
+				IndexTable table = new IndexTable(file, count);
+				for (int i = 0; i < count; ++i)
+				{
+					Archive archive = idx.addArchive(in.readInt());
+					archive.setNameHash(in.readInt());
+					archive.setRevision(in.readInt());
+					archive.setCrc(in.readInt());
+					archive.setCompression(in.readInt());
+
+					FileData[] fileData = new FileData[in.readInt()];
+					for (int j = 0; j < fileData.length; ++j)
+					{
+						FileData fd = new FileData();
+						fd.setId(in.readInt());
+						fd.setNameHash(in.readInt());
+						fileData[j] = fd;
+					}
+					archive.setFileData(fileData);
+
+					table.ids[i] = archive.getArchiveId();
+					table.offsets[i] = in.readLong();
+					table.lengths[i] = in.readInt();
+					table.crcs[i] = in.readInt();
+				}
+
+				table.sort();
+
+				synchronized (tables)
+				{
+					tables.put(idx.getId(), table);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
+		for (Index idx : store.getIndexes())
+		{
+			List<Archive> archives = idx.getArchives();
+
+			// contents may be read from this storage, so write a new file and swap it in afterwards
+			File file = indexFile(idx.getId());
+			File tmp = new File(directory, idx.getId() + EXTENSION + ".tmp");
+			IndexTable table = new IndexTable(file, archives.size());
+			try (FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+			{
+				// the table is fixed size, so contents start after it
+				long offset = tableSize(archives);
+				channel.position(offset);
+
+				for (int i = 0; i < archives.size(); ++i)
+				{
+					Archive archive = archives.get(i);
+					byte[] contents = store.getStorage().loadArchive(archive);
+
+					table.ids[i] = archive.getArchiveId();
+					table.offsets[i] = offset;
+					if (contents == null)
+					{
+						table.lengths[i] = -1;
+						continue;
+					}
+
+					CRC32 crc32 = new CRC32();
+					crc32.update(contents);
+					table.lengths[i] = contents.length;
+					table.crcs[i] = (int) crc32.getValue();
+
+					ByteBuffer buffer = ByteBuffer.wrap(contents);
+					while (buffer.hasRemaining())
+					{
+						channel.write(buffer);
+					}
+					offset += contents.length;
+				}
+
+				ByteBuffer header = ByteBuffer.wrap(writeTable(idx, archives, table));
+				assert header.remaining() == tableSize(archives);
+				for (long position = 0; header.hasRemaining(); )
+				{
+					position += channel.write(header, position);
+				}
+			}
+			table.sort();
+
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			synchronized (tables)
+			{
+				tables.put(idx.getId(), table);
+				pending.keySet().removeIf(k -> (int) (k >>> 32) == idx.getId());
+			}
+		}
+	}
+
+	private static long tableSize(List<Archive> archives)
+	{
+		// magic, version, protocol, revision, compression, crc, named, count
+		long size = 4 + 1 + 4 * 4 + 1 + 4;
+		for (Archive archive : archives)
+		{
+			// id, namehash, revision, crc, compression, file count, files, offset, length, crc
+			FileData[] fileData = archive.getFileData();
+			size += 6 * 4 + (fileData != null ? fileData.length * 8 : 0) + 8 + 4 + 4;
+		}
+		return size;
+	}
+
+	private static byte[] writeTable(Index idx, List<Archive> archives, IndexTable table) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeInt(idx.getProtocol());
+		out.writeInt(idx.getRevision());
+		out.writeInt(idx.getCompression());
+		out.writeInt(idx.getCrc());
+		out.writeBoolean(idx.isNamed());
+
+		out.writeInt(archives.size());
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			Archive archive = archives.get(i);
+			out.writeInt(archive.getArchiveId());
+			out.writeInt(archive.getNameHash());
+			out.writeInt(archive.getRevision());
+			out.writeInt(archive.getCrc());
+			out.writeInt(archive.getCompression());
+
+			FileData[] fileData = archive.getFileData();
+			if (fileData == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(fileData.length);
+				for (FileData fd : fileData)
+				{
+					out.writeInt(fd.getId());
+					out.writeInt(fd.getNameHash());
+				}
+			}
+
+			out.writeLong(table.offsets[i]);
+			out.writeInt(table.lengths[i]);
+			out.writeInt(table.crcs[i]);
+		}
+		return bout.toByteArray();
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		IndexTable table;
+		synchronized (tables)
+		{
+			byte[] contents = pending.get(key(index, archive));
+			if (contents != null)
+			{
+				return contents;
+			}
+
+			table = tables.get(index);
+		}
+
+		return table != null ? table.read(archive) : null;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] bytes)
+	{
+		synchronized (tables)
+		{
+			pending.put(key(index, archive), bytes);
+		}
+	}
+}
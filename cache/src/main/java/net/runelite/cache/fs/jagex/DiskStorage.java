@@ -135,6 +135,11 @@ public class DiskStorage implements Storage
 		}
 
 		Container res = Container.decompress(indexData, null);
+		loadIndex(index, res);
+	}
+
+	static void loadIndex(Index index, Container res) throws IOException
+	{
 		byte[] data = res.data;
 
 		IndexData id = new IndexData();
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only {@link Storage} over a Jagex disk cache which maps the data and
+ * index files into memory. Reads use absolute offsets into the mappings and
+ * take no locks, so archives may be loaded concurrently from any number of
+ * threads once {@link #init(Store)} has returned.
+ */
+public class MappedDiskStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDiskStorage.class);
+
+	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
+	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+
+	private static final int SECTOR_SIZE = 520;
+	private static final int INDEX_ENTRY_LEN = 6;
+	// sectors never straddle a region, so a sector chain can be read a sector at a time
+	private static final int SECTORS_PER_REGION = Integer.MAX_VALUE / SECTOR_SIZE;
+	private static final long REGION_SIZE = (long) SECTORS_PER_REGION * SECTOR_SIZE;
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	private final File folder;
+
+	private MappedByteBuffer[] data = new MappedByteBuffer[0];
+	private long sectorCount;
+	private ByteBuffer index255 = EMPTY;
+	private ByteBuffer[] indexes = new ByteBuffer[0];
+
+	public MappedDiskStorage(File folder)
+	{
+		this.folder = folder;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		File dat = new File(folder, MAIN_FILE_CACHE_DAT);
+		try (FileChannel channel = FileChannel.open(dat.toPath(), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			int regions = (int) ((size + REGION_SIZE - 1) / REGION_SIZE);
+			MappedByteBuffer[] data = new MappedByteBuffer[regions];
+			for (int i = 0; i < regions; ++i)
+			{
+				long start = i * REGION_SIZE;
+				data[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(REGION_SIZE, size - start));
+			}
+			this.data = data;
+			this.sectorCount = size / SECTOR_SIZE;
+		}
+
+		index255 = map(new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+
+		int indexCount = index255.capacity() / INDEX_ENTRY_LEN;
+		ByteBuffer[] indexes = new ByteBuffer[indexCount];
+		for (int i = 0; i < indexCount; ++i)
+		{
+			store.addIndex(i);
+			indexes[i] = map(new File(folder, MAIN_FILE_CACHE_IDX + i));
+		}
+		this.indexes = indexes;
+	}
+
+	private static ByteBuffer map(File file) throws IOException
+	{
+		if (!file.exists())
+		{
+			return EMPTY;
+		}
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		// mappings are released when they are garbage collected
+		data = new MappedByteBuffer[0];
+		sectorCount = 0;
+		index255 = EMPTY;
+		indexes = new ByteBuffer[0];
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			ByteBuffer indexData = read(255, index.getId());
+			if (indexData == null)
+			{
+				continue;
+			}
+
+			logger.trace("Loading index {}", index.getId());
+
+			Container res = Container.decompress(indexData, null);
+			DiskStorage.loadIndex(index, res);
+		}
+	}
+
+	@Override
+	public void save(Store store)
+	{
+		throw new UnsupportedOperationException("mapped storage is read-only");
+	}
+
+	@Override
+	public byte[] load(int index, int archive)
+	{
+		ByteBuffer buffer = read(index, archive);
+		if (buffer == null)
+		{
+			return null;
+		}
+
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length)
+		{
+			return buffer.array();
+		}
+
+		byte[] b = new byte[buffer.remaining()];
+		buffer.get(b);
+		return b;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] data)
+	{
+		throw new UnsupportedOperationException("mapped storage is read-only");
+	}
+
+	/**
+	 * Read the compressed container for an archive. An archive which fits in
+	 * a single sector is returned as a read-only slice of the mapped data file,
+	 * otherwise the sector chain is gathered into a new heap buffer.
+	 *
+	 * @param indexId index the archive is in, or 255 for an index's own data
+	 * @param archiveId archive id
+	 * @return the container, or null if the archive does not exist or is corrupt
+	 */
+	public ByteBuffer read(int indexId, int archiveId)
+	{
+		ByteBuffer idx;
+		if (indexId == 255)
+		{
+			idx = index255;
+		}
+		else if (indexId >= 0 && indexId < indexes.length)
+		{
+			idx = indexes[indexId];
+		}
+		else
+		{
+			logger.debug("no such index {}", indexId);
+			return null;
+		}
+
+		int pos = archiveId * INDEX_ENTRY_LEN;
+		if (archiveId < 0 || pos + INDEX_ENTRY_LEN > idx.capacity())
+		{
+			logger.debug("short read for id {} on index {}", archiveId, indexId);
+			return null;
+		}
+
+		int size = read24(idx, pos);
+		int sector = read24(idx, pos + 3);
+		if (size <= 0 || sector <= 0)
+		{
+			logger.debug("invalid length or sector {}/{}", size, sector);
+			return null;
+		}
+
+		return read(indexId, archiveId, sector, size);
+	}
+
+	private ByteBuffer read(int indexId, int archiveId, int sector, int size)
+	{
+		if (sectorCount < sector)
+		{
+			logger.warn("bad read, dat sectors {}, requested sector {}", sectorCount, sector);
+			return null;
+		}
+
+		final boolean large = archiveId > 0xFFFF;
+		final int headerSize = large ? 10 : 8;
+		final int blockSize = SECTOR_SIZE - headerSize;
+
+		ByteBuffer buffer = null;
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			MappedByteBuffer region = data[sector / SECTORS_PER_REGION];
+			int off = (sector % SECTORS_PER_REGION) * SECTOR_SIZE;
+
+			int dataBlockSize = Math.min(size - readBytesCount, blockSize);
+			if (off + headerSize + dataBlockSize > region.capacity())
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			int currentArchive;
+			int currentPart;
+			int currentIndex;
+			if (large)
+			{
+				currentArchive = region.getInt(off);
+				currentPart = region.getShort(off + 4) & 0xFFFF;
+				nextSector = read24(region, off + 6);
+				currentIndex = region.get(off + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = region.getShort(off) & 0xFFFF;
+				currentPart = region.getShort(off + 2) & 0xFFFF;
+				nextSector = read24(region, off + 4);
+				currentIndex = region.get(off + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (sectorCount < nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			ByteBuffer slice = region.duplicate();
+			slice.position(off + headerSize).limit(off + headerSize + dataBlockSize);
+
+			if (part == 0 && dataBlockSize == size)
+			{
+				return slice.slice().asReadOnlyBuffer();
+			}
+
+			if (buffer == null)
+			{
+				buffer = ByteBuffer.allocate(size);
+			}
+			buffer.put(slice);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+
+	private static int read24(ByteBuffer buffer, int off)
+	{
+		return ((buffer.get(off) & 0xFF) << 16)
+			| ((buffer.get(off + 1) & 0xFF) << 8)
+			| (buffer.get(off + 2) & 0xFF);
+	}
+}
@@ -46,6 +46,11 @@ public class InputStream extends java.io.InputStream
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	public InputStream(ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+	}
+
 	public byte[] getArray()
 	{
 		assert buffer.hasArray();
@@ -27,9 +27,11 @@ package net.runelite.cache.util;
 import com.sun.jna.Memory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -42,6 +44,9 @@ public class BZip2
 {
 	private static final boolean USE_NATIVE_BZIP2 = "true".equalsIgnoreCase(System.getProperty("runelite.useNativeBzip"));
 
+	// the decompressed length comes from untrusted data, so don't allocate more than any cache file could need
+	private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
 	private static final byte[] BZIP_HEADER = new byte[]
 	{
 		'B', 'Z', // magic
@@ -143,4 +148,29 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a headerless bzip2 stream whose decompressed length is known
+	 * directly into the result, without copying the input
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
+		{
+			throw new IOException("Invalid bzip2 decompressed length " + decompressedLength);
+		}
+
+		byte[] out = new byte[decompressedLength];
+		InputStream in = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(bytes, off, len));
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			int n = is.readNBytes(out, 0, decompressedLength);
+			if (n != decompressedLength)
+			{
+				throw new EOFException("bzip2 stream is " + n + " bytes, expected " + decompressedLength);
+			}
+		}
+
+		return out;
+	}
 }
@@ -27,11 +27,17 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +46,20 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+	private static final int TRAILER_SIZE = 8;
+
+	// the decompressed length comes from untrusted data, so don't allocate more than any cache file could need,
+	// or more than deflate can expand the input to
+	private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+	private static final int MAX_DEFLATE_RATIO = 1032;
+
+	// inflaters hold native memory, so reuse one per thread rather than one per stream
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		InputStream is = new ByteArrayInputStream(bytes);
@@ -64,4 +84,134 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a gzip stream whose decompressed length is known, inflating
+	 * directly into the result with this thread's {@link Inflater}
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH || decompressedLength > (long) len * MAX_DEFLATE_RATIO)
+		{
+			throw new IOException("Invalid gzip decompressed length " + decompressedLength);
+		}
+
+		int end = off + len;
+		int pos = skipHeader(bytes, off, end);
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(bytes, pos, end - pos);
+
+		byte[] out = new byte[decompressedLength];
+		try
+		{
+			int n = 0;
+			while (!inflater.finished())
+			{
+				int i;
+				if (n < decompressedLength)
+				{
+					i = inflater.inflate(out, n, decompressedLength - n);
+				}
+				else if (inflater.inflate(new byte[1]) != 0)
+				{
+					throw new ZipException("gzip stream is longer than expected " + decompressedLength + " bytes");
+				}
+				else
+				{
+					// the output is full, but the end of the stream still had to be read
+					i = 0;
+				}
+
+				if (i == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("unexpected end of gzip stream");
+				}
+				n += i;
+			}
+
+			if (n != decompressedLength)
+			{
+				throw new EOFException("gzip stream is " + n + " bytes, expected " + decompressedLength);
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+
+		checkTrailer(bytes, end - inflater.getRemaining(), end, out);
+		return out;
+	}
+
+	private static void checkTrailer(byte[] bytes, int pos, int end, byte[] data) throws IOException
+	{
+		if (end - pos < TRAILER_SIZE)
+		{
+			throw new EOFException("unexpected end of gzip trailer");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		if (readIntLE(bytes, pos) != (int) crc.getValue() || readIntLE(bytes, pos + 4) != data.length)
+		{
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+	}
+
+	private static int readIntLE(byte[] bytes, int pos)
+	{
+		return (bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8 | (bytes[pos + 2] & 0xFF) << 16 | (bytes[pos + 3] & 0xFF) << 24;
+	}
+
+	private static int skipHeader(byte[] bytes, int pos, int end) throws IOException
+	{
+		if (end - pos < 10 || (bytes[pos] & 0xFF) != 0x1F || (bytes[pos + 1] & 0xFF) != 0x8B || bytes[pos + 2] != Deflater.DEFLATED)
+		{
+			throw new ZipException("Not in GZIP format");
+		}
+
+		int flags = bytes[pos + 3] & 0xFF;
+		pos += 10;
+
+		if ((flags & FEXTRA) != 0)
+		{
+			checkRemaining(pos + 2, end);
+			pos += 2 + ((bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(bytes, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+
+		checkRemaining(pos, end);
+		return pos;
+	}
+
+	private static int skipString(byte[] bytes, int pos, int end) throws IOException
+	{
+		while (pos < end && bytes[pos] != 0)
+		{
+			++pos;
+		}
+		checkRemaining(pos + 1, end);
+		return pos + 1;
+	}
+
+	private static void checkRemaining(int pos, int end) throws IOException
+	{
+		if (pos > end)
+		{
+			throw new EOFException("unexpected end of gzip header");
+		}
+	}
 }
@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.util;
 
+import com.google.common.primitives.Ints;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 
@@ -85,4 +86,35 @@ public class Xtea
 		out.writeBytes(in.getRemaining());
 		return out.flip();
 	}
+
+	/**
+	 * Decrypt {@code len} bytes of {@code data} from {@code off} in place.
+	 * Trailing bytes which do not fill a block are left as is.
+	 */
+	public void decrypt(byte[] data, int off, int len)
+	{
+		int numBlocks = len / 8;
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
+		{
+			int v0 = Ints.fromBytes(data[pos], data[pos + 1], data[pos + 2], data[pos + 3]);
+			int v1 = Ints.fromBytes(data[pos + 4], data[pos + 5], data[pos + 6], data[pos + 7]);
+			int sum = GOLDEN_RATIO * ROUNDS;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+				sum -= GOLDEN_RATIO;
+				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			}
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
+		}
+	}
+
+	private static void writeInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
+	}
 }
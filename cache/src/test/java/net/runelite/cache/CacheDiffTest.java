@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static void writeItems(Store store, Map<Integer, String> names) throws IOException
+	{
+		Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+		Archive archive = index.addArchive(ConfigType.ITEM.getId());
+		archive.setCompression(CompressionType.GZ);
+
+		ArchiveFiles files = new ArchiveFiles();
+		for (Map.Entry<Integer, String> entry : names.entrySet())
+		{
+			OutputStream out = new OutputStream();
+			out.writeByte(2);
+			out.writeString(entry.getValue());
+			out.writeByte(0);
+
+			FSFile file = new FSFile(entry.getKey());
+			file.setContents(out.flip());
+			files.addFile(file);
+		}
+
+		archive.setFileData(files.getFiles().stream()
+			.map(f ->
+			{
+				FileData fd = new FileData();
+				fd.setId(f.getFileId());
+				return fd;
+			})
+			.toArray(FileData[]::new));
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static void addSprite(Index index, int id, int crc)
+	{
+		index.addArchive(id).setCrc(crc);
+	}
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		Map<Integer, String> oldNames = new TreeMap<>();
+		for (int id = 0; id < 10; ++id)
+		{
+			oldNames.put(id, "item " + id);
+		}
+
+		Map<Integer, String> newNames = new TreeMap<>(oldNames);
+		newNames.put(3, "changed");
+		newNames.remove(9);
+		newNames.put(10, "item 10");
+
+		try (Store oldStore = new Store(folder.newFolder());
+			Store newStore = new Store(folder.newFolder()))
+		{
+			writeItems(oldStore, oldNames);
+			writeItems(newStore, newNames);
+
+			Index oldSprites = oldStore.addIndex(IndexType.SPRITES.getNumber());
+			addSprite(oldSprites, 1, 1);
+			addSprite(oldSprites, 2, 2);
+			addSprite(oldSprites, 4, 4);
+
+			Index newSprites = newStore.addIndex(IndexType.SPRITES.getNumber());
+			addSprite(newSprites, 1, 1);
+			addSprite(newSprites, 2, 5);
+			addSprite(newSprites, 3, 3);
+
+			CacheDiff diff = new CacheDiff(oldStore, newStore);
+
+			CacheDiff.Changes items = diff.diffConfig(ConfigType.ITEM);
+			assertEquals(ImmutableSet.of(10), items.getAdded());
+			assertEquals(ImmutableSet.of(9), items.getRemoved());
+			assertEquals(ImmutableSet.of(3), items.getModified());
+			assertEquals(ImmutableSet.of(3, 10), items.getChanged());
+
+			// neither cache has npcs
+			assertTrue(diff.diffConfig(ConfigType.NPC).isEmpty());
+
+			CacheDiff.Changes sprites = diff.diffArchives(IndexType.SPRITES);
+			assertEquals(ImmutableSet.of(3), sprites.getAdded());
+			assertEquals(ImmutableSet.of(4), sprites.getRemoved());
+			assertEquals(ImmutableSet.of(2), sprites.getModified());
+
+			CacheDiff same = new CacheDiff(newStore, newStore);
+			assertTrue(same.diffConfig(ConfigType.ITEM).isEmpty());
+			assertTrue(same.diffArchives(IndexType.SPRITES).isEmpty());
+		}
+	}
+}
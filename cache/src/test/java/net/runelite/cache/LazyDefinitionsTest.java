@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LazyDefinitionsTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(LazyDefinitionsTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	/**
+	 * Write a store with an item archive of {@code count} named items, skipping every 7th id. Item 1 is
+	 * the note of item 0, using item 2 as the note template.
+	 */
+	private static File writeItems(File root, int count) throws IOException
+	{
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+			Archive archive = index.addArchive(ConfigType.ITEM.getId());
+			archive.setCompression(CompressionType.GZ);
+
+			ArchiveFiles files = new ArchiveFiles();
+			for (int id = 0; id < count; ++id)
+			{
+				if (id % 7 == 6)
+				{
+					continue;
+				}
+
+				OutputStream out = new OutputStream();
+				out.writeByte(2);
+				out.writeString("item " + id);
+				if (id == 1)
+				{
+					out.writeByte(97);
+					out.writeShort(0);
+					out.writeByte(98);
+					out.writeShort(2);
+				}
+				out.writeByte(0);
+
+				FSFile file = new FSFile(id);
+				file.setContents(out.flip());
+				files.addFile(file);
+			}
+
+			archive.setFileData(files.getFiles().stream()
+				.map(f ->
+				{
+					FileData fd = new FileData();
+					fd.setId(f.getFileId());
+					return fd;
+				})
+				.toArray(FileData[]::new));
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress(files.saveContents(), null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+			store.save();
+		}
+		return root;
+	}
+
+	@Test
+	public void testLazyItems() throws IOException
+	{
+		File root = writeItems(folder.newFolder(), 100);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			ItemManager eager = new ItemManager(store);
+			eager.load();
+
+			ItemManager lazy = new ItemManager(store);
+			lazy.loadLazy(10);
+
+			for (int id = -1; id <= 100; ++id)
+			{
+				ItemDefinition expected = eager.getItem(id);
+				ItemDefinition actual = lazy.provide(id);
+				if (expected == null)
+				{
+					assertNull(actual);
+				}
+				else
+				{
+					assertEquals(expected.name, actual.name);
+					assertEquals(id, actual.id);
+				}
+			}
+
+			// the most recently used items are kept, older ones are decoded again
+			ItemDefinition item = lazy.getItem(0);
+			assertSame(item, lazy.getItem(0));
+			for (int id = 1; id <= 20; ++id)
+			{
+				lazy.getItem(id);
+			}
+			assertNotSame(item, lazy.getItem(0));
+
+			Collection<ItemDefinition> all = lazy.getItems();
+			assertEquals(eager.getItems().size(), all.size());
+		}
+	}
+
+	@Test
+	public void testLinkLazyItems() throws IOException
+	{
+		File root = writeItems(folder.newFolder(), 10);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			ItemManager lazy = new ItemManager(store);
+			lazy.loadLazy(10);
+
+			// decoded and cached before linking
+			assertEquals("item 1", lazy.getItem(1).name);
+
+			lazy.link();
+			assertEquals("item 0", lazy.getItem(1).name);
+		}
+	}
+
+	@Test
+	public void testMultipleChunks() throws IOException
+	{
+		// two files split over two chunks: "ab" + "c" and "xy" + "z"
+		OutputStream out = new OutputStream();
+		out.writeBytes("abxycz".getBytes(StandardCharsets.UTF_8));
+		out.writeInt(2);
+		out.writeInt(0);
+		out.writeInt(1);
+		out.writeInt(0);
+		out.writeByte(2);
+
+		File root = folder.newFolder();
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			FileData[] fileData = new FileData[]{new FileData(), new FileData()};
+			fileData[1].setId(3);
+			archive.setFileData(fileData);
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress(out.flip(), null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+
+			LazyDefinitions<String> defs = new LazyDefinitions<>(store.getStorage(), archive,
+				(id, b) -> new String(b, StandardCharsets.UTF_8), 1);
+			assertEquals("abc", defs.get(0));
+			assertEquals("xyz", defs.get(3));
+			assertNull(defs.get(1));
+			assertEquals(Arrays.asList("abc", "xyz"), defs.getAll());
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLoad() throws IOException
+	{
+		File root = writeItems(folder.newFolder(), 30_000);
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			for (int i = 0; i < 5; ++i)
+			{
+				long heap = usedHeap();
+				long start = System.nanoTime();
+				ItemManager eager = new ItemManager(store);
+				eager.load();
+				logger.info("eager: loaded in {}ms, {}KB heap", (System.nanoTime() - start) / 1_000_000, (usedHeap() - heap) / 1024);
+
+				heap = usedHeap();
+				start = System.nanoTime();
+				ItemManager lazy = new ItemManager(store);
+				lazy.loadLazy(1024);
+				long time = System.nanoTime() - start;
+
+				Set<String> names = new HashSet<>();
+				for (int id = 0; id < 30_000; id += 10)
+				{
+					ItemDefinition def = lazy.getItem(id);
+					if (def != null)
+					{
+						names.add(def.name);
+					}
+				}
+				logger.info("lazy: loaded in {}ms, {}KB heap after reading {} items", time / 1_000_000, (usedHeap() - heap) / 1024, names.size());
+
+				// keep both managers reachable until measured
+				assertEquals(eager.getItem(0).name, lazy.getItem(0).name);
+			}
+		}
+	}
+
+	private static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; ++i)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
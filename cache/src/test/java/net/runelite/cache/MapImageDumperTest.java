@@ -27,11 +27,14 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -104,4 +107,64 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpTiles() throws Exception
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			RegionLoader regionLoader = new RegionLoader(store, keyManager);
+			regionLoader.loadRegions();
+
+			MapImageDumper dumper = new MapImageDumper(store, regionLoader);
+			dumper.load();
+			dumper.setRenderLabels(false);
+
+			int z = 0;
+			long start = System.nanoTime();
+			int maxZoom = dumper.drawTiles(z, outDir, ForkJoinPool.commonPool());
+			logger.info("Drew tiles in {}ms", (System.nanoTime() - start) / 1_000_000L);
+
+			// each tile is the part of the whole map under its region, including what overhangs from its neighbors
+			BufferedImage map = dumper.drawMap(z);
+			int lowestRegionX = regionLoader.getLowestX().getRegionX();
+			int highestRegionY = regionLoader.getHighestY().getRegionY();
+			for (Region region : regionLoader.getRegions())
+			{
+				int x = region.getRegionX() - lowestRegionX;
+				int y = highestRegionY - region.getRegionY();
+				BufferedImage tile = ImageIO.read(new File(outDir, maxZoom + "/" + x + "/" + y + ".png"));
+				int size = tile.getWidth();
+				assertArrayEquals("tile " + x + "," + y,
+					map.getRGB(x * size, y * size, size, size, null, 0, size),
+					tile.getRGB(0, 0, size, size, null, 0, size));
+			}
+		}
+	}
+
+	@Test
+	public void testDownsample()
+	{
+		BufferedImage src = new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB);
+		src.setRGB(0, 0, 4, 2, new int[]{
+			0xFF000000, 0xFF040404, 0xFFFF0000, 0xFFFF0000,
+			0xFF080808, 0xFF0C0C0C, 0x00000000, 0x00000000,
+		}, 0, 4);
+
+		BufferedImage dst = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+		MapImageDumper.downsample(src, dst, 2, 3);
+
+		assertEquals(0xFF060606, dst.getRGB(2, 3));
+		assertEquals(0x7F7F0000, dst.getRGB(3, 3));
+		assertEquals(0, dst.getRGB(0, 0));
+	}
 }
@@ -25,9 +25,14 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +57,89 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompress() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int size : new int[]{1, 13, 1024, 100_000})
+			{
+				byte[] data = new byte[size];
+				random.nextBytes(data);
+
+				Container container = new Container(compression, 7);
+				container.compress(data, keys);
+
+				Container res = Container.decompress(container.data, keys);
+				assertArrayEquals(data, res.data);
+				assertEquals(container.crc, res.crc);
+				assertEquals(7, res.revision);
+
+				container = new Container(compression, -1);
+				container.compress(data, null);
+
+				// decompress from a slice, as a mapped storage would pass it
+				ByteBuffer buffer = ByteBuffer.allocate(container.data.length + 3);
+				buffer.position(3);
+				buffer.put(container.data);
+				buffer.position(3);
+				res = Container.decompress(buffer, null);
+				assertArrayEquals(data, res.data);
+				assertEquals(container.crc, res.crc);
+				assertEquals(-1, res.revision);
+				assertEquals(3, buffer.position());
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidDecompressedLength() throws IOException
+	{
+		for (int compression : new int[]{BZ2, GZ})
+		{
+			for (int length : new int[]{-1, Integer.MAX_VALUE})
+			{
+				Container container = new Container(compression, -1);
+				container.compress(new byte[100], null);
+
+				// the decompressed length follows the compression type and compressed length
+				ByteBuffer.wrap(container.data).putInt(5, length);
+				try
+				{
+					Container.decompress(container.data, null);
+					fail();
+				}
+				catch (IOException ex)
+				{
+					// expected
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCorruptGzipTrailer() throws IOException
+	{
+		Container container = new Container(GZ, -1);
+		container.compress(new byte[100], null);
+
+		// the gzip trailer is the crc32 and length of the decompressed data
+		container.data[container.data.length - 8] ^= 1;
+		try
+		{
+			Container.decompress(container.data, null);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+	}
+
 }
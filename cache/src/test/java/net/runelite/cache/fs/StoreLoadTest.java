@@ -27,14 +27,28 @@ package net.runelite.cache.fs;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.IndexType;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.util.XteaKeyManager;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class StoreLoadTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(StoreLoadTest.class);
+
+	private static final int MAX_REGIONS = 32768;
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -77,4 +91,54 @@ public class StoreLoadTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void benchmarkDecodeArchives() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Index configs = store.getIndex(IndexType.CONFIGS);
+			Index maps = store.getIndex(IndexType.MAPS);
+			XteaKeyManager keyManager = new XteaKeyManager();
+
+			// land archives can only be decoded with keys
+			Map<Archive, int[]> regions = new HashMap<>();
+			for (int i = 0; i < MAX_REGIONS; ++i)
+			{
+				int x = i >> 8;
+				int y = i & 0xFF;
+				Archive map = maps.findArchiveByName("m" + x + "_" + y);
+				Archive land = maps.findArchiveByName("l" + x + "_" + y);
+				int[] keys = keyManager.getKey(i);
+				if (map != null)
+				{
+					regions.put(map, null);
+				}
+				if (land != null && keys != null)
+				{
+					regions.put(land, keys);
+				}
+			}
+
+			for (int i = 0; i < 5; ++i)
+			{
+				for (Executor executor : new Executor[]{Runnable::run, ForkJoinPool.commonPool()})
+				{
+					String name = executor instanceof ForkJoinPool ? "parallel" : "single threaded";
+					AtomicInteger files = new AtomicInteger();
+
+					long start = System.nanoTime();
+					store.decodeArchives(configs.getArchives(), executor, archive -> null, (archive, archiveFiles) -> files.addAndGet(archiveFiles.getFiles().size()));
+					logger.info("{}: decoded index 2 ({} files) in {}ms", name, files.get(), (System.nanoTime() - start) / 1_000_000);
+
+					start = System.nanoTime();
+					store.decodeArchives(regions.keySet(), executor, regions::get, (archive, archiveFiles) -> files.addAndGet(archiveFiles.getFiles().size()));
+					logger.info("{}: decoded index 5 ({} archives) in {}ms", name, regions.size(), (System.nanoTime() - start) / 1_000_000);
+				}
+			}
+		}
+	}
 }
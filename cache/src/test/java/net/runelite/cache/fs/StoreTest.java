@@ -26,7 +26,14 @@ package net.runelite.cache.fs;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
@@ -151,4 +158,136 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testDecodeArchives() throws IOException, InterruptedException
+	{
+		Random random = new Random(44L);
+		File root = folder.newFolder();
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(0);
+			for (int a = 0; a < 200; ++a)
+			{
+				Archive archive = index.addArchive(a);
+				archive.setCompression(a % 3);
+
+				ArchiveFiles files = new ArchiveFiles();
+				FileData[] fileData = new FileData[1 + a % 4];
+				for (int i = 0; i < fileData.length; ++i)
+				{
+					FileData file = fileData[i] = new FileData();
+					file.setId(i);
+
+					FSFile fsFile = new FSFile(i);
+					byte[] contents = new byte[random.nextInt(2000)];
+					random.nextBytes(contents);
+					fsFile.setContents(contents);
+					files.addFile(fsFile);
+				}
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(files.saveContents(), a % 2 == 0 ? keys : null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+			store.save();
+		}
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			Function<Archive, int[]> keyFn = archive -> archive.getArchiveId() % 2 == 0 ? keys : null;
+
+			Map<Integer, ArchiveFiles> decoded = new HashMap<>();
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try
+			{
+				store.decodeArchives(index.getArchives(), executor, keyFn, (archive, files) ->
+					Assert.assertNull(decoded.put(archive.getArchiveId(), files)));
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+
+			Assert.assertEquals(200, decoded.size());
+			for (Archive archive : index.getArchives())
+			{
+				ArchiveFiles expected = archive.getFiles(store.getStorage().loadArchive(archive), keyFn.apply(archive));
+				ArchiveFiles actual = decoded.get(archive.getArchiveId());
+				Assert.assertEquals(expected.getFiles().size(), actual.getFiles().size());
+				for (FSFile file : expected.getFiles())
+				{
+					Assert.assertEquals(file, actual.findFile(file.getFileId()));
+				}
+			}
+
+			try
+			{
+				// decoding encrypted archives without keys fails
+				store.decodeArchives(index, (archive, files) ->
+				{
+				});
+				Assert.fail();
+			}
+			catch (IOException ex)
+			{
+				// expected
+			}
+
+			// when an archive fails, the archives not yet started are skipped, and the running ones are waited for
+			AtomicInteger started = new AtomicInteger();
+			AtomicInteger finished = new AtomicInteger();
+			executor = Executors.newFixedThreadPool(4);
+			try
+			{
+				store.decodeArchives(index.getArchives(), executor, archive ->
+				{
+					started.incrementAndGet();
+					try
+					{
+						if (archive.getArchiveId() == 10)
+						{
+							throw new IllegalStateException();
+						}
+						Thread.sleep(5);
+						return keyFn.apply(archive);
+					}
+					catch (InterruptedException ex)
+					{
+						throw new RuntimeException(ex);
+					}
+					finally
+					{
+						finished.incrementAndGet();
+					}
+				}, (archive, files) ->
+				{
+				});
+				Assert.fail();
+			}
+			catch (IllegalStateException ex)
+			{
+				Assert.assertEquals(started.get(), finished.get());
+				int startedAtFailure = started.get();
+				Assert.assertTrue(startedAtFailure < 200);
+
+				executor.shutdown();
+				Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+				Assert.assertEquals(startedAtFailure, started.get());
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+		}
+	}
 }
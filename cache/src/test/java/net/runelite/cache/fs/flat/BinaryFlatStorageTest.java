@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BinaryFlatStorageTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(BinaryFlatStorageTest.class);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Write a text flatcache with {@code indexes} indexes of {@code archives}
+	 * archives each, of random sizes up to {@code maxSize} bytes
+	 */
+	private static void writeFlatCache(File file, int indexes, int archives, int maxSize) throws IOException
+	{
+		Random random = new Random(42);
+		try (Store store = new Store(new FlatStorage(file)))
+		{
+			for (int i = 0; i < indexes; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(i);
+				index.setNamed(i % 2 == 0);
+
+				// add archives out of id order, which the text format preserves
+				for (int a = archives - 1; a >= 0; --a)
+				{
+					Archive archive = index.addArchive(a);
+					archive.setNameHash(random.nextInt());
+					archive.setRevision(a);
+
+					FileData[] fileData = new FileData[1 + random.nextInt(3)];
+					for (int f = 0; f < fileData.length; ++f)
+					{
+						fileData[f] = new FileData();
+						fileData[f].setId(f);
+						fileData[f].setNameHash(random.nextInt());
+					}
+					archive.setFileData(fileData);
+
+					if (a % 10 == 9)
+					{
+						// no contents
+						continue;
+					}
+
+					byte[] data = new byte[1 + random.nextInt(maxSize)];
+					random.nextBytes(data);
+					Container container = new Container(CompressionType.NONE, -1);
+					container.compress(data, null);
+					archive.setCrc(container.crc);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+			store.save();
+		}
+	}
+
+	private static void convert(Storage from, Storage to) throws IOException
+	{
+		try (Store src = new Store(from))
+		{
+			src.load();
+			to.save(src);
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		File text = folder.newFolder();
+		File binary = folder.newFolder();
+		File text2 = folder.newFolder();
+		writeFlatCache(text, 3, 50, 2000);
+
+		convert(new FlatStorage(text), new BinaryFlatStorage(binary));
+		convert(new BinaryFlatStorage(binary), new FlatStorage(text2));
+
+		for (int i = 0; i < 3; ++i)
+		{
+			String name = i + FlatStorage.EXTENSION;
+			assertArrayEquals(name, Files.readAllBytes(new File(text, name).toPath()), Files.readAllBytes(new File(text2, name).toPath()));
+		}
+
+		try (Store expected = new Store(new FlatStorage(text));
+			Store actual = new Store(new BinaryFlatStorage(binary)))
+		{
+			expected.load();
+			actual.load();
+			assertEquals(expected, actual);
+
+			for (Index index : expected.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					assertArrayEquals(expected.getStorage().loadArchive(archive), actual.getStorage().load(index.getId(), archive.getArchiveId()));
+				}
+			}
+			assertNull(actual.getStorage().load(0, 1000));
+			assertNull(actual.getStorage().load(1000, 0));
+		}
+	}
+
+	@Test
+	public void testStore() throws IOException
+	{
+		File text = folder.newFolder();
+		File binary = folder.newFolder();
+		writeFlatCache(text, 1, 5, 100);
+		convert(new FlatStorage(text), new BinaryFlatStorage(binary));
+
+		try (Store store = new Store(new BinaryFlatStorage(binary)))
+		{
+			store.load();
+			store.getStorage().store(0, 1, new byte[]{1, 2, 3});
+			assertArrayEquals(new byte[]{1, 2, 3}, store.getStorage().load(0, 1));
+
+			// saving rewrites the file that is being read from
+			store.save();
+			assertArrayEquals(new byte[]{1, 2, 3}, store.getStorage().load(0, 1));
+		}
+
+		try (Store store = new Store(new BinaryFlatStorage(binary)))
+		{
+			store.load();
+			assertArrayEquals(new byte[]{1, 2, 3}, store.getStorage().load(0, 1));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testCorrupt() throws IOException
+	{
+		File text = folder.newFolder();
+		File binary = folder.newFolder();
+		writeFlatCache(text, 1, 1, 100);
+		convert(new FlatStorage(text), new BinaryFlatStorage(binary));
+
+		File file = new File(binary, 0 + BinaryFlatStorage.EXTENSION);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.seek(raf.length() - 1);
+			int b = raf.read();
+			raf.seek(raf.length() - 1);
+			raf.write(b ^ 1);
+		}
+
+		try (Store store = new Store(new BinaryFlatStorage(binary)))
+		{
+			store.load();
+			store.getStorage().load(0, 0);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkOpen() throws IOException
+	{
+		File text = folder.newFolder();
+		File binary = folder.newFolder();
+		writeFlatCache(text, 16, 2000, 4000);
+		convert(new FlatStorage(text), new BinaryFlatStorage(binary));
+
+		for (int i = 0; i < 5; ++i)
+		{
+			open(new FlatStorage(text), "text");
+			open(new BinaryFlatStorage(binary), "binary");
+		}
+	}
+
+	private static void open(Storage storage, String name) throws IOException
+	{
+		long heap = usedHeap();
+		long start = System.nanoTime();
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			long time = System.nanoTime() - start;
+			logger.info("{}: opened in {}ms, {}KB heap", name, time / 1_000_000, (usedHeap() - heap) / 1024);
+
+			// read a single index
+			start = System.nanoTime();
+			for (Archive archive : store.findIndex(0).getArchives())
+			{
+				storage.loadArchive(archive);
+			}
+			logger.info("{}: read index 0 in {}ms", name, (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	private static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; ++i)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MappedDiskStorageTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(MappedDiskStorageTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	/**
+	 * Write a cache with {@code indexes} indexes of {@code archives} archives
+	 * each, of random sizes up to {@code maxSize} bytes
+	 */
+	private static void writeCache(File file, int indexes, int archives, int maxSize) throws IOException
+	{
+		Random random = new Random(42);
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			for (int i = 0; i < indexes; ++i)
+			{
+				Index index = store.addIndex(i);
+				// the last index uses archive ids which need the large sector header
+				boolean large = i == indexes - 1;
+				if (large)
+				{
+					index.setProtocol(7);
+				}
+
+				for (int a = 0; a < archives; ++a)
+				{
+					int archiveId = large ? 0x10000 + a : a;
+					writeArchive(store, index.addArchive(archiveId), random, 1 + random.nextInt(maxSize));
+				}
+			}
+			store.save();
+		}
+	}
+
+	private static void writeArchive(Store store, Archive archive, Random random, int size) throws IOException
+	{
+		byte[] data = new byte[size];
+		random.nextBytes(data);
+
+		FileData[] fileData = new FileData[]{new FileData()};
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(data, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	@Test
+	public void testLoad() throws IOException
+	{
+		File file = folder.newFolder();
+		writeCache(file, 3, 200, 2000);
+
+		try (Store disk = new Store(new DiskStorage(file));
+			Store mapped = new Store(new MappedDiskStorage(file)))
+		{
+			disk.load();
+			mapped.load();
+
+			assertEquals(disk.getIndexes(), mapped.getIndexes());
+
+			for (Index index : disk.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					byte[] expected = disk.getStorage().loadArchive(archive);
+					byte[] actual = mapped.getStorage().loadArchive(archive);
+					assertNotNull(expected);
+					assertArrayEquals(expected, actual);
+
+					ByteBuffer buffer = ((MappedDiskStorage) mapped.getStorage()).read(index.getId(), archive.getArchiveId());
+					Container container = Container.decompress(buffer, null);
+					assertEquals(archive.getCrc(), container.crc);
+					assertEquals(0, buffer.position());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSingleSectorSlice() throws IOException
+	{
+		File file = folder.newFolder();
+		writeCache(file, 2, 1, 1);
+
+		try (Store store = new Store(new MappedDiskStorage(file)))
+		{
+			store.load();
+
+			MappedDiskStorage storage = (MappedDiskStorage) store.getStorage();
+			ByteBuffer buffer = storage.read(0, 0);
+			assertTrue(buffer.isDirect());
+			assertTrue(buffer.isReadOnly());
+			assertFalse(buffer.hasArray());
+
+			assertNull(storage.read(0, 1));
+			assertNull(storage.read(5, 0));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFolder();
+		writeCache(file, 1, 1, 1);
+
+		try (Store store = new Store(new MappedDiskStorage(file)))
+		{
+			store.load();
+			store.getStorage().store(0, 1, new byte[1]);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLoad() throws IOException
+	{
+		File file = folder.newFolder();
+		writeCache(file, 16, 4000, 4000);
+
+		for (int i = 0; i < 5; ++i)
+		{
+			try (Store store = new Store(new DiskStorage(file)))
+			{
+				store.load();
+				logger.info("disk, single threaded: {}ms", readAll(store, false) / 1_000_000);
+				logger.info("disk, parallel: {}ms", readAll(store, true) / 1_000_000);
+			}
+
+			try (Store store = new Store(new MappedDiskStorage(file)))
+			{
+				store.load();
+				logger.info("mapped, single threaded: {}ms", readAll(store, false) / 1_000_000);
+				logger.info("mapped, parallel: {}ms", readAll(store, true) / 1_000_000);
+			}
+		}
+	}
+
+	private static long readAll(Store store, boolean parallel)
+	{
+		AtomicLong bytes = new AtomicLong();
+		long start = System.nanoTime();
+		for (Index index : store.getIndexes())
+		{
+			IntStream ids = index.getArchives().stream().mapToInt(Archive::getArchiveId);
+			(parallel ? ids.parallel() : ids).forEach(id ->
+			{
+				try
+				{
+					bytes.addAndGet(store.getStorage().load(index.getId(), id).length);
+				}
+				catch (IOException ex)
+				{
+					throw new RuntimeException(ex);
+				}
+			});
+		}
+		long time = System.nanoTime() - start;
+		assertTrue(bytes.get() > 0);
+		return time;
+	}
+}
@@ -107,6 +107,7 @@ public class RuneLite
 	public static final File SCREENSHOT_DIR = new File(RUNELITE_DIR, "screenshots");
 	public static final File LOGS_DIR = new File(RUNELITE_DIR, "logs");
 	public static final File DEFAULT_SESSION_FILE = new File(RUNELITE_DIR, "session");
+	private static final File STARTUP_TRACE_FILE = new File(LOGS_DIR, "startup-trace.json");
 
 	private static final int MAX_OKHTTP_CACHE_SIZE = 20 * 1024 * 1024; // 20mb
 	public static String USER_AGENT = "RuneLite/" + RuneLiteProperties.getVersion() + "-" + RuneLiteProperties.getCommit() + (RuneLiteProperties.isDirty() ? "+" : "");
@@ -178,6 +179,7 @@ public class RuneLite
 		parser.accepts("disable-telemetry", "Disable telemetry");
 		parser.accepts("profile", "Configuration profile to use").withRequiredArg();
 		parser.accepts("noupdate", "Skips the launcher update");
+		parser.accepts("trace-startup", "Record a trace of the startup to " + STARTUP_TRACE_FILE);
 
 		final ArgumentAcceptingOptionSpec<File> sessionfile = parser.accepts("sessionfile", "Use a specified session file")
 			.withRequiredArg()
@@ -209,6 +211,11 @@ public class RuneLite
 			System.exit(0);
 		}
 
+		if (options.has("trace-startup"))
+		{
+			StartupTrace.start();
+		}
+
 		if (options.has("debug"))
 		{
 			final Logger logger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
@@ -238,7 +245,10 @@ public class RuneLite
 			new Thread(() ->
 			{
 				clientLoader.get();
-				ClassPreloader.preload();
+				try (StartupTrace.Span span = StartupTrace.begin("Preload classes"))
+				{
+					ClassPreloader.preload();
+				}
 			}, "Preloader").start();
 
 			final boolean developerMode = options.has("developer-mode") && RuneLiteProperties.getLauncherVersion() == null;
@@ -268,18 +278,21 @@ public class RuneLite
 			log.info("Java VM arguments: {}", String.join(" ", runtime.getInputArguments()));
 
 			final long start = System.currentTimeMillis();
-			injector = Guice.createInjector(new RuneLiteModule(
-				okHttpClient,
-				clientLoader,
-				runtimeConfigLoader,
-				developerMode,
-				options.has("safe-mode"),
-				options.has("disable-telemetry"),
-				options.valueOf(sessionfile),
-				(String) options.valueOf("profile"),
-				options.has(insecureWriteCredentials),
-				options.has("noupdate")
-			));
+			try (StartupTrace.Span span = StartupTrace.begin("Create injector"))
+			{
+				injector = Guice.createInjector(new RuneLiteModule(
+					okHttpClient,
+					clientLoader,
+					runtimeConfigLoader,
+					developerMode,
+					options.has("safe-mode"),
+					options.has("disable-telemetry"),
+					options.valueOf(sessionfile),
+					(String) options.valueOf("profile"),
+					options.has(insecureWriteCredentials),
+					options.has("noupdate")
+				));
+			}
 
 			injector.getInstance(RuneLite.class).start();
 
@@ -298,6 +311,11 @@ public class RuneLite
 		finally
 		{
 			SplashScreen.stop();
+
+			if (StartupTrace.isRecording())
+			{
+				StartupTrace.stop(STARTUP_TRACE_FILE);
+			}
 		}
 	}
 
@@ -325,17 +343,23 @@ public class RuneLite
 			System.setProperty("jagex.disableBouncyCastle", "true");
 			System.setProperty("jagex.userhome", RUNELITE_DIR.getAbsolutePath());
 
-			applet.init();
-			applet.start();
+			try (StartupTrace.Span span = StartupTrace.begin("Start applet"))
+			{
+				applet.init();
+				applet.start();
+			}
 		}
 
 		SplashScreen.stage(.57, null, "Loading configuration");
 
-		// Load the session so that the session profiles can be loaded next
-		sessionManager.loadSession();
+		try (StartupTrace.Span span = StartupTrace.begin("Load configuration"))
+		{
+			// Load the session so that the session profiles can be loaded next
+			sessionManager.loadSession();
 
-		// Load user configuration
-		configManager.load();
+			// Load user configuration
+			configManager.load();
+		}
 
 		// Tell the plugin manager if client is outdated or not
 		pluginManager.setOutdated(isOutdated);
@@ -346,9 +370,12 @@ public class RuneLite
 
 		// Load the plugins, but does not start them yet.
 		// This will initialize configuration
-		pluginManager.loadCorePlugins();
-		pluginManager.loadSideLoadPlugins();
-		externalPluginManager.loadExternalPlugins();
+		try (StartupTrace.Span span = StartupTrace.begin("Load plugins"))
+		{
+			pluginManager.loadCorePlugins();
+			pluginManager.loadSideLoadPlugins();
+			externalPluginManager.loadExternalPlugins();
+		}
 
 		SplashScreen.stage(.70, null, "Finalizing configuration");
 
@@ -363,7 +390,10 @@ public class RuneLite
 		SplashScreen.stage(.75, null, "Starting core interface");
 
 		// Initialize UI
-		clientUI.init();
+		try (StartupTrace.Span span = StartupTrace.begin("Initialize interface"))
+		{
+			clientUI.init();
+		}
 
 		// Initialize Discord service
 		discordService.init();
@@ -385,7 +415,10 @@ public class RuneLite
 		}
 
 		// Start plugins
-		pluginManager.startPlugins();
+		try (StartupTrace.Span span = StartupTrace.begin("Start plugins"))
+		{
+			pluginManager.startPlugins();
+		}
 
 		SplashScreen.stop();
 
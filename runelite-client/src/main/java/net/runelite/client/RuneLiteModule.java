@@ -37,6 +37,7 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
@@ -56,6 +57,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.MonitoredExecutor;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.DeferredEventBus;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
@@ -126,6 +128,12 @@ public class RuneLiteModule extends AbstractModule
 		bindConstant().annotatedWith(Names.named("noupdate")).to(noupdate);
 		bind(File.class).annotatedWith(Names.named("runeLiteDir")).toInstance(RuneLite.RUNELITE_DIR);
 		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
+		// disk writes, e.g. config and screenshots
+		bindExecutor("ioExecutor", new MonitoredExecutor("io", 2, 1024));
+		// cpu bound work, such as solvers
+		bindExecutor("computeExecutor", new MonitoredExecutor("compute", Runtime.getRuntime().availableProcessors(), 1024));
+		// blocking web requests, which spend most of their time waiting
+		bindExecutor("httpExecutor", new MonitoredExecutor("http", 16, 1024));
 		bind(OkHttpClient.class).toInstance(okHttpClient);
 		bind(RuntimeConfigLoader.class).toInstance(configLoader);
 		bind(RuntimeConfigRefresher.class).asEagerSingleton();
@@ -148,6 +156,13 @@ public class RuneLiteModule extends AbstractModule
 			.to(DeferredEventBus.class);
 	}
 
+	private void bindExecutor(String name, MonitoredExecutor executor)
+	{
+		// users inject the executor service, the executor inspector reads the stats
+		bind(ExecutorService.class).annotatedWith(Names.named(name)).toInstance(executor);
+		bind(MonitoredExecutor.class).annotatedWith(Names.named(name)).toInstance(executor);
+	}
+
 	@Provides
 	@Singleton
 	Applet provideApplet()
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records spans of work done during client startup, and writes them as a trace in the Chrome trace
+ * event format, which can be opened in Perfetto or chrome://tracing. Spans on the same thread nest
+ * by time. Nothing is recorded unless {@link #start()} has been called, and until then a span costs
+ * a single volatile read. Spans begun on other threads, such as price lookups, may still be open when
+ * startup finishes, so {@link #stop(File)} waits a bounded time for them to end before writing the trace.
+ */
+@Slf4j
+public final class StartupTrace
+{
+	private static final Span NOOP = new Span(null, 0, 0);
+	private static final long PENDING_TIMEOUT_MS = 30_000;
+	private static final List<Event> events = new ArrayList<>();
+
+	private static volatile boolean recording;
+	private static long origin;
+	// spans of the current recording which have begun but not yet closed
+	private static int pending;
+
+	private StartupTrace()
+	{
+	}
+
+	@Value
+	public static class Event
+	{
+		String name;
+		long threadId;
+		String threadName;
+		/**
+		 * Nanoseconds since the trace was started
+		 */
+		long start;
+		long end;
+	}
+
+	public static final class Span implements AutoCloseable
+	{
+		private final String name;
+		private final long origin;
+		private final long start;
+		private boolean closed;
+
+		private Span(String name, long origin, long start)
+		{
+			this.name = name;
+			this.origin = origin;
+			this.start = start;
+		}
+
+		@Override
+		public void close()
+		{
+			if (name != null && !closed)
+			{
+				closed = true;
+				record(this, System.nanoTime());
+			}
+		}
+	}
+
+	public static void start()
+	{
+		synchronized (events)
+		{
+			events.clear();
+			pending = 0;
+			origin = System.nanoTime();
+			recording = true;
+		}
+	}
+
+	public static boolean isRecording()
+	{
+		return recording;
+	}
+
+	/**
+	 * Begin a span, which ends when it is closed
+	 *
+	 * @param name name of the span
+	 * @return the span
+	 */
+	public static Span begin(String name)
+	{
+		if (!recording)
+		{
+			return NOOP;
+		}
+
+		synchronized (events)
+		{
+			if (!recording)
+			{
+				return NOOP;
+			}
+
+			++pending;
+			return new Span(name, origin, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Stop recording. Spans which haven't ended yet are not recorded.
+	 *
+	 * @return the recorded spans, in the order they ended
+	 */
+	public static List<Event> stop()
+	{
+		synchronized (events)
+		{
+			recording = false;
+			return new ArrayList<>(events);
+		}
+	}
+
+	/**
+	 * Wait for spans which have begun but not ended yet, such as those on other threads
+	 *
+	 * @param timeoutMillis maximum time to wait
+	 * @return true if no spans are open
+	 */
+	static boolean awaitPending(long timeoutMillis) throws InterruptedException
+	{
+		final long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+		synchronized (events)
+		{
+			long remaining;
+			while (recording && pending > 0 && (remaining = deadline - System.nanoTime()) > 0)
+			{
+				events.wait(remaining / 1_000_000L + 1);
+			}
+			return pending == 0;
+		}
+	}
+
+	/**
+	 * Wait for open spans to end, then stop recording and write the trace to a file
+	 */
+	public static void stop(File file)
+	{
+		try
+		{
+			if (!awaitPending(PENDING_TIMEOUT_MS))
+			{
+				log.warn("startup trace has spans which did not end within {}ms", PENDING_TIMEOUT_MS);
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		final List<Event> events = stop();
+		try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))
+		{
+			write(out, events);
+			log.info("Wrote startup trace with {} spans to {}", events.size(), file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write startup trace", ex);
+		}
+	}
+
+	static void write(Writer out, List<Event> events) throws IOException
+	{
+		final JsonWriter writer = new JsonWriter(out);
+		writer.beginObject();
+		writer.name("displayTimeUnit").value("ms");
+		writer.name("traceEvents").beginArray();
+
+		final Map<Long, String> threads = new LinkedHashMap<>();
+		for (Event event : events)
+		{
+			threads.putIfAbsent(event.threadId, event.threadName);
+		}
+
+		for (Map.Entry<Long, String> thread : threads.entrySet())
+		{
+			writer.beginObject();
+			writer.name("name").value("thread_name");
+			writer.name("ph").value("M");
+			writer.name("pid").value(1);
+			writer.name("tid").value(thread.getKey());
+			writer.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+			writer.endObject();
+		}
+
+		for (Event event : events)
+		{
+			writer.beginObject();
+			writer.name("name").value(event.name);
+			writer.name("cat").value("startup");
+			writer.name("ph").value("X");
+			writer.name("pid").value(1);
+			writer.name("tid").value(event.threadId);
+			writer.name("ts").value(event.start / 1000.0);
+			writer.name("dur").value((event.end - event.start) / 1000.0);
+			writer.endObject();
+		}
+
+		writer.endArray();
+		writer.endObject();
+		writer.flush();
+	}
+
+	private static void record(Span span, long end)
+	{
+		final Thread thread = Thread.currentThread();
+		synchronized (events)
+		{
+			// ignore spans begun before the trace was restarted
+			if (recording && span.origin == origin)
+			{
+				events.add(new Event(span.name, thread.getId(), thread.getName(), span.start - origin, end - origin));
+				if (--pending == 0)
+				{
+					events.notifyAll();
+				}
+			}
+		}
+	}
+}
@@ -25,30 +25,114 @@
 package net.runelite.client.callback;
 
 import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 
+/**
+ * Runs tasks on the client thread. Tasks are run at the start of each frame in priority order, within a
+ * per-frame time budget; tasks which don't fit in a frame's budget are carried over to the next frame.
+ * Tasks which defer themselves are retried every frame at first, and then with exponential backoff.
+ */
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
+	// deferred tasks are retried every frame this many times before backing off
+	private static final int BACKOFF_RETRIES = 10;
+	private static final long BACKOFF_MIN = TimeUnit.MILLISECONDS.toNanos(20);
+	private static final long BACKOFF_MAX = TimeUnit.MILLISECONDS.toNanos(600);
+
+	private static final InvokePriority[] PRIORITIES = InvokePriority.values();
+
+	private static class Task
+	{
+		private final BooleanSupplier supplier;
+		private final InvokePriority priority;
+		// System.nanoTime() at which the task may next run, if it is delayed or backing off
+		private long notBefore;
+		// tick count at which the task may run, if it is scheduled by tick
+		private boolean byTick;
+		private int tick;
+		private int attempts;
+
+		private Task(BooleanSupplier supplier, InvokePriority priority)
+		{
+			this.supplier = supplier;
+			this.priority = priority;
+		}
+
+		@Override
+		public String toString()
+		{
+			return supplier.toString();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private final ConcurrentLinkedQueue<Task>[] lanes = new ConcurrentLinkedQueue[PRIORITIES.length];
 	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
 
+	// delayed tasks submitted from any thread, moved to the queues below by the client thread
+	private final ConcurrentLinkedQueue<Task> scheduled = new ConcurrentLinkedQueue<>();
+	private final PriorityQueue<Task> delayed = new PriorityQueue<>(Comparator.comparingLong(t -> t.notBefore));
+	private final PriorityQueue<Task> tickDelayed = new PriorityQueue<>(Comparator.comparingInt(t -> t.tick));
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	/**
+	 * Time spent per frame running tasks below {@link InvokePriority#HIGH}, after which the remaining tasks are
+	 * carried over to the next frame.
+	 */
+	@Getter
+	@Setter
+	private volatile long frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(4);
+
+	/**
+	 * Time spent running tasks during the last frame
+	 */
+	@Getter
+	private volatile long lastFrameNanos;
+
+	/**
+	 * Number of tasks which ran out of budget in the last frame
+	 */
+	@Getter
+	private volatile int lastFrameCarriedOver;
+
 	@Inject
 	private Client client;
 
+	public ClientThread()
+	{
+		for (int i = 0; i < lanes.length; ++i)
+		{
+			lanes[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
 	public void invoke(Runnable r)
+	{
+		invoke(r, InvokePriority.NORMAL);
+	}
+
+	public void invoke(Runnable r, InvokePriority priority)
 	{
 		invoke(() ->
 		{
 			r.run();
 			return true;
-		});
+		}, priority);
 	}
 
 	/**
@@ -56,17 +140,24 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(r, InvokePriority.NORMAL);
+	}
+
+	public void invoke(BooleanSupplier r, InvokePriority priority)
 	{
 		if (client.isClientThread())
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				Task task = new Task(r, priority);
+				backoff(task);
+				submit(task);
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokeLater(r, priority);
 	}
 
 	/**
@@ -74,17 +165,74 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invokeLater(Runnable r)
+	{
+		invokeLater(r, InvokePriority.NORMAL);
+	}
+
+	public void invokeLater(Runnable r, InvokePriority priority)
 	{
 		invokeLater(() ->
 		{
 			r.run();
 			return true;
-		});
+		}, priority);
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(r, InvokePriority.NORMAL);
+	}
+
+	public void invokeLater(BooleanSupplier r, InvokePriority priority)
+	{
+		submit(new Task(r, priority));
+	}
+
+	/**
+	 * Will run r on the game thread once delay has passed
+	 */
+	public void invokeLater(Runnable r, Duration delay)
+	{
+		invokeLater(r, delay, InvokePriority.NORMAL);
+	}
+
+	/**
+	 * Will run r on the game thread at the given priority once delay has passed
+	 */
+	public void invokeLater(Runnable r, Duration delay, InvokePriority priority)
+	{
+		Task task = new Task(() ->
+		{
+			r.run();
+			return true;
+		}, priority);
+		task.notBefore = System.nanoTime() + delay.toNanos();
+		queueDepth.incrementAndGet();
+		scheduled.add(task);
+	}
+
+	/**
+	 * Will run r on the game thread once the given number of game ticks have been processed
+	 */
+	public void invokeAfterTicks(Runnable r, int ticks)
+	{
+		invokeAfterTicks(r, ticks, InvokePriority.NORMAL);
+	}
+
+	/**
+	 * Will run r on the game thread at the given priority once the given number of game ticks have been processed
+	 */
+	public void invokeAfterTicks(Runnable r, int ticks, InvokePriority priority)
+	{
+		Task task = new Task(() ->
+		{
+			r.run();
+			return true;
+		}, priority);
+		task.byTick = true;
+		task.tick = client.getTickCount() + ticks;
+		queueDepth.incrementAndGet();
+		scheduled.add(task);
 	}
 
 	public void invokeAtTickEnd(Runnable r)
@@ -96,37 +244,114 @@ public class ClientThread
 		});
 	}
 
+	/**
+	 * Get the number of tasks waiting to be run, including delayed and deferred tasks
+	 */
+	public int getQueueDepth()
+	{
+		return queueDepth.get();
+	}
+
+	private void submit(Task task)
+	{
+		queueDepth.incrementAndGet();
+		lanes[task.priority.ordinal()].add(task);
+	}
+
 	void invoke()
 	{
-		invokeList(invokes);
+		assert client.isClientThread();
+		final long start = System.nanoTime();
+		final long budget = frameBudgetNanos;
+
+		releaseScheduled(start);
+
+		int carriedOver = 0;
+		for (InvokePriority priority : PRIORITIES)
+		{
+			final boolean budgeted = priority != InvokePriority.HIGH;
+			boolean ran = false;
+			Iterator<Task> it = lanes[priority.ordinal()].iterator();
+			while (it.hasNext())
+			{
+				Task task = it.next();
+				long now = System.nanoTime();
+				if (task.attempts > BACKOFF_RETRIES && task.notBefore - now > 0)
+				{
+					// backing off
+					continue;
+				}
+
+				if (budgeted && ran && now - start > budget)
+				{
+					// out of budget, the rest of the lane carries over to the next frame. Each lane still
+					// runs at least one task per frame so that it can't be starved by the lanes above it.
+					++carriedOver;
+					continue;
+				}
+
+				ran = true;
+				if (run(task.supplier))
+				{
+					it.remove();
+					queueDepth.decrementAndGet();
+				}
+				else
+				{
+					backoff(task);
+					log.trace("Deferring task {} (attempt {})", task, task.attempts);
+				}
+			}
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		lastFrameCarriedOver = carriedOver;
+		lastFrameNanos = elapsed;
+		if (carriedOver > 0)
+		{
+			log.trace("Carrying over {} tasks after {}us", carriedOver, elapsed / 1000);
+		}
 	}
 
-	void invokeTickEnd()
+	private void releaseScheduled(long now)
 	{
-		invokeList(invokesAtTickEnd);
+		for (Task task; (task = scheduled.poll()) != null; )
+		{
+			(task.byTick ? tickDelayed : delayed).add(task);
+		}
+
+		for (Task task; (task = delayed.peek()) != null && task.notBefore - now <= 0; )
+		{
+			delayed.poll();
+			lanes[task.priority.ordinal()].add(task);
+		}
+
+		final int tick = client.getTickCount();
+		for (Task task; (task = tickDelayed.peek()) != null && task.tick - tick <= 0; )
+		{
+			tickDelayed.poll();
+			lanes[task.priority.ordinal()].add(task);
+		}
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	private static void backoff(Task task)
+	{
+		int attempts = ++task.attempts;
+		if (attempts > BACKOFF_RETRIES)
+		{
+			int shift = Math.min(attempts - BACKOFF_RETRIES - 1, 30);
+			task.notBefore = System.nanoTime() + Math.min(BACKOFF_MAX, BACKOFF_MIN << shift);
+		}
+	}
+
+	void invokeTickEnd()
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+		Iterator<BooleanSupplier> ir = invokesAtTickEnd.iterator();
 		while (ir.hasNext())
 		{
 			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
-			{
-				remove = r.getAsBoolean();
-			}
-			catch (ThreadDeath d)
-			{
-				throw d;
-			}
-			catch (Throwable e)
-			{
-				log.error("Exception in invoke", e);
-			}
-			if (remove)
+			if (run(r))
 			{
 				ir.remove();
 			}
@@ -136,4 +361,21 @@ public class ClientThread
 			}
 		}
 	}
+
+	private static boolean run(BooleanSupplier r)
+	{
+		try
+		{
+			return r.getAsBoolean();
+		}
+		catch (ThreadDeath d)
+		{
+			throw d;
+		}
+		catch (Throwable e)
+		{
+			log.error("Exception in invoke", e);
+			return true;
+		}
+	}
 }
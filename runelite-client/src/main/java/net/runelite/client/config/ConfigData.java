@@ -24,6 +24,8 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,48 +33,139 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * A config profile's properties. Changes are saved by appending patch records to a journal next to
+ * the properties file, which is folded back into the properties file once it grows large relative to it.
+ * <p>
+ * Journal layout: magic, generation, then records of (length, crc32, payload). The generation is
+ * randomized each time the journal is recreated, which lets a client detect that another client has
+ * compacted it. A record which fails its length or crc check, such as one torn by a crash, ends the
+ * journal and is truncated by the next writer.
+ */
 @Slf4j
 class ConfigData
 {
+	private static final int JOURNAL_MAGIC = 0x524c434a; // RLCJ
+	private static final int JOURNAL_HEADER_SIZE = 12;
+	private static final int RECORD_HEADER_SIZE = 8;
+	private static final byte OP_UNSET = 0;
+	private static final byte OP_SET = 1;
+
+	// compact once the journal exceeds this, or 1/COMPACT_RATIO of the properties file, whichever is larger
+	private static final long COMPACT_MIN_SIZE = 256 * 1024;
+	private static final int COMPACT_RATIO = 4;
+
+	// index value of keys which ConfigManager.splitKey can't split
+	static final String[] UNSPLITTABLE = new String[0];
+
 	private final File configPath;
+	private final File journalPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted index of the property keys to their split (group, profile, key), for prefix lookups.
+	// updated along with properties while holding the monitor.
+	private final ConcurrentSkipListMap<String, String[]> index = new ConcurrentSkipListMap<>();
 	private Map<String, String> patchChanges = new HashMap<>();
 
+	// the journal generation and length this instance knows to be valid, guarded by journalLock
+	private final Object journalLock = new Object();
+	private long journalGeneration;
+	private long journalLength;
+
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
+		this.journalPath = journalFile(configPath);
 
-		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		final ConcurrentHashMap<String, String> props = new ConcurrentHashMap<>();
+		try
 		{
+			if (journalPath.exists())
+			{
+				// hold the lock so that another client can't compact the journal between reading the
+				// properties and replaying the journal
+				withLock(configPath, () ->
+				{
+					loadProperties(configPath).forEach((k, v) -> props.put((String) k, (String) v));
+					replayJournal((k, v) ->
+					{
+						if (v == null)
+						{
+							props.remove(k);
+						}
+						else
+						{
+							props.put(k, v);
+						}
+					});
+				});
+			}
+			else
+			{
+				loadProperties(configPath).forEach((k, v) -> props.put((String) k, (String) v));
+			}
 		}
 		catch (Exception ex)
 		{
 			throw new RuntimeException(ex);
 		}
 
-		properties = new ConcurrentHashMap<>(props.size());
-		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		properties = props;
+		for (String key : props.keySet())
+		{
+			index.put(key, split(key));
+		}
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	/**
+	 * Fold the journal of the config file back into the properties file, so that the properties file
+	 * alone holds the full config.
+	 */
+	static void compact(File configPath)
+	{
+		try
+		{
+			withLock(configPath, () -> compactLocked(configPath));
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+	}
+
+	/**
+	 * Delete the config file and its journal
+	 */
+	static void delete(File configPath)
+	{
+		configPath.delete();
+		journalFile(configPath).delete();
 	}
 
 	String getProperty(String key)
@@ -83,6 +176,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			index.put(key, split(key));
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +192,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			index.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -103,7 +201,13 @@ class ConfigData
 	synchronized void putAll(Map<String, String> values)
 	{
 		patchChanges.putAll(values);
-		properties.putAll(values);
+		for (Map.Entry<String, String> entry : values.entrySet())
+		{
+			if (properties.put(entry.getKey(), entry.getValue()) == null)
+			{
+				index.put(entry.getKey(), split(entry.getKey()));
+			}
+		}
 	}
 
 	Set<String> keySet()
@@ -111,6 +215,35 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with the given prefix, in sorted order. The returned map is a live view of the
+	 * keys, mapped to their split from {@link ConfigManager#splitKey(String)}, or {@link #UNSPLITTABLE}.
+	 */
+	NavigableMap<String, String[]> keysWithPrefix(String prefix)
+	{
+		// the keys starting with prefix are exactly those in [prefix, end), where end is prefix with its
+		// trailing Character.MAX_VALUEs dropped and its last char incremented
+		int i = prefix.length() - 1;
+		while (i >= 0 && prefix.charAt(i) == Character.MAX_VALUE)
+		{
+			--i;
+		}
+
+		if (i < 0)
+		{
+			return Collections.unmodifiableNavigableMap(index.tailMap(prefix, true));
+		}
+
+		String end = prefix.substring(0, i) + (char) (prefix.charAt(i) + 1);
+		return Collections.unmodifiableNavigableMap(index.subMap(prefix, true, end, false));
+	}
+
+	private static String[] split(String key)
+	{
+		String[] split = ConfigManager.splitKey(key);
+		return split != null ? split : UNSPLITTABLE;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -130,75 +263,335 @@ class ConfigData
 
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// append the patch to the journal instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
-		// correctly
+		// correctly, and so that the cost of a save is proportional to the size of the change
+		try
+		{
+			withLock(configPath, () ->
+			{
+				synchronized (journalLock)
+				{
+					if (!configPath.exists() && !journalPath.exists())
+					{
+						// this probably doesn't happen outside of the very first save (when no file exists)
+						// but to be safe in the event the prop is deleted off disk, flush the entire properties
+						// from memory
+						Properties props = new Properties();
+						props.putAll(properties);
+						writeProperties(configPath, props);
+						journalGeneration = journalLength = 0L;
+						return;
+					}
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+					appendJournal(patch);
+
+					if (journalLength > Math.max(COMPACT_MIN_SIZE, configPath.length() / COMPACT_RATIO))
+					{
+						log.debug("compacting config journal {} ({} bytes)", journalPath, journalLength);
+						compactLocked(configPath);
+						journalGeneration = journalLength = 0L;
+					}
+				}
+			});
+		}
+		catch (IOException ex)
 		{
-			lckChannel.lock();
+			log.error("unable to save configuration file", ex);
+		}
+	}
+
+	private void appendJournal(Map<String, String> patch) throws IOException
+	{
+		final byte[] payload = encode(patch);
+		final CRC32 crc = new CRC32();
+		crc.update(payload);
+
+		try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long size = channel.size();
+			long generation = readGeneration(channel);
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			if (generation == 0L)
 			{
-				tempProps.load(reader);
+				// new or unreadable journal
+				generation = ThreadLocalRandom.current().nextLong() | 1L;
+				ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+				header.putInt(JOURNAL_MAGIC).putLong(generation).flip();
+				channel.truncate(0L);
+				channel.write(header, 0L);
+				size = JOURNAL_HEADER_SIZE;
 			}
-			catch (FileNotFoundException e)
+			else if (generation != journalGeneration || size != journalLength)
 			{
-				log.debug("config file {} does not exist", configPath);
+				// another client has appended to or recreated the journal since we last saw it. Records it has
+				// appended are already on disk, this only validates them so that a torn record can be dropped.
+				long from = generation == journalGeneration && size > journalLength ? journalLength : JOURNAL_HEADER_SIZE;
+				long valid = scanJournal(channel, from, size, null);
+				if (valid != size)
+				{
+					log.warn("discarding {} bytes of corrupt config journal {}", size - valid, journalPath);
+					channel.truncate(valid);
+					size = valid;
+				}
 			}
 
-			if (tempProps.isEmpty())
+			ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+			record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+			long pos = size;
+			while (record.hasRemaining())
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				pos += channel.write(record, pos);
 			}
-			else
+			channel.force(false);
+
+			journalGeneration = generation;
+			journalLength = pos;
+		}
+	}
+
+	private void replayJournal(BiConsumer<String, String> apply) throws IOException
+	{
+		synchronized (journalLock)
+		{
+			if (!journalPath.exists())
+			{
+				return;
+			}
+
+			try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.READ))
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				long generation = readGeneration(channel);
+				if (generation == 0L)
 				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
+					return;
 				}
+
+				long size = channel.size();
+				long valid = scanJournal(channel, JOURNAL_HEADER_SIZE, size, apply);
+				if (valid != size)
+				{
+					log.warn("config journal {} has {} bytes of trailing corrupt data", journalPath, size - valid);
+				}
+
+				journalGeneration = generation;
+				journalLength = valid;
 			}
+		}
+	}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+	private static long readGeneration(FileChannel channel) throws IOException
+	{
+		if (channel.size() < JOURNAL_HEADER_SIZE)
+		{
+			return 0L;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+		while (header.hasRemaining())
+		{
+			if (channel.read(header, header.position()) < 0)
+			{
+				return 0L;
+			}
+		}
+		header.flip();
+		return header.getInt() == JOURNAL_MAGIC ? header.getLong() : 0L;
+	}
+
+	/**
+	 * Read the journal records in [from, to), applying them to apply if it is not null.
+	 *
+	 * @return the offset of the end of the last valid record
+	 */
+	private static long scanJournal(FileChannel channel, long from, long to, BiConsumer<String, String> apply) throws IOException
+	{
+		if (to <= from)
+		{
+			return from;
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate((int) (to - from));
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf, from + buf.position()) < 0)
+			{
+				break;
+			}
+		}
+		buf.flip();
+
+		final CRC32 crc = new CRC32();
+		long valid = from;
+		while (buf.remaining() >= RECORD_HEADER_SIZE)
+		{
+			final int length = buf.getInt();
+			final int checksum = buf.getInt();
+			if (length < 0 || length > buf.remaining())
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				break;
 			}
 
-			try
+			final ByteBuffer payload = buf.slice();
+			payload.limit(length);
+			crc.reset();
+			crc.update(payload.duplicate());
+			if ((int) crc.getValue() != checksum)
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				break;
 			}
-			catch (AtomicMoveNotSupportedException ex)
+
+			if (apply != null && !decode(payload, apply))
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				break;
 			}
+
+			buf.position(buf.position() + length);
+			valid += RECORD_HEADER_SIZE + length;
 		}
-		catch (IOException ex)
+		return valid;
+	}
+
+	private static byte[] encode(Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
 		{
-			log.error("unable to save configuration file", ex);
+			out.writeByte(entry.getValue() == null ? OP_UNSET : OP_SET);
+			writeString(out, entry.getKey());
+			if (entry.getValue() != null)
+			{
+				writeString(out, entry.getValue());
+			}
+		}
+		return bout.toByteArray();
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static boolean decode(ByteBuffer payload, BiConsumer<String, String> apply)
+	{
+		try
+		{
+			int count = payload.getInt();
+			for (int i = 0; i < count; ++i)
+			{
+				byte op = payload.get();
+				String key = readString(payload);
+				apply.accept(key, op == OP_SET ? readString(payload) : null);
+			}
+			return true;
+		}
+		catch (RuntimeException ex)
+		{
+			// a record which passed its checksum but doesn't parse
+			log.warn("malformed config journal record", ex);
+			return false;
+		}
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		String s = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return s;
+	}
+
+	private static void compactLocked(File configPath) throws IOException
+	{
+		final File journalPath = journalFile(configPath);
+		if (!journalPath.exists())
+		{
+			return;
+		}
+
+		final Properties props = loadProperties(configPath);
+		try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.READ))
+		{
+			if (readGeneration(channel) != 0L)
+			{
+				scanJournal(channel, JOURNAL_HEADER_SIZE, channel.size(), (k, v) ->
+				{
+					if (v == null)
+					{
+						props.remove(k);
+					}
+					else
+					{
+						props.put(k, v);
+					}
+				});
+			}
+		}
+
+		writeProperties(configPath, props);
+		Files.delete(journalPath.toPath());
+	}
+
+	private static Properties loadProperties(File configPath) throws IOException
+	{
+		Properties props = new Properties();
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+		return props;
+	}
+
+	private static void writeProperties(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private interface LockedOperation
+	{
+		void run() throws IOException;
+	}
+
+	private static void withLock(File configPath, LockedOperation operation) throws IOException
+	{
+		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+			operation.run();
+		}
+		finally
+		{
+			lckFile.delete();
 		}
-		lckFile.delete();
 	}
 }
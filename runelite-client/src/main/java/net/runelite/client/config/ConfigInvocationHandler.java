@@ -24,11 +24,14 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -38,10 +41,35 @@ class ConfigInvocationHandler implements InvocationHandler
 	// Special object to represent null values in the cache
 	private static final Object NULL = new Object();
 
+	/**
+	 * Marks a slot as needing to be reloaded. A new instance is used for each invalidation so that a
+	 * load racing with an invalidation can't store its now stale value.
+	 */
+	private static final class Stale
+	{
+	}
+
+	/**
+	 * Cached value of one config item getter. Slots are created once per method and are never
+	 * evicted, they are only invalidated when their config key changes.
+	 */
+	private static final class Slot extends AtomicReference<Object>
+	{
+		private Slot()
+		{
+			super(new Stale());
+		}
+
+		private void invalidate()
+		{
+			set(new Stale());
+		}
+	}
+
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	private final Map<Method, Slot> slots = new ConcurrentHashMap<>();
+	// group.key -> slots of the getters which read it
+	private final Map<String, List<Slot>> slotsByKey = new ConcurrentHashMap<>();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -52,12 +80,18 @@ class ConfigInvocationHandler implements InvocationHandler
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
 		// Use cached configuration value if available
+		Slot slot = null;
+		Object token = null;
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			slot = slots.get(method);
+			if (slot != null)
 			{
-				return cachedValue == NULL ? null : cachedValue;
+				token = slot.get();
+				if (!(token instanceof Stale))
+				{
+					return token == NULL ? null : token;
+				}
 			}
 		}
 
@@ -95,7 +129,13 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			if (slot == null)
+			{
+				slot = slots.computeIfAbsent(method, m -> createSlot(group.value(), item.keyName()));
+				token = slot.get();
+			}
+
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +145,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					slot.compareAndSet(token, defaultValue == null ? NULL : defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				slot.compareAndSet(token, NULL);
 				return null;
 			}
 
@@ -117,7 +157,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				slot.compareAndSet(token, objectValue == null ? NULL : objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -184,9 +224,29 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	private Slot createSlot(String group, String key)
+	{
+		Slot slot = new Slot();
+		slotsByKey.computeIfAbsent(ConfigManager.getWholeKey(group, null, key), k -> new CopyOnWriteArrayList<>()).add(slot);
+		return slot;
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		slots.values().forEach(Slot::invalidate);
+	}
+
+	/**
+	 * Invalidate the cached values of the getters for a single config key
+	 */
+	void invalidate(String group, String key)
+	{
+		List<Slot> keySlots = slotsByKey.get(ConfigManager.getWholeKey(group, null, key));
+		if (keySlots != null)
+		{
+			log.trace("cache invalidate {}.{}", group, key);
+			keySlots.forEach(Slot::invalidate);
+		}
 	}
 }
@@ -55,6 +55,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -85,7 +87,6 @@ import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.util.ColorUtil;
-import net.runelite.client.util.RunnableExceptionLogger;
 import net.runelite.http.api.config.ConfigPatch;
 import net.runelite.http.api.config.ConfigPatchResult;
 import net.runelite.http.api.config.Configuration;
@@ -137,6 +138,7 @@ public class ConfigManager
 	private ConfigManager(
 		@Nullable @Named("profile") String profile,
 		ScheduledExecutorService scheduledExecutorService,
+		@Named("ioExecutor") ExecutorService ioExecutor,
 		EventBus eventBus,
 		@Nullable Client client,
 		Gson gson,
@@ -153,7 +155,18 @@ public class ConfigManager
 		this.profileManager = profileManager;
 		this.sessionManager = sessionManager;
 
-		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
+		// the save itself runs on the io executor so that slow disk or network writes don't hold up the scheduler
+		scheduledExecutorService.scheduleWithFixedDelay(() ->
+		{
+			try
+			{
+				ioExecutor.execute(this::sendConfig);
+			}
+			catch (RejectedExecutionException ex)
+			{
+				log.warn("unable to queue config save", ex);
+			}
+		}, 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
 	}
 
 	public void switchProfile(ConfigProfile newProfile)
@@ -199,10 +212,11 @@ public class ConfigManager
 		ConfigData oldData;
 		synchronized (this)
 		{
-			handler.invalidate();
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
+			// invalidate after the swap so that a concurrent read can't cache a value from the old profile
+			handler.invalidate();
 		}
 
 		allKeys.addAll(oldData.keySet());
@@ -629,6 +643,7 @@ public class ConfigManager
 
 			this.profile = profile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			handler.invalidate();
 		}
 
 		eventBus.post(new ProfileChanged());
@@ -735,7 +750,7 @@ public class ConfigManager
 
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
-				configFile.delete();
+				ConfigData.delete(configFile);
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -769,9 +784,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return new ArrayList<>(configProfile.keysWithPrefix(prefix).keySet());
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -784,10 +797,15 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
-			.collect(Collectors.toList());
+		List<String> keys = new ArrayList<>();
+		for (String[] split : rsProfileConfigProfile.keysWithPrefix(prefix).values())
+		{
+			if (split != ConfigData.UNSPLITTABLE)
+			{
+				keys.add(split[KEY_SPLITTER_KEY]);
+			}
+		}
+		return keys;
 	}
 
 	public static String getWholeKey(String groupName, String profile, String key)
@@ -888,7 +906,10 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -979,7 +1000,10 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1460,20 +1484,12 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String[] split : rsProfileConfigProfile.keysWithPrefix(prefix).values())
 		{
-			if (!key.startsWith(prefix))
+			if (split != ConfigData.UNSPLITTABLE)
 			{
-				continue;
+				profileKeys.add(split[KEY_SPLITTER_PROFILE]);
 			}
-
-			String[] split = splitKey(key);
-			if (split == null)
-			{
-				continue;
-			}
-
-			profileKeys.add(split[KEY_SPLITTER_PROFILE]);
 		}
 
 		return profileKeys.stream()
@@ -1644,6 +1660,11 @@ public class ConfigManager
 		if (key.startsWith(RSPROFILE_GROUP + "."))
 		{
 			i = key.indexOf('.', RSPROFILE_GROUP.length() + 2); // skip . after RSPROFILE_GROUP
+			if (i == -1)
+			{
+				// rs profile keys must have a key after the profile
+				return null;
+			}
 			profile = key.substring(0, i);
 			key = key.substring(i + 1);
 		}
@@ -213,6 +213,23 @@ public class ProfileManager
 					newFile.toPath(),
 					StandardCopyOption.REPLACE_EXISTING
 				);
+
+				File oldJournal = ConfigData.journalFile(oldFile);
+				File newJournal = ConfigData.journalFile(newFile);
+				if (oldJournal.exists())
+				{
+					Files.move(
+						oldJournal.toPath(),
+						newJournal.toPath(),
+						StandardCopyOption.REPLACE_EXISTING
+					);
+				}
+				else
+				{
+					// don't let a stale journal from a previous profile of this name apply to this one
+					newJournal.delete();
+				}
+
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
 			}
 			catch (IOException e)
@@ -236,4 +253,15 @@ public class ProfileManager
 	{
 		return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
 	}
+
+	/**
+	 * Fold any journaled changes to the profile's config back into its config file, so that
+	 * {@link #profileConfigFile(ConfigProfile)} alone holds the full config, such as prior to copying it.
+	 *
+	 * @param profile
+	 */
+	public static void compactProfileConfig(ConfigProfile profile)
+	{
+		ConfigData.compact(profileConfigFile(profile));
+	}
 }
@@ -26,8 +26,8 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,9 +35,16 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -53,6 +60,9 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -78,8 +88,21 @@ public class EventBus
 
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Per event type dispatch table. Each array is kept sorted by {@link #SUBSCRIBER_ORDER} and is never
+	 * mutated once published, so {@link #post(Object)} can iterate it without locking. Writes are done
+	 * under the bus lock and replace only the arrays of the event types which changed.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Subscriptions of each registered object, keyed by identity, so that unregistering only needs to
+	 * touch the event types the object subscribes to. Guarded by the bus lock.
+	 */
+	private final Map<Object, ListMultimap<Class<?>, Subscriber>> subscriptions = new IdentityHashMap<>();
+
+	@Nullable
+	private volatile EventBusProfiler profiler;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +121,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final ListMultimap<Class<?>, Subscriber> registered = ArrayListMultimap.create();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,26 +179,21 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				registered.put(parameterClazz, subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		for (Map.Entry<Class<?>, Collection<Subscriber>> entry : registered.asMap().entrySet())
+		{
+			add(object, entry.getKey(), entry.getValue());
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		add(subFn, clazz, Arrays.asList(sub));
 		return sub;
 	}
 
@@ -189,10 +204,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final ListMultimap<Class<?>, Subscriber> subs = subscriptions.remove(object);
+		if (subs == null)
+		{
+			return;
+		}
+
+		for (Class<?> clazz : subs.keySet())
+		{
+			remove(clazz, s -> s.getObject() == object);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +223,132 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final ListMultimap<Class<?>, Subscriber> subs = subscriptions.get(sub.getObject());
+		if (subs == null)
+		{
+			return;
+		}
+
+		Class<?> clazz = null;
+		for (Map.Entry<Class<?>, Subscriber> entry : subs.entries())
+		{
+			if (entry.getValue() == sub)
+			{
+				clazz = entry.getKey();
+				break;
+			}
+		}
+
+		if (clazz == null)
+		{
+			return;
+		}
+
+		subs.get(clazz).removeIf(s -> s == sub);
+		if (subs.isEmpty())
+		{
+			subscriptions.remove(sub.getObject());
+		}
+
+		remove(clazz, s -> s == sub);
+	}
+
+	/**
+	 * Merges new subscribers for an event type into its dispatch table, publishing a new array.
+	 * Subscribers with equal ordering keep their registration order.
+	 */
+	private void add(Object object, Class<?> clazz, Collection<Subscriber> added)
+	{
+		final Subscriber[] current = subscribers.getOrDefault(clazz, EMPTY);
+		final Subscriber[] next = Arrays.copyOf(current, current.length + added.size());
+		int size = current.length;
+
+		for (Subscriber sub : added)
+		{
+			// find the insertion point after all subscribers which sort before or equal to this one
+			int lo = 0, hi = size;
+			while (lo < hi)
+			{
+				final int mid = (lo + hi) >>> 1;
+				if (SUBSCRIBER_ORDER.compare(next[mid], sub) <= 0)
+				{
+					lo = mid + 1;
+				}
+				else
+				{
+					hi = mid;
+				}
+			}
+
+			System.arraycopy(next, lo, next, lo + 1, size - lo);
+			next[lo] = sub;
+			++size;
+		}
+
+		subscribers.put(clazz, next);
+		subscriptions.computeIfAbsent(object, k -> ArrayListMultimap.create()).putAll(clazz, added);
+	}
+
+	/**
+	 * Removes subscribers matching the filter from an event type's dispatch table, publishing a new array.
+	 */
+	private void remove(Class<?> clazz, Predicate<Subscriber> filter)
+	{
+		final Subscriber[] current = subscribers.get(clazz);
+		if (current == null)
+		{
+			return;
+		}
+
+		final Subscriber[] next = new Subscriber[current.length];
+		int size = 0;
+		for (Subscriber sub : current)
+		{
+			if (!filter.test(sub))
+			{
+				next[size++] = sub;
+			}
+		}
+
+		if (size == 0)
+		{
+			subscribers.remove(clazz);
+		}
+		else if (size != current.length)
+		{
+			subscribers.put(clazz, Arrays.copyOf(next, size));
+		}
+	}
+
+	/**
+	 * Sets the profiler used to record subscriber timings, or null to disable profiling.
+	 * The previous profiler, if any, is uninstalled first, restoring any JVM settings it changed.
+	 *
+	 * @param profiler profiler
+	 */
+	public synchronized void setProfiler(@Nullable EventBusProfiler profiler)
+	{
+		final EventBusProfiler previous = this.profiler;
+		if (previous == profiler)
+		{
+			return;
+		}
+
+		this.profiler = profiler;
+		if (previous != null)
+		{
+			previous.uninstall();
+		}
+		if (profiler != null)
+		{
+			profiler.install();
+		}
+	}
+
+	@Nullable
+	public EventBusProfiler getProfiler()
+	{
+		return profiler;
 	}
 
 	/**
@@ -216,7 +359,20 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		final EventBusProfiler profiler = this.profiler;
+		if (profiler != null)
+		{
+			postProfiled(profiler, subs, event);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
 		{
 			try
 			{
@@ -228,4 +384,19 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postProfiled(EventBusProfiler profiler, Subscriber[] subs, Object event)
+	{
+		for (final Subscriber subscriber : subs)
+		{
+			try
+			{
+				profiler.invoke(subscriber, event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+		}
+	}
 }
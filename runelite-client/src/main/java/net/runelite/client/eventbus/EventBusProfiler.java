@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.MapMaker;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records per subscriber invocation statistics for an {@link EventBus}.
+ * Install with {@link EventBus#setProfiler(EventBusProfiler)}. Statistics are kept by class name, so
+ * that profiling does not keep unregistered subscribers, or the plugins they belong to, alive.
+ */
+@Slf4j
+@ThreadSafe
+public class EventBusProfiler
+{
+	@Value
+	public static class SubscriberProfile
+	{
+		/**
+		 * Name of the subscriber's class
+		 */
+		private final String subscriber;
+		/**
+		 * Name of the event's class
+		 */
+		private final String eventType;
+		private final long invocations;
+		private final long totalNanos;
+		private final long maxNanos;
+		/**
+		 * Bytes allocated by the subscriber, or -1 if allocation tracking is disabled
+		 */
+		private final long allocatedBytes;
+	}
+
+	@Value
+	private static class Key
+	{
+		String subscriber;
+		String eventType;
+	}
+
+	private static class Stats
+	{
+		private long invocations;
+		private long totalNanos;
+		private long maxNanos;
+		private long allocatedBytes;
+
+		private synchronized void record(long nanos, long bytes)
+		{
+			++invocations;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+			allocatedBytes += bytes;
+		}
+	}
+
+	private final Map<Key, Stats> stats = new ConcurrentHashMap<>();
+	// cache of each subscriber's stats, so posting doesn't have to build a key. Weakly keyed so that
+	// subscribers can be collected once they are unregistered.
+	private final Map<EventBus.Subscriber, Stats> subscriberStats = new MapMaker().weakKeys().makeMap();
+	private final com.sun.management.ThreadMXBean threadMXBean;
+	@Getter
+	private final boolean trackingAllocations;
+	// whether thread allocation tracking was enabled before this profiler was installed, guarded by this
+	private boolean wasAllocationTrackingEnabled;
+	private boolean installed;
+
+	/**
+	 * @param trackAllocations whether to also record allocated bytes per invocation. This is significantly more
+	 *                         expensive than timing alone, and is ignored if the JVM does not support it.
+	 */
+	public EventBusProfiler(boolean trackAllocations)
+	{
+		com.sun.management.ThreadMXBean bean = null;
+		if (trackAllocations)
+		{
+			ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+			if (threadBean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported())
+			{
+				bean = (com.sun.management.ThreadMXBean) threadBean;
+			}
+			else
+			{
+				log.warn("Thread allocation tracking is not supported by this JVM");
+			}
+		}
+		this.threadMXBean = bean;
+		this.trackingAllocations = bean != null;
+	}
+
+	/**
+	 * Called by the event bus when this profiler is installed; enables thread allocation tracking if requested
+	 */
+	synchronized void install()
+	{
+		if (installed)
+		{
+			return;
+		}
+
+		installed = true;
+		if (threadMXBean != null)
+		{
+			wasAllocationTrackingEnabled = threadMXBean.isThreadAllocatedMemoryEnabled();
+			threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
+	/**
+	 * Called by the event bus when this profiler is removed; restores the previous thread allocation tracking setting
+	 */
+	synchronized void uninstall()
+	{
+		if (!installed)
+		{
+			return;
+		}
+
+		installed = false;
+		if (threadMXBean != null && !wasAllocationTrackingEnabled)
+		{
+			threadMXBean.setThreadAllocatedMemoryEnabled(false);
+		}
+	}
+
+	void invoke(EventBus.Subscriber subscriber, Object event) throws Exception
+	{
+		final long threadId = threadMXBean != null ? Thread.currentThread().getId() : 0;
+		final long startBytes = threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(threadId) : 0;
+		final long start = System.nanoTime();
+		try
+		{
+			subscriber.invoke(event);
+		}
+		finally
+		{
+			final long nanos = System.nanoTime() - start;
+			final long bytes = threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(threadId) - startBytes : 0;
+			Stats s = subscriberStats.get(subscriber);
+			if (s == null)
+			{
+				final Key key = new Key(subscriber.getObject().getClass().getName(), event.getClass().getName());
+				s = stats.computeIfAbsent(key, k -> new Stats());
+				subscriberStats.put(subscriber, s);
+			}
+			s.record(nanos, bytes);
+		}
+	}
+
+	/**
+	 * Get the statistics recorded so far, aggregated by subscriber class and event type
+	 */
+	public List<SubscriberProfile> snapshot()
+	{
+		final List<SubscriberProfile> profiles = new ArrayList<>(stats.size());
+		for (Map.Entry<Key, Stats> entry : stats.entrySet())
+		{
+			final Key key = entry.getKey();
+			final Stats s = entry.getValue();
+			synchronized (s)
+			{
+				profiles.add(new SubscriberProfile(key.subscriber, key.eventType, s.invocations, s.totalNanos, s.maxNanos,
+					trackingAllocations ? s.allocatedBytes : -1));
+			}
+		}
+		return profiles;
+	}
+
+	/**
+	 * Discard all recorded statistics
+	 */
+	public void reset()
+	{
+		subscriberStats.clear();
+		stats.clear();
+	}
+}
@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
@@ -63,6 +64,19 @@ public class ItemClient
 	}
 
 	public ItemPrice[] getPrices() throws IOException
+	{
+		PriceSnapshot snapshot = getPrices(null);
+		return snapshot != null ? snapshot.getPrices() : null;
+	}
+
+	/**
+	 * Look up prices, unless they have not changed since an earlier lookup
+	 *
+	 * @param etag the etag of the earlier lookup, or null
+	 * @return the prices, or null if they have not changed or could not be looked up
+	 * @throws IOException
+	 */
+	public PriceSnapshot getPrices(@Nullable String etag) throws IOException
 	{
 		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
 			.addPathSegment("item")
@@ -72,12 +86,21 @@ public class ItemClient
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder requestBuilder = new Request.Builder()
+			.url(url);
+		if (etag != null)
+		{
+			requestBuilder.header("If-None-Match", etag);
+		}
 
-		try (Response response = client.newCall(request).execute())
+		try (Response response = client.newCall(requestBuilder.build()).execute())
 		{
+			if (response.code() == 304)
+			{
+				log.debug("Prices have not changed");
+				return null;
+			}
+
 			if (!response.isSuccessful())
 			{
 				log.warn("Error looking up prices: {}", response);
@@ -85,7 +108,8 @@ public class ItemClient
 			}
 
 			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			ItemPrice[] prices = gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			return new PriceSnapshot(response.header("ETag"), prices);
 		}
 		catch (JsonParseException ex)
 		{
@@ -24,22 +24,37 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Named;
@@ -54,6 +69,8 @@ import net.runelite.api.ItemComposition;
 import static net.runelite.api.ItemID.*;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.widgets.ItemQuantityMode;
+import net.runelite.client.RuneLite;
+import net.runelite.client.StartupTrace;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.util.AsyncBufferedImage;
@@ -94,7 +111,11 @@ public class ItemManager
 	@SuppressWarnings("PMD.ImmutableField")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private static final File PRICE_CACHE = new File(RuneLite.CACHE_DIR, "prices.json");
+
+	private final Gson gson;
+
+	private volatile PriceTable priceTable = PriceTable.EMPTY;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -187,16 +208,28 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, @Named("httpExecutor") ExecutorService httpExecutor,
+		ClientThread clientThread, ItemClient itemClient, RuneLiteConfig runeLiteConfig, Gson gson)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.gson = gson;
 
-		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
-		scheduledExecutorService.submit(this::loadStats);
+		// the lookups run on the http executor so that they don't hold up the scheduler
+		scheduledExecutorService.scheduleWithFixedDelay(() ->
+		{
+			try
+			{
+				httpExecutor.execute(this::loadPrices);
+			}
+			catch (RejectedExecutionException ex)
+			{
+				log.warn("unable to queue price lookup", ex);
+			}
+		}, 0, 30, TimeUnit.MINUTES);
+		httpExecutor.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
 			.maximumSize(128L)
@@ -225,20 +258,27 @@ public class ItemManager
 
 	private void loadPrices()
 	{
-		try
+		if (priceTable == PriceTable.EMPTY)
 		{
-			ItemPrice[] prices = itemClient.getPrices();
-			if (prices != null)
+			// use the prices from the last run until the current ones have been looked up
+			PriceSnapshot snapshot = readPriceSnapshot(PRICE_CACHE);
+			if (snapshot != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				priceTable = buildPriceTable(snapshot);
+				log.debug("Loaded {} cached prices", priceTable.size());
+			}
+		}
+
+		try (StartupTrace.Span span = StartupTrace.begin("Load prices"))
+		{
+			PriceSnapshot snapshot = itemClient.getPrices(priceTable.getEtag());
+			if (snapshot != null)
+			{
+				priceTable = buildPriceTable(snapshot);
+				writePriceSnapshot(PRICE_CACHE, snapshot);
 			}
 
-			log.debug("Loaded {} prices", itemPrices.size());
+			log.debug("Loaded {} prices", priceTable.size());
 		}
 		catch (IOException e)
 		{
@@ -246,9 +286,58 @@ public class ItemManager
 		}
 	}
 
-	private void loadStats()
+	@VisibleForTesting
+	PriceTable buildPriceTable(PriceSnapshot snapshot)
 	{
+		return new PriceTable(snapshot.getEtag(), snapshot.getPrices(), WORN_ITEMS);
+	}
+
+	@VisibleForTesting
+	PriceSnapshot readPriceSnapshot(File file)
+	{
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))
+		{
+			PriceSnapshot snapshot = gson.fromJson(reader, PriceSnapshot.class);
+			return snapshot != null && snapshot.getPrices() != null ? snapshot : null;
+		}
+		catch (FileNotFoundException ex)
+		{
+			return null;
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.debug("error reading cached prices", ex);
+			return null;
+		}
+	}
+
+	@VisibleForTesting
+	void writePriceSnapshot(File file, PriceSnapshot snapshot)
+	{
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
 		try
+		{
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(tmp), StandardCharsets.UTF_8))
+			{
+				gson.toJson(snapshot, writer);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			log.debug("error caching prices", ex);
+		}
+	}
+
+	@VisibleForTesting
+	void setPriceTable(PriceTable priceTable)
+	{
+		this.priceTable = priceTable;
+	}
+
+	private void loadStats()
+	{
+		try (StartupTrace.Span span = StartupTrace.begin("Load item stats"))
 		{
 			final Map<Integer, ItemStats> stats = itemClient.getStats();
 			if (stats != null)
@@ -298,30 +387,10 @@ public class ItemManager
 		{
 			itemID = itemComposition.getLinkedNoteId();
 		}
-		itemID = WORN_ITEMS.getOrDefault(itemID, itemID);
-
-		int price = 0;
 
-		final Collection<ItemMapping> mappedItems = ItemMapping.map(itemID);
-
-		if (mappedItems == null)
-		{
-			final ItemPrice ip = itemPrices.get(itemID);
-
-			if (ip != null)
-			{
-				price = useWikiPrice ? getWikiPrice(ip) : ip.getPrice();
-			}
-		}
-		else
-		{
-			for (final ItemMapping mappedItem : mappedItems)
-			{
-				price += getItemPriceWithSource(mappedItem.getTradeableItem(), useWikiPrice) * mappedItem.getQuantity();
-			}
-		}
-
-		return price;
+		// worn items and item mappings are resolved when the table is built, but the price thresholds are applied
+		// here as they may not have been injected yet when the table was built
+		return useWikiPrice ? priceTable.getWikiPrice(itemID, this::getWikiPrice) : priceTable.getPrice(itemID);
 	}
 
 	/**
@@ -331,8 +400,11 @@ public class ItemManager
 	 */
 	public int getWikiPrice(ItemPrice itemPrice)
 	{
-		final int wikiPrice = itemPrice.getWikiPrice();
-		final int jagPrice = itemPrice.getPrice();
+		return getWikiPrice(itemPrice.getPrice(), itemPrice.getWikiPrice());
+	}
+
+	private int getWikiPrice(int jagPrice, int wikiPrice)
+	{
 		if (wikiPrice <= 0)
 		{
 			return jagPrice;
@@ -388,22 +460,37 @@ public class ItemManager
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return matching items, with exact matches first, then names starting with the search, then other
+	 * names containing it
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		return search(itemName, Integer.MAX_VALUE);
+	}
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+	/**
+	 * Search for tradeable items based on item name
+	 *
+	 * @param itemName item name
+	 * @param limit maximum number of items to return
+	 * @return up to {@code limit} matching items, ordered as in {@link #search(String)}
+	 */
+	public List<ItemPrice> search(String itemName, int limit)
+	{
+		return priceTable.getSearchIndex().search(itemName, limit);
+	}
+
+	/**
+	 * Search for tradeable items based on item name, keeping only those which pass a filter
+	 *
+	 * @param itemName item name
+	 * @param limit maximum number of items to return, after filtering
+	 * @param filter filter for the matching items
+	 * @return up to {@code limit} matching items which pass the filter, ordered as in {@link #search(String)}
+	 */
+	public List<ItemPrice> search(String itemName, int limit, Predicate<ItemPrice> filter)
+	{
+		return priceTable.getSearchIndex().search(itemName, limit, filter);
 	}
 
 	/**
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Name search over a fixed set of items. Names are lowercased once when the index is built. Prefix
+ * matches are found by binary searching the names in sorted order, and substring matches by walking
+ * the shortest trigram posting list of the query and checking each candidate.
+ * <p>
+ * Results are ranked exact matches first, then prefix matches, then other substring matches. Within
+ * each group shorter names come first, then names are ordered alphabetically.
+ */
+class ItemSearchIndex
+{
+	private static final int[] NO_ITEMS = new int[0];
+
+	private final ItemPrice[] items;
+	private final String[] names;
+	/**
+	 * position of each item when ordered by name length, name, and id
+	 */
+	private final int[] rank;
+	private final int[] byRank;
+	/**
+	 * item indexes ordered by name, and their names in that order
+	 */
+	private final int[] byName;
+	private final String[] sortedNames;
+	/**
+	 * sorted item indexes for each trigram of the names
+	 */
+	private final Map<Long, int[]> trigrams;
+
+	ItemSearchIndex(Collection<ItemPrice> itemPrices)
+	{
+		final int count = itemPrices.size();
+		items = itemPrices.toArray(new ItemPrice[0]);
+		names = new String[count];
+		for (int i = 0; i < count; ++i)
+		{
+			names[i] = items[i].getName().toLowerCase();
+		}
+
+		final Integer[] order = new Integer[count];
+		for (int i = 0; i < count; ++i)
+		{
+			order[i] = i;
+		}
+
+		Arrays.sort(order, Comparator.<Integer>comparingInt(i -> names[i].length())
+			.thenComparing(i -> names[i])
+			.thenComparingInt(i -> items[i].getId()));
+		rank = new int[count];
+		byRank = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			rank[order[i]] = i;
+			byRank[i] = order[i];
+		}
+
+		Arrays.sort(order, Comparator.<Integer, String>comparing(i -> names[i])
+			.thenComparingInt(i -> rank[i]));
+		byName = new int[count];
+		sortedNames = new String[count];
+		for (int i = 0; i < count; ++i)
+		{
+			byName[i] = order[i];
+			sortedNames[i] = names[order[i]];
+		}
+
+		final Map<Long, int[]> postings = new HashMap<>();
+		final Map<Long, Integer> sizes = new HashMap<>();
+		for (int i = 0; i < count; ++i)
+		{
+			final String name = names[i];
+			for (int j = 0; j + 3 <= name.length(); ++j)
+			{
+				final long trigram = trigram(name, j);
+				final int[] list = postings.getOrDefault(trigram, NO_ITEMS);
+				final int size = sizes.getOrDefault(trigram, 0);
+				if (size > 0 && list[size - 1] == i)
+				{
+					// repeated trigram within the same name
+					continue;
+				}
+
+				final int[] grown = size < list.length ? list : Arrays.copyOf(list, Math.max(4, size * 2));
+				grown[size] = i;
+				postings.put(trigram, grown);
+				sizes.put(trigram, size + 1);
+			}
+		}
+		postings.replaceAll((trigram, list) -> Arrays.copyOf(list, sizes.get(trigram)));
+		trigrams = postings;
+	}
+
+	private static long trigram(String s, int i)
+	{
+		return (long) s.charAt(i) << 32 | (long) s.charAt(i + 1) << 16 | s.charAt(i + 2);
+	}
+
+	int size()
+	{
+		return items.length;
+	}
+
+	/**
+	 * Search for items with names containing the query, ignoring case
+	 *
+	 * @param query item name query
+	 * @param limit maximum number of results
+	 * @return up to {@code limit} matching items, best matches first
+	 */
+	List<ItemPrice> search(String query, int limit)
+	{
+		return search(query, limit, item -> true);
+	}
+
+	/**
+	 * Search for items with names containing the query, ignoring case, which pass a filter. The limit
+	 * applies to the filtered items, and the filter is only tested until the limit is reached.
+	 *
+	 * @param query item name query
+	 * @param limit maximum number of results
+	 * @param filter filter for the matching items
+	 * @return up to {@code limit} matching items, best matches first
+	 */
+	List<ItemPrice> search(String query, int limit, Predicate<ItemPrice> filter)
+	{
+		if (limit <= 0 || items.length == 0)
+		{
+			return Collections.emptyList();
+		}
+
+		final String q = query.toLowerCase();
+
+		// names starting with the query sort contiguously, beginning with the exact matches
+		final int from = lowerBound(q);
+		int to = from;
+		while (to < sortedNames.length && sortedNames[to].startsWith(q))
+		{
+			++to;
+		}
+
+		final List<ItemPrice> result = new ArrayList<>(Math.min(limit, 16));
+		int prefixFrom = from;
+		while (prefixFrom < to && sortedNames[prefixFrom].length() == q.length())
+		{
+			final ItemPrice item = items[byName[prefixFrom]];
+			if (result.size() < limit && filter.test(item))
+			{
+				result.add(item);
+			}
+			++prefixFrom;
+		}
+
+		if (result.size() < limit)
+		{
+			final int[] prefix = new int[to - prefixFrom];
+			for (int i = prefixFrom; i < to; ++i)
+			{
+				prefix[i - prefixFrom] = byName[i];
+			}
+			addRanked(result, prefix, limit, filter);
+		}
+
+		if (result.size() < limit)
+		{
+			addRanked(result, substringMatches(q), limit, filter);
+		}
+		return result;
+	}
+
+	/**
+	 * Find items with names containing, but not starting with, the query
+	 */
+	private int[] substringMatches(String q)
+	{
+		int[] candidates = null;
+		if (q.length() >= 3)
+		{
+			for (int j = 0; j + 3 <= q.length(); ++j)
+			{
+				final int[] list = trigrams.get(trigram(q, j));
+				if (list == null)
+				{
+					return NO_ITEMS;
+				}
+				if (candidates == null || list.length < candidates.length)
+				{
+					candidates = list;
+				}
+			}
+		}
+
+		final int total = candidates != null ? candidates.length : items.length;
+		final int[] matches = new int[total];
+		int count = 0;
+		for (int i = 0; i < total; ++i)
+		{
+			final int item = candidates != null ? candidates[i] : i;
+			final String name = names[item];
+			if (name.indexOf(q, 1) != -1 && !name.startsWith(q))
+			{
+				matches[count++] = item;
+			}
+		}
+		return Arrays.copyOf(matches, count);
+	}
+
+	private void addRanked(List<ItemPrice> result, int[] matches, int limit, Predicate<ItemPrice> filter)
+	{
+		final int[] ranks = new int[matches.length];
+		for (int i = 0; i < matches.length; ++i)
+		{
+			ranks[i] = rank[matches[i]];
+		}
+		Arrays.sort(ranks);
+
+		for (int i = 0; i < ranks.length && result.size() < limit; ++i)
+		{
+			final ItemPrice item = items[byRank[ranks[i]]];
+			if (filter.test(item))
+			{
+				result.add(item);
+			}
+		}
+	}
+
+	/**
+	 * Find the first position in name order whose name is not less than the query
+	 */
+	private int lowerBound(String q)
+	{
+		int lo = 0, hi = sortedNames.length;
+		while (lo < hi)
+		{
+			final int mid = (lo + hi) >>> 1;
+			if (sortedNames[mid].compareTo(q) < 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+}
@@ -27,9 +27,10 @@ package net.runelite.client.game;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,10 +42,10 @@ public class NPCManager
 	private Map<Integer, NpcInfo> npcMap = Collections.emptyMap();
 
 	@Inject
-	private NPCManager(NpcInfoClient npcInfoClient, ScheduledExecutorService scheduledExecutorService)
+	private NPCManager(NpcInfoClient npcInfoClient, @Named("httpExecutor") ExecutorService httpExecutor)
 	{
 		this.npcInfoClient = npcInfoClient;
-		scheduledExecutorService.execute(this::loadNpcs);
+		httpExecutor.execute(this::loadNpcs);
 	}
 
 	@Nullable
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.IntBinaryOperator;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import static net.runelite.api.ItemID.COINS_995;
+import static net.runelite.api.ItemID.PLATINUM_TOKEN;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Item prices indexed by item id, with worn items and {@link ItemMapping}s resolved up front so that
+ * a lookup is a single array access, along with a name search index over the priced items. A table is
+ * immutable and is replaced as a whole when prices load.
+ * <p>
+ * Wiki prices are stored as they were looked up, and the caller picks between them and the GE prices
+ * on each lookup, so a table never has to be rebuilt when the way of picking changes.
+ */
+class PriceTable
+{
+	static final PriceTable EMPTY = new PriceTable(null, new ItemPrice[0], ImmutableMap.of());
+
+	// wiki price of an item which maps to other items, whose wiki prices are picked between individually
+	private static final int MAPPED = -1;
+
+	@Getter
+	@Nullable
+	private final String etag;
+	@Getter
+	private final Map<Integer, ItemPrice> itemPrices;
+	@Getter
+	private final ItemSearchIndex searchIndex;
+	private final Map<Integer, Integer> wornItems;
+	private final int[] prices;
+	private final int[] wikiPrices;
+
+	/**
+	 * @param etag etag of the prices, for looking them up again conditionally
+	 * @param itemPrices prices of the tradeable items
+	 * @param wornItems map of worn item ids to their tradeable ids
+	 */
+	PriceTable(@Nullable String etag, ItemPrice[] itemPrices, Map<Integer, Integer> wornItems)
+	{
+		this.etag = etag;
+		this.wornItems = wornItems;
+
+		ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(itemPrices.length);
+		int maxId = -1;
+		for (ItemPrice price : itemPrices)
+		{
+			map.put(price.getId(), price);
+			maxId = Math.max(maxId, price.getId());
+		}
+		this.itemPrices = map.build();
+		this.searchIndex = new ItemSearchIndex(this.itemPrices.values());
+
+		for (int itemId : wornItems.keySet())
+		{
+			maxId = Math.max(maxId, itemId);
+		}
+		for (int itemId : ItemMapping.MAPPINGS.keySet())
+		{
+			maxId = Math.max(maxId, itemId);
+		}
+
+		prices = new int[maxId + 1];
+		wikiPrices = new int[maxId + 1];
+		for (int itemId = 0; itemId <= maxId; ++itemId)
+		{
+			final int tradeableId = wornItems.getOrDefault(itemId, itemId);
+			prices[itemId] = resolve(tradeableId);
+
+			final ItemPrice ip = this.itemPrices.get(tradeableId);
+			wikiPrices[itemId] = ItemMapping.map(tradeableId) != null ? MAPPED
+				: ip != null ? ip.getWikiPrice()
+				: 0;
+		}
+	}
+
+	private int resolve(int itemId)
+	{
+		itemId = wornItems.getOrDefault(itemId, itemId);
+
+		final Collection<ItemMapping> mappedItems = ItemMapping.map(itemId);
+		if (mappedItems == null)
+		{
+			final ItemPrice ip = itemPrices.get(itemId);
+			return ip != null ? ip.getPrice() : 0;
+		}
+
+		int total = 0;
+		for (final ItemMapping mappedItem : mappedItems)
+		{
+			// mapped items are always unnoted tradeables, so only the special cases need checking
+			final int tradeableItem = mappedItem.getTradeableItem();
+			final int tradeablePrice = tradeableItem == COINS_995 ? 1
+				: tradeableItem == PLATINUM_TOKEN ? 1000
+				: resolve(tradeableItem);
+			total += tradeablePrice * mappedItem.getQuantity();
+		}
+		return total;
+	}
+
+	/**
+	 * Get the GE price of an unnoted item
+	 */
+	int getPrice(int itemId)
+	{
+		if (itemId < 0 || itemId >= prices.length)
+		{
+			return 0;
+		}
+		return prices[itemId];
+	}
+
+	/**
+	 * Get the wiki price of an unnoted item
+	 *
+	 * @param itemId item id
+	 * @param pick picks the price to use given an item's GE price and wiki price
+	 */
+	int getWikiPrice(int itemId, IntBinaryOperator pick)
+	{
+		if (itemId < 0 || itemId >= prices.length)
+		{
+			return 0;
+		}
+
+		final int wikiPrice = wikiPrices[itemId];
+		if (wikiPrice != MAPPED)
+		{
+			return pick.applyAsInt(prices[itemId], wikiPrice);
+		}
+
+		int total = 0;
+		for (final ItemMapping mappedItem : ItemMapping.map(wornItems.getOrDefault(itemId, itemId)))
+		{
+			final int tradeableItem = mappedItem.getTradeableItem();
+			final int tradeablePrice = tradeableItem == COINS_995 ? 1
+				: tradeableItem == PLATINUM_TOKEN ? 1000
+				: getWikiPrice(tradeableItem, pick);
+			total += tradeablePrice * mappedItem.getQuantity();
+		}
+		return total;
+	}
+
+	int size()
+	{
+		return itemPrices.size();
+	}
+}
@@ -31,6 +31,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import net.runelite.api.Client;
@@ -64,28 +66,57 @@ class NpcOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		final List<HighlightedNpc> rendered = new ArrayList<>(highlightedNpcs.size());
+		final List<ModelOutlineRenderer.Outline> outlines = new ArrayList<>();
 		for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
 		{
+			if (!isRendered(highlightedNpc))
+			{
+				continue;
+			}
+
+			rendered.add(highlightedNpc);
 			renderNpcOverlay(graphics, highlightedNpc);
+
+			if (highlightedNpc.isOutline())
+			{
+				outlines.add(ModelOutlineRenderer.Outline.of(highlightedNpc.getNpc(), (int) highlightedNpc.getBorderWidth(),
+					highlightedNpc.getHighlightColor(), highlightedNpc.getOutlineFeather()));
+			}
+		}
+
+		// the outlines are drawn together, so that their coverage is rasterized in parallel. They go over the
+		// hulls and tiles and under the names, as when each npc was drawn on its own.
+		if (!outlines.isEmpty())
+		{
+			modelOutlineRenderer.drawOutlines(outlines);
+		}
+
+		for (HighlightedNpc highlightedNpc : rendered)
+		{
+			renderNpcName(graphics, highlightedNpc);
 		}
 
 		return null;
 	}
 
-	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	private static boolean isRendered(HighlightedNpc highlightedNpc)
 	{
 		NPC actor = highlightedNpc.getNpc();
 		NPCComposition npcComposition = actor.getTransformedComposition();
 		if (npcComposition == null || !npcComposition.isInteractible())
 		{
-			return;
+			return false;
 		}
 
 		Predicate<NPC> render = highlightedNpc.getRender();
-		if (render != null && !render.test(actor))
-		{
-			return;
-		}
+		return render == null || render.test(actor);
+	}
+
+	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	{
+		NPC actor = highlightedNpc.getNpc();
+		NPCComposition npcComposition = actor.getTransformedComposition();
 
 		final Color borderColor = highlightedNpc.getHighlightColor();
 		float borderWidth = highlightedNpc.getBorderWidth();
@@ -137,12 +168,11 @@ class NpcOverlay extends Overlay
 				renderPoly(graphics, borderColor, borderWidth, fillColor, tilePoly);
 			}
 		}
+	}
 
-		if (highlightedNpc.isOutline())
-		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
-		}
-
+	private static void renderNpcName(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	{
+		NPC actor = highlightedNpc.getNpc();
 		if (highlightedNpc.isName() && actor.getName() != null)
 		{
 			String npcName = Text.removeTags(actor.getName());
@@ -150,7 +180,7 @@ class NpcOverlay extends Overlay
 
 			if (textLocation != null)
 			{
-				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, borderColor);
+				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, highlightedNpc.getHighlightColor());
 			}
 		}
 	}
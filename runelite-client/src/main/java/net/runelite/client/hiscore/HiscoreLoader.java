@@ -29,7 +29,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
 import static net.runelite.client.hiscore.HiscoreManager.EMPTY;
 import static net.runelite.client.hiscore.HiscoreManager.NONE;
@@ -40,7 +40,7 @@ class HiscoreLoader extends CacheLoader<HiscoreManager.HiscoreKey, HiscoreResult
 	private final ListeningExecutorService executorService;
 	private final HiscoreClient hiscoreClient;
 
-	HiscoreLoader(ScheduledExecutorService executor, HiscoreClient client)
+	HiscoreLoader(ExecutorService executor, HiscoreClient client)
 	{
 		this.executorService = MoreExecutors.listeningDecorator(executor);
 		this.hiscoreClient = client;
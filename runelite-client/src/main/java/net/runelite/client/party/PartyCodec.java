@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.awt.Color;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.WebsocketMessage;
+import okio.Buffer;
+
+/**
+ * Binary encoding of party messages. The layout of each message type is derived from its fields,
+ * and the schema id is a hash of that layout, so clients only exchange a type in binary when they
+ * agree on its layout. Fields which are not primitives are nullable and are written behind a
+ * presence mask, so a message which only sets the fields which changed, such as a status update,
+ * is only as large as those fields.
+ */
+class PartyCodec
+{
+	private static final int MAX_NULLABLE_FIELDS = 64;
+
+	private PartyCodec()
+	{
+	}
+
+	/**
+	 * Build the schema of a message type
+	 *
+	 * @param type message type
+	 * @return the schema, or null if the type has a field which can't be encoded
+	 */
+	@Nullable
+	static Schema schema(Class<? extends WebsocketMessage> type)
+	{
+		final List<Field> fields = new ArrayList<>();
+		for (Class<?> c = type; c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0 && !field.isSynthetic())
+				{
+					fields.add(field);
+				}
+			}
+		}
+		// declared field order is unspecified, so sort them to get the same layout on every client
+		fields.sort(Comparator.comparing(Field::getName).thenComparing(f -> f.getDeclaringClass().getName()));
+
+		// the fully qualified name, so that types of the same name from different plugins don't share an id
+		final StringBuilder layout = new StringBuilder(type.getName());
+		final Kind[] kinds = new Kind[fields.size()];
+		int nullable = 0;
+		for (int i = 0; i < kinds.length; ++i)
+		{
+			final Field field = fields.get(i);
+			final Kind kind = Kind.of(field.getType());
+			if (kind == null)
+			{
+				return null;
+			}
+
+			if (!field.getType().isPrimitive() && ++nullable > MAX_NULLABLE_FIELDS)
+			{
+				return null;
+			}
+
+			kinds[i] = kind;
+			layout.append(';').append(field.getName()).append(':').append(kind);
+			if (kind == Kind.ENUM)
+			{
+				layout.append(Arrays.toString(field.getType().getEnumConstants()));
+			}
+			else if (field.getType().isPrimitive())
+			{
+				layout.append('!');
+			}
+			field.setAccessible(true);
+		}
+
+		Constructor<?> constructor;
+		try
+		{
+			constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+		}
+		catch (NoSuchMethodException e)
+		{
+			constructor = null;
+		}
+
+		final int id = Hashing.murmur3_32().hashString(layout, StandardCharsets.UTF_8).asInt();
+		return new Schema(type, id, fields.toArray(new Field[0]), kinds, nullable, constructor);
+	}
+
+	/**
+	 * Append a message to a batch
+	 */
+	static void write(Buffer out, Schema schema, WebsocketMessage message)
+	{
+		final Buffer payload = new Buffer();
+		schema.write(payload, message);
+		out.writeInt(schema.id);
+		writeVarint(out, payload.size());
+		out.write(payload, payload.size());
+	}
+
+	/**
+	 * Read a batch of messages
+	 *
+	 * @param in the batch
+	 * @param schemas schema lookup by id
+	 * @param gson gson used to instantiate types without a no-args constructor
+	 * @return the messages, skipping those with an unknown schema
+	 */
+	static List<WebsocketMessage> read(Buffer in, SchemaLookup schemas, Gson gson) throws IOException
+	{
+		final List<WebsocketMessage> messages = new ArrayList<>();
+		while (!in.exhausted())
+		{
+			final int id = in.readInt();
+			final long length = readVarint(in);
+			if (length > in.size())
+			{
+				throw new ProtocolException("truncated message");
+			}
+
+			final Schema schema = schemas.get(id);
+			if (schema == null)
+			{
+				in.skip(length);
+				continue;
+			}
+
+			final Buffer payload = new Buffer();
+			in.read(payload, length);
+			messages.add(schema.read(payload, gson));
+			if (!payload.exhausted())
+			{
+				throw new ProtocolException("trailing data in " + schema.type.getSimpleName());
+			}
+		}
+		return messages;
+	}
+
+	interface SchemaLookup
+	{
+		@Nullable
+		Schema get(int id);
+	}
+
+	static final class Schema
+	{
+		@Getter
+		private final Class<? extends WebsocketMessage> type;
+		@Getter
+		private final int id;
+		private final Field[] fields;
+		private final Kind[] kinds;
+		private final int nullable;
+		private final Constructor<?> constructor;
+
+		private Schema(Class<? extends WebsocketMessage> type, int id, Field[] fields, Kind[] kinds, int nullable, @Nullable Constructor<?> constructor)
+		{
+			this.type = type;
+			this.id = id;
+			this.fields = fields;
+			this.kinds = kinds;
+			this.nullable = nullable;
+			this.constructor = constructor;
+		}
+
+		private void write(Buffer out, WebsocketMessage message)
+		{
+			try
+			{
+				final Object[] values = new Object[fields.length];
+				long present = 0;
+				int bit = 0;
+				for (int i = 0; i < fields.length; ++i)
+				{
+					values[i] = fields[i].get(message);
+					if (!fields[i].getType().isPrimitive())
+					{
+						if (values[i] != null)
+						{
+							present |= 1L << bit;
+						}
+						++bit;
+					}
+				}
+
+				if (nullable > 0)
+				{
+					writeVarint(out, present);
+				}
+
+				for (int i = 0; i < fields.length; ++i)
+				{
+					if (values[i] != null)
+					{
+						kinds[i].write(out, values[i]);
+					}
+				}
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private WebsocketMessage read(Buffer in, Gson gson) throws IOException
+		{
+			try
+			{
+				final WebsocketMessage message = type.cast(constructor != null
+					? constructor.newInstance()
+					: gson.getAdapter(type).fromJsonTree(new JsonObject()));
+
+				final long present = nullable > 0 ? readVarint(in) : 0;
+				int bit = 0;
+				for (int i = 0; i < fields.length; ++i)
+				{
+					final Field field = fields[i];
+					if (field.getType().isPrimitive() || (present & (1L << bit++)) != 0)
+					{
+						field.set(message, kinds[i].read(in, field.getType()));
+					}
+				}
+				return message;
+			}
+			catch (ReflectiveOperationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private enum Kind
+	{
+		BOOLEAN
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					out.writeByte((Boolean) value ? 1 : 0);
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					return in.readByte() != 0;
+				}
+			},
+		INT
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					int v = (Integer) value;
+					writeVarint(out, ((v << 1) ^ (v >> 31)) & 0xffffffffL);
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					int v = (int) readVarint(in);
+					return (v >>> 1) ^ -(v & 1);
+				}
+			},
+		LONG
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					long v = (Long) value;
+					writeVarint(out, (v << 1) ^ (v >> 63));
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					long v = readVarint(in);
+					return (v >>> 1) ^ -(v & 1);
+				}
+			},
+		DOUBLE
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					out.writeLong(Double.doubleToRawLongBits((Double) value));
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					return Double.longBitsToDouble(in.readLong());
+				}
+			},
+		STRING
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+					writeVarint(out, bytes.length);
+					out.write(bytes);
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					return in.readUtf8(readVarint(in));
+				}
+			},
+		COLOR
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					out.writeInt(((Color) value).getRGB());
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					return new Color(in.readInt(), true);
+				}
+			},
+		WORLD_POINT
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					final WorldPoint point = (WorldPoint) value;
+					INT.write(out, point.getX());
+					INT.write(out, point.getY());
+					INT.write(out, point.getPlane());
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					return new WorldPoint((int) INT.read(in, int.class), (int) INT.read(in, int.class), (int) INT.read(in, int.class));
+				}
+			},
+		ENUM
+			{
+				@Override
+				void write(Buffer out, Object value)
+				{
+					writeVarint(out, ((Enum<?>) value).ordinal());
+				}
+
+				@Override
+				Object read(Buffer in, Class<?> type) throws IOException
+				{
+					final Object[] constants = type.getEnumConstants();
+					final long ordinal = readVarint(in);
+					if (ordinal >= constants.length)
+					{
+						throw new ProtocolException("bad ordinal " + ordinal + " for " + type.getSimpleName());
+					}
+					return constants[(int) ordinal];
+				}
+			};
+
+		abstract void write(Buffer out, Object value);
+
+		abstract Object read(Buffer in, Class<?> type) throws IOException;
+
+		@Nullable
+		static Kind of(Class<?> type)
+		{
+			if (type == boolean.class || type == Boolean.class)
+			{
+				return BOOLEAN;
+			}
+			if (type == int.class || type == Integer.class)
+			{
+				return INT;
+			}
+			if (type == long.class || type == Long.class)
+			{
+				return LONG;
+			}
+			if (type == double.class || type == Double.class)
+			{
+				return DOUBLE;
+			}
+			if (type == String.class)
+			{
+				return STRING;
+			}
+			if (type == Color.class)
+			{
+				return COLOR;
+			}
+			if (type == WorldPoint.class)
+			{
+				return WORLD_POINT;
+			}
+			if (type.isEnum())
+			{
+				return ENUM;
+			}
+			return null;
+		}
+	}
+
+	static void writeVarint(Buffer out, long value)
+	{
+		while ((value & ~0x7FL) != 0)
+		{
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	static long readVarint(Buffer in) throws IOException
+	{
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7)
+		{
+			final byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new ProtocolException("malformed varint");
+	}
+}
@@ -44,6 +44,8 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.eventbus.EventBus;
@@ -216,6 +218,9 @@ public class PartyService
 		// Send info to other clients that this user successfully finished joining party
 		if (localMember != null && localMember == partyMember)
 		{
+			// advertise schemas first so that the replies to the sync can be sent in binary
+			wsClient.advertiseSchemas();
+
 			log.debug("Requesting sync");
 			final UserSync userSync = new UserSync();
 			wsClient.send(userSync);
@@ -231,6 +236,19 @@ public class PartyService
 		}
 	}
 
+	@Subscribe
+	public void onGameStateChanged(final GameStateChanged event)
+	{
+		// while logged in messages are batched up and sent once per tick
+		wsClient.setCoalesce(event.getGameState() == GameState.LOGGED_IN);
+	}
+
+	@Subscribe(priority = -1) // run after plugins so that the messages they send this tick are sent in this tick
+	public void onGameTick(final GameTick event)
+	{
+		wsClient.flush();
+	}
+
 	@Subscribe
 	public void onPartyChatMessage(final PartyChatMessage message)
 	{
@@ -27,10 +27,18 @@ package net.runelite.client.party;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -40,7 +48,9 @@ import net.runelite.client.RuneLite;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
+import net.runelite.client.party.messages.MessageSchemas;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -48,18 +58,33 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
 import okio.ByteString;
 
 @Slf4j
 @Singleton
 public class WSClient extends WebSocketListener implements AutoCloseable
 {
+	/**
+	 * Data type of a batch of binary messages. It is not a class name, so it is never confused for a json message.
+	 */
+	private static final String BATCH_TYPE = "$batch";
+
 	private final EventBus eventBus;
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<Class<? extends WebsocketMessage>, PartyCodec.Schema> schemas = new ConcurrentHashMap<>();
+	private final Map<Integer, PartyCodec.Schema> schemasById = new ConcurrentHashMap<>();
+	// party members, and the schemas they can read in binary
+	private final Map<Long, Set<Integer>> memberSchemas = new ConcurrentHashMap<>();
+	// binary messages waiting for the next flush
+	private final Buffer batch = new Buffer();
 
 	private volatile Gson gson;
+	private volatile long partyId;
+	private volatile long memberId;
+	private boolean coalesce;
 	@Getter
 	private UUID sessionId;
 	private WebSocket webSocket;
@@ -70,7 +95,6 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		this.eventBus = eventBus;
 		this.okHttpClient = okHttpClient;
 		this.runeliteWs = runeliteWs;
-		this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
 	}
 
 	public boolean sessionExists()
@@ -123,22 +147,70 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	public void registerMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.add(message))
+		synchronized (messages)
+		{
+			if (!messages.add(message))
+			{
+				return;
+			}
+			// several plugins register their messages on startup, so the gson is rebuilt when it is next used
+			gson = null;
+		}
+
+		final PartyCodec.Schema schema = PartyCodec.schema(message);
+		if (schema == null)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			log.debug("{} can't be encoded in binary, it will be sent as json", message.getSimpleName());
+			return;
 		}
+
+		schemas.put(message, schema);
+		schemasById.put(schema.getId(), schema);
+		advertiseSchemas();
 	}
 
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.remove(message))
+		synchronized (messages)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			if (!messages.remove(message))
+			{
+				return;
+			}
+			gson = null;
+		}
+
+		final PartyCodec.Schema schema = schemas.remove(message);
+		if (schema != null)
+		{
+			schemasById.remove(schema.getId());
+			advertiseSchemas();
 		}
 	}
 
+	private Gson gson()
+	{
+		Gson gson = this.gson;
+		if (gson == null)
+		{
+			synchronized (messages)
+			{
+				gson = this.gson;
+				if (gson == null)
+				{
+					gson = this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+				}
+			}
+		}
+		return gson;
+	}
+
 	void join(long partyId, long memberId)
 	{
+		this.partyId = partyId;
+		this.memberId = memberId;
+		memberSchemas.clear();
+
 		final Party.Join join = Party.Join.newBuilder()
 			.setPartyId(partyId)
 			.setMemberId(memberId)
@@ -151,6 +223,13 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	void part()
 	{
+		partyId = 0;
+		memberSchemas.clear();
+		synchronized (batch)
+		{
+			batch.clear();
+		}
+
 		final Party.Part part = Party.Part.newBuilder()
 			.build();
 		final Party.C2S c2s = Party.C2S.newBuilder()
@@ -159,18 +238,116 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		send(c2s);
 	}
 
+	/**
+	 * Tell the party which message types this client can read in binary
+	 */
+	void advertiseSchemas()
+	{
+		if (partyId == 0 || webSocket == null)
+		{
+			return;
+		}
+
+		final int[] ids = schemasById.keySet().stream()
+			.mapToInt(Integer::intValue)
+			.toArray();
+		send(new MessageSchemas(ids));
+	}
+
+	/**
+	 * Set whether binary messages are held until the next {@link #flush()}, so that
+	 * all of the messages sent in a tick go out in one frame
+	 */
+	void setCoalesce(boolean coalesce)
+	{
+		synchronized (batch)
+		{
+			this.coalesce = coalesce;
+			if (!coalesce)
+			{
+				flush();
+			}
+		}
+	}
+
 	void send(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
-		final Party.Data data = Party.Data.newBuilder()
-			.setType(message.getClass().getSimpleName())
-			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
-			.build();
-		final Party.C2S c2s = Party.C2S.newBuilder()
-			.setData(data)
-			.build();
-		send(c2s);
+		final PartyCodec.Schema schema = schemas.get(message.getClass());
+
+		synchronized (batch)
+		{
+			if (schema != null && canReadBinary(schema.getId()))
+			{
+				PartyCodec.write(batch, schema, message);
+				if (!coalesce)
+				{
+					flush();
+				}
+				return;
+			}
+
+			// send the batch first so that the messages arrive in the order they were sent
+			flush();
+
+			final String json = gson().toJson(message, WebsocketMessage.class);
+			final Party.Data data = Party.Data.newBuilder()
+				.setType(message.getClass().getSimpleName())
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+				.build();
+			final Party.C2S c2s = Party.C2S.newBuilder()
+				.setData(data)
+				.build();
+			send(c2s);
+		}
+	}
+
+	/**
+	 * Send the binary messages held since the last flush as one frame
+	 */
+	void flush()
+	{
+		synchronized (batch)
+		{
+			if (batch.size() == 0)
+			{
+				return;
+			}
+
+			final Party.Data data = Party.Data.newBuilder()
+				.setType(BATCH_TYPE)
+				.setData(com.google.protobuf.ByteString.copyFrom(batch.readByteArray()))
+				.build();
+			final Party.C2S c2s = Party.C2S.newBuilder()
+				.setData(data)
+				.build();
+			send(c2s);
+		}
+	}
+
+	/**
+	 * Binary messages are read by clients which don't know the schema as json, so they are
+	 * only sent once every other member has said it can read the schema. Members which have
+	 * not said which schemas they can read yet, such as right after joining, only read json.
+	 */
+	private boolean canReadBinary(int schemaId)
+	{
+		boolean others = false;
+		for (Map.Entry<Long, Set<Integer>> entry : memberSchemas.entrySet())
+		{
+			if (entry.getKey() == memberId)
+			{
+				continue;
+			}
+
+			if (!entry.getValue().contains(schemaId))
+			{
+				return false;
+			}
+			others = true;
+		}
+		// until the other members are known, assume there may be some which only read json
+		return others;
 	}
 
 	private void send(Party.C2S message)
@@ -217,23 +394,34 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		{
 			case JOIN:
 				Party.UserJoin join = s2c.getJoin();
+				if (join.getPartyId() == partyId)
+				{
+					memberSchemas.putIfAbsent(join.getMemberId(), Collections.emptySet());
+				}
 				UserJoin userJoin = new UserJoin(join.getPartyId(), join.getMemberId());
 				log.debug("Got: {}", userJoin);
 				eventBus.post(userJoin);
 				break;
 			case PART:
 				Party.UserPart part = s2c.getPart();
+				memberSchemas.remove(part.getMemberId());
 				UserPart userPart = new UserPart(part.getMemberId());
 				log.debug("Got: {}", userPart);
 				eventBus.post(userPart);
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
+				if (BATCH_TYPE.equals(data.getType()))
+				{
+					onBatch(data);
+					return;
+				}
+
 				final WebsocketMessage message;
 
 				try
 				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
+					message = gson().fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
 				}
 				catch (JsonParseException e)
 				{
@@ -241,14 +429,51 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 					return;
 				}
 
-				if (message instanceof PartyMemberMessage)
+				if (message instanceof MessageSchemas)
 				{
-					((PartyMemberMessage) message).setMemberId(data.getMemberId());
+					final int[] ids = ((MessageSchemas) message).getSchemas();
+					log.debug("Member {} reads schemas {}", data.getMemberId(), ids);
+					memberSchemas.put(data.getMemberId(), Arrays.stream(ids).boxed().collect(Collectors.toSet()));
 				}
+				else if (message instanceof UserSync && data.getMemberId() != memberId)
+				{
+					// let the new member know which messages it can send in binary
+					advertiseSchemas();
+				}
+
+				post(message, data.getMemberId());
+		}
+	}
+
+	private void onBatch(Party.PartyData data)
+	{
+		final List<WebsocketMessage> batchMessages;
+		try
+		{
+			final Buffer buffer = new Buffer().write(data.getData().toByteArray());
+			batchMessages = PartyCodec.read(buffer, schemasById::get, gson());
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.debug("Failed to deserialize message batch", e);
+			return;
+		}
+
+		for (WebsocketMessage message : batchMessages)
+		{
+			post(message, data.getMemberId());
+		}
+	}
 
-				log.debug("Got: {}", message);
-				eventBus.post(message);
+	private void post(WebsocketMessage message, long memberId)
+	{
+		if (message instanceof PartyMemberMessage)
+		{
+			((PartyMemberMessage) message).setMemberId(memberId);
 		}
+
+		log.debug("Got: {}", message);
+		eventBus.post(message);
 	}
 
 	@Override
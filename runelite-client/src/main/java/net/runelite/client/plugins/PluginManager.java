@@ -26,12 +26,14 @@ package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -39,6 +41,7 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -49,14 +52,23 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -65,6 +77,7 @@ import javax.swing.SwingUtilities;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.RuneLite;
+import net.runelite.client.StartupTrace;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
@@ -88,6 +101,10 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * How long to start plugins for in each pass on the EDT before letting it repaint the splash screen
+	 */
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -229,21 +246,34 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		Iterator<Plugin> it = scannedPlugins.iterator();
+		AtomicInteger loaded = new AtomicInteger();
+		while (it.hasNext())
 		{
 			try
 			{
+				// start as many plugins as fit in a batch per trip to the EDT, rather than one per trip
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
-					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
+					try (StartupTrace.Span span = StartupTrace.begin("Start plugin batch"))
 					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						long end = System.nanoTime() + START_BATCH_NANOS;
+						do
+						{
+							Plugin plugin = it.next();
+							try
+							{
+								startPlugin(plugin);
+							}
+							catch (PluginInstantiationException ex)
+							{
+								log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+								plugins.remove(plugin);
+							}
+
+							SplashScreen.stage(.80, 1, null, "Starting plugins", loaded.incrementAndGet(), scannedPlugins.size(), false);
+						}
+						while (it.hasNext() && System.nanoTime() < end);
 					}
 				});
 			}
@@ -251,9 +281,6 @@ public class PluginManager
 			{
 				throw new RuntimeException(e);
 			}
-
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
 		}
 
 		for (Plugin plugin : plugins)
@@ -265,16 +292,65 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		// in developer mode the manifest may be out of date with the classes being run
+		List<Class<?>> plugins = developerMode ? null : loadManifestPlugins();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Load the core plugin classes listed in the plugin manifest, which avoids loading every class
+	 * in the plugin package to find them.
+	 *
+	 * @return the plugin classes, or null if there is no manifest or it is out of date
+	 */
+	@Nullable
+	private List<Class<?>> loadManifestPlugins() throws IOException
+	{
+		final List<PluginManifest.Entry> entries;
+		try (InputStream in = PluginManager.class.getResourceAsStream(PluginManifest.RESOURCE))
+		{
+			if (in == null)
+			{
+				log.debug("No plugin manifest, scanning for plugins");
+				return null;
+			}
+
+			entries = PluginManifest.read(in);
+		}
+
+		final List<Class<?>> plugins = new ArrayList<>(entries.size());
+		for (PluginManifest.Entry entry : entries)
+		{
+			// these would be skipped by loadPlugins, so don't load their classes at all
+			if (entry.isDeveloperPlugin() || (isOutdated && !entry.isLoadWhenOutdated()))
+			{
+				continue;
+			}
+
+			try
+			{
+				plugins.add(Class.forName(entry.getClassName(), false, getClass().getClassLoader()));
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Plugin manifest is out of date, {} is missing. Scanning for plugins", entry.getClassName());
+				return null;
+			}
+		}
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -382,29 +458,82 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
+		// plugins are instantiated a level at a time, so they are kept by their position in the sorted order
+		// and added in that order once all are done, so that they start in the same order as before
+		final Map<Class<? extends Plugin>, Integer> positions = new HashMap<>();
+		for (int i = 0; i < sortedPlugins.size(); ++i)
+		{
+			positions.put(sortedPlugins.get(i), i);
+		}
+		final Plugin[] instantiated = new Plugin[sortedPlugins.size()];
+		// plugins which dependencies are looked up in. Only added to between levels, while no plugin is being instantiated.
+		final List<Plugin> available = new ArrayList<>(this.plugins);
+
 		int loaded = 0;
-		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(sortedPlugins.size(), Runtime.getRuntime().availableProcessors())),
+			new ThreadFactoryBuilder()
+				.setNameFormat("plugin-loader-%d")
+				.setDaemon(true)
+				.build());
+		try
 		{
-			Plugin plugin;
-			try
+			// plugins only depend on plugins in earlier levels, so the plugins of a level are instantiated in parallel
+			for (List<Class<? extends Plugin>> level : dependencyLevels(graph, sortedPlugins))
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.error("Error instantiating plugin!", ex);
+				List<Future<Plugin>> futures = new ArrayList<>(level.size());
+				for (Class<? extends Plugin> pluginClazz : level)
+				{
+					futures.add(executor.submit(() ->
+					{
+						try (StartupTrace.Span span = StartupTrace.begin("Instantiate " + pluginClazz.getSimpleName()))
+						{
+							return instantiate(available, (Class<Plugin>) pluginClazz);
+						}
+					}));
+				}
+
+				for (int i = 0; i < futures.size(); ++i)
+				{
+					try
+					{
+						Plugin plugin = futures.get(i).get();
+						instantiated[positions.get(level.get(i))] = plugin;
+						available.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						Throwables.throwIfUnchecked(ex.getCause());
+						log.error("Error instantiating plugin!", ex.getCause());
+					}
+					catch (InterruptedException ex)
+					{
+						Thread.currentThread().interrupt();
+						throw new PluginInstantiationException(ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, sortedPlugins.size());
+					}
+				}
 			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
 
-			loaded++;
-			if (onPluginLoaded != null)
+		List<Plugin> newPlugins = new ArrayList<>(instantiated.length);
+		for (Plugin plugin : instantiated)
+		{
+			if (plugin != null)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				newPlugins.add(plugin);
 			}
 		}
-
+		this.plugins.addAll(newPlugins);
 		return newPlugins;
 	}
 
@@ -435,7 +564,10 @@ public class PluginManager
 
 		try
 		{
-			plugin.startUp();
+			try (StartupTrace.Span span = StartupTrace.begin("Start " + plugin.getClass().getSimpleName()))
+			{
+				plugin.startUp();
+			}
 
 			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
 			if (!isOutdated && sceneTileManager != null)
@@ -705,6 +837,36 @@ public class PluginManager
 		return l;
 	}
 
+	/**
+	 * Group the nodes of a dependency graph by how deep their dependency chains are. The nodes
+	 * in each level only depend on nodes in earlier levels.
+	 *
+	 * @param graph the graph, with edges from dependencies to their dependents
+	 * @param sorted the nodes of the graph in topological order
+	 * @return the levels, each in topological order
+	 */
+	static <T> List<List<T>> dependencyLevels(Graph<T> graph, List<T> sorted)
+	{
+		Map<T, Integer> depth = new HashMap<>();
+		List<List<T>> levels = new ArrayList<>();
+		for (T node : sorted)
+		{
+			int d = 0;
+			for (T dependency : graph.predecessors(node))
+			{
+				d = Math.max(d, depth.get(dependency) + 1);
+			}
+			depth.put(node, d);
+
+			if (d == levels.size())
+			{
+				levels.add(new ArrayList<>());
+			}
+			levels.get(d).add(node);
+		}
+		return levels;
+	}
+
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
 	{
 		Set<String> conflicts;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * The core plugins, as listed by the build-plugin-manifest goal of the maven plugin. Each line is
+ * a plugin, with tab separated class name, name, config name, flags, dependencies and config groups.
+ */
+class PluginManifest
+{
+	static final String RESOURCE = "plugins.manifest";
+
+	private static final Splitter TAB = Splitter.on('\t');
+	private static final Splitter COMMA = Splitter.on(',').omitEmptyStrings();
+
+	@Value
+	static class Entry
+	{
+		String className;
+		String name;
+		String configName;
+		List<String> flags;
+		List<String> dependencies;
+		List<String> configGroups;
+
+		boolean isDeveloperPlugin()
+		{
+			return flags.contains("developerPlugin");
+		}
+
+		boolean isLoadWhenOutdated()
+		{
+			return flags.contains("loadWhenOutdated");
+		}
+	}
+
+	private PluginManifest()
+	{
+	}
+
+	static List<Entry> read(InputStream in) throws IOException
+	{
+		final List<Entry> entries = new ArrayList<>();
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		for (String line; (line = reader.readLine()) != null; )
+		{
+			if (line.isEmpty())
+			{
+				continue;
+			}
+
+			final List<String> fields = TAB.splitToList(line);
+			if (fields.size() != 6)
+			{
+				throw new IOException("malformed plugin manifest line: " + line);
+			}
+
+			entries.add(new Entry(fields.get(0), fields.get(1), fields.get(2),
+				COMMA.splitToList(fields.get(3)), COMMA.splitToList(fields.get(4)), COMMA.splitToList(fields.get(5))));
+		}
+		return entries;
+	}
+}
@@ -370,6 +370,7 @@ public class AttackStylesPlugin extends Plugin
 			}
 		}
 		updateWidgetsToHide(config.removeWarnedStyles());
+		overlay.markDirty();
 	}
 
 	private void updateWidgetsToHide(boolean enabled)
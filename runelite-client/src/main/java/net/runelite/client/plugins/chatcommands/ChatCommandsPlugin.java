@@ -42,11 +42,12 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.inject.Named;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
@@ -185,7 +186,8 @@ public class ChatCommandsPlugin extends Plugin
 	private ChatCommandManager chatCommandManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	@Named("httpExecutor")
+	private ExecutorService executor;
 
 	@Inject
 	private KeyManager keyManager;
@@ -31,6 +31,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -38,7 +39,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -67,6 +67,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.MultiPatternMatcher;
 import net.runelite.client.util.Text;
 import org.apache.commons.lang3.StringUtils;
 
@@ -98,7 +99,7 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
-	private List<Pattern> filteredPatterns = Collections.emptyList();
+	private MultiPatternMatcher filteredMatcher = MultiPatternMatcher.EMPTY;
 	private List<Pattern> filteredNamePatterns = Collections.emptyList();
 
 	private static class Duplicate
@@ -153,7 +154,7 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns = Collections.emptyList();
+		filteredMatcher = MultiPatternMatcher.EMPTY;
 		filteredNamePatterns = Collections.emptyList();
 		duplicateChatCache.clear();
 		filterCache.clear();
@@ -362,38 +363,26 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		final ChatFilterType filterType = config.filterType();
+		if (filterType != ChatFilterType.CENSOR_WORDS)
 		{
-			Matcher m = pattern.matcher(strippedAccents);
-
-			StringBuilder sb = new StringBuilder();
-			int idx = 0;
-
-			while (m.find())
+			if (!filteredMatcher.find(strippedAccents))
 			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						MatchResult matchResult = m.toMatchResult();
-						sb.append(strippedMessage, idx, matchResult.start())
-							.append(StringUtils.repeat('*', matchResult.group().length()));
-						idx = m.end();
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
+				return message;
 			}
-			sb.append(strippedMessage.substring(idx));
-
-			strippedMessage = sb.toString();
-			assert strippedMessage.length() == strippedAccents.length();
+			return filterType == ChatFilterType.CENSOR_MESSAGE ? CENSOR_MESSAGE : null;
 		}
 
-		return filtered ? strippedMessage : message;
+		// matches are found in the accent stripped message, but censored in the original
+		final char[] censored = strippedMessage.toCharArray();
+		final boolean[] filtered = new boolean[1];
+		filteredMatcher.findAll(strippedAccents, (start, end) ->
+		{
+			Arrays.fill(censored, start, end, '*');
+			filtered[0] = true;
+		});
+
+		return filtered[0] ? new String(censored) : message;
 	}
 
 	private String censorMessage(MessageNode messageNode, String username, String message)
@@ -417,13 +406,13 @@ public class ChatFilterPlugin extends Plugin
 
 	void updateFilteredPatterns()
 	{
+		List<String> words = new ArrayList<>();
 		List<Pattern> patterns = new ArrayList<>();
 		List<Pattern> namePatterns = new ArrayList<>();
 
 		Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.forEach(words::add);
 
 		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(this::stripAccents)
@@ -437,7 +426,7 @@ public class ChatFilterPlugin extends Plugin
 			.filter(Objects::nonNull)
 			.forEach(namePatterns::add);
 
-		filteredPatterns = patterns;
+		filteredMatcher = new MultiPatternMatcher(words, patterns, true);
 		filteredNamePatterns = namePatterns;
 
 		filterCache.clear();
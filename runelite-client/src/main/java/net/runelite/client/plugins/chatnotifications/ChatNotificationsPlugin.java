@@ -32,6 +32,7 @@ import com.google.common.base.Strings;
 import com.google.inject.Provides;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -53,6 +54,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.MultiPatternMatcher;
 import net.runelite.client.util.Text;
 
 @PluginDescriptor(
@@ -76,9 +78,15 @@ public class ChatNotificationsPlugin extends Plugin
 	@Named("runelite.title")
 	private String runeliteTitle;
 
+	// the color tags which highlight words may be split by
+	private static final Pattern COLOR_TAG_PATTERN = Pattern.compile("<col=[^>]*>");
+
 	//Custom Highlights
 	private Pattern usernameMatcher = null;
 	private final List<Pattern> highlightPatterns = new ArrayList<>();
+	// highlight words pattern, and a quick check for whether any of the words are in a message before running it
+	private Pattern highlightWordsPattern = null;
+	private MultiPatternMatcher highlightWords = MultiPatternMatcher.EMPTY;
 
 	@Provides
 	ChatNotificationsConfig provideConfig(ConfigManager configManager)
@@ -97,6 +105,8 @@ public class ChatNotificationsPlugin extends Plugin
 	{
 		usernameMatcher = null;
 		highlightPatterns.clear();
+		highlightWordsPattern = null;
+		highlightWords = MultiPatternMatcher.EMPTY;
 	}
 
 	@Subscribe
@@ -123,17 +133,22 @@ public class ChatNotificationsPlugin extends Plugin
 	private void updateHighlights()
 	{
 		highlightPatterns.clear();
+		highlightWordsPattern = null;
+		highlightWords = MultiPatternMatcher.EMPTY;
 
 		if (!config.highlightWordsString().trim().equals(""))
 		{
-			List<String> items = Text.fromCSV(config.highlightWordsString());
-			String joined = items.stream()
+			List<String> items = Text.fromCSV(config.highlightWordsString()).stream()
 				.map(Text::escapeJagex) // we compare these strings to the raw Jagex ones
+				.collect(Collectors.toList());
+			String joined = items.stream()
 				.map(this::quoteAndIgnoreColor) // regex escape and ignore nested colors in the target message
 				.collect(Collectors.joining("|"));
 			// To match <word> \b doesn't work due to <> not being in \w,
 			// so match \b or \s, as well as \A and \z for beginning and end of input respectively
-			highlightPatterns.add(Pattern.compile("(?:\\b|(?<=\\s)|\\A)(?:" + joined + ")(?:\\b|(?=\\s)|\\z)", Pattern.CASE_INSENSITIVE));
+			highlightWordsPattern = Pattern.compile("(?:\\b|(?<=\\s)|\\A)(?:" + joined + ")(?:\\b|(?=\\s)|\\z)", Pattern.CASE_INSENSITIVE);
+			highlightWords = new MultiPatternMatcher(items, Collections.emptyList(), true);
+			highlightPatterns.add(highlightWordsPattern);
 		}
 
 		Splitter
@@ -274,6 +289,11 @@ public class ChatNotificationsPlugin extends Plugin
 
 		for (Pattern pattern : highlightPatterns)
 		{
+			if (pattern == highlightWordsPattern && !highlightWords.isEmpty() && !containsHighlightWord(nodeValue))
+			{
+				continue;
+			}
+
 			Matcher matcher = pattern.matcher(nodeValue);
 			if (!matcher.find())
 			{
@@ -317,6 +337,15 @@ public class ChatNotificationsPlugin extends Plugin
 		}
 	}
 
+	/**
+	 * Check if a message may contain a highlight word, which is much cheaper than running
+	 * the highlight words pattern over it when there are many words.
+	 */
+	private boolean containsHighlightWord(String message)
+	{
+		return highlightWords.find(message) || highlightWords.find(COLOR_TAG_PATTERN.matcher(message).replaceAll(""));
+	}
+
 	private void sendNotification(Notification notification, ChatMessage message)
 	{
 		String name = Text.removeTags(message.getName());
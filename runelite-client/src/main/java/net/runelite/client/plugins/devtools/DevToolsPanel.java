@@ -60,6 +60,8 @@ class DevToolsPanel extends PluginPanel
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
+	private final EventProfiler eventProfiler;
+	private final ExecutorInspector executorInspector;
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
@@ -72,6 +74,8 @@ class DevToolsPanel extends PluginPanel
 		WidgetInspector widgetInspector,
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
+		EventProfiler eventProfiler,
+		ExecutorInspector executorInspector,
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
@@ -85,6 +89,8 @@ class DevToolsPanel extends PluginPanel
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
 		this.scriptInspector = scriptInspector;
+		this.eventProfiler = eventProfiler;
+		this.executorInspector = executorInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
@@ -157,6 +163,12 @@ class DevToolsPanel extends PluginPanel
 		container.add(plugin.getScriptInspector());
 		plugin.getScriptInspector().addFrame(scriptInspector);
 
+		container.add(plugin.getEventProfiler());
+		plugin.getEventProfiler().addFrame(eventProfiler);
+
+		container.add(plugin.getExecutorInspector());
+		plugin.getExecutorInspector().addFrame(executorInspector);
+
 		final JButton newInfoboxBtn = new JButton("Infobox");
 		newInfoboxBtn.addActionListener(e ->
 		{
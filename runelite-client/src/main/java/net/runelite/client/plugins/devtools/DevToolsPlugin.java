@@ -164,6 +164,8 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
+	private DevToolsButton eventProfiler;
+	private DevToolsButton executorInspector;
 	private DevToolsButton inventoryInspector;
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
@@ -265,6 +267,8 @@ public class DevToolsPlugin extends Plugin
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
+		eventProfiler = new DevToolsButton("Event Profiler");
+		executorInspector = new DevToolsButton("Executors");
 		inventoryInspector = new DevToolsButton("Inventory Inspector");
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
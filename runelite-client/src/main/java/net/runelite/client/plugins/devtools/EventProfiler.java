@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableRowSorter;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventBusProfiler;
+import net.runelite.client.eventbus.EventBusProfiler.SubscriberProfile;
+
+class EventProfiler extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private static final int COL_SUBSCRIBER = 0;
+	private static final int COL_EVENT = 1;
+	private static final int COL_INVOCATIONS = 2;
+	private static final int COL_TOTAL = 3;
+	private static final int COL_AVERAGE = 4;
+	private static final int COL_MAX = 5;
+	private static final int COL_ALLOCATED = 6;
+	private static final String[] COLUMNS = {"Subscriber", "Event", "Calls", "Total (ms)", "Avg (us)", "Max (us)", "Alloc (KB)"};
+
+	private final EventBus eventBus;
+	private final ProfileTableModel tableModel = new ProfileTableModel();
+	private final JCheckBox trackAllocations = new JCheckBox("Track allocations");
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	EventProfiler(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+
+		setTitle("RuneLite Event Profiler");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(tableModel);
+		final TableRowSorter<ProfileTableModel> sorter = new TableRowSorter<>(tableModel);
+		sorter.setSortKeys(List.of(new RowSorter.SortKey(COL_TOTAL, SortOrder.DESCENDING)));
+		table.setRowSorter(sorter);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			EventBusProfiler profiler = eventBus.getProfiler();
+			if (profiler != null)
+			{
+				profiler.reset();
+			}
+			refresh();
+		});
+
+		// the profiler has to be recreated to change allocation tracking
+		trackAllocations.addActionListener(e -> eventBus.setProfiler(new EventBusProfiler(trackAllocations.isSelected())));
+
+		final JPanel bottomRow = new JPanel(new FlowLayout());
+		bottomRow.add(resetBtn);
+		bottomRow.add(trackAllocations);
+		add(bottomRow, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		EventBusProfiler profiler = eventBus.getProfiler();
+		tableModel.setProfiles(profiler != null ? profiler.snapshot() : List.of());
+	}
+
+	@Override
+	public void open()
+	{
+		eventBus.setProfiler(new EventBusProfiler(trackAllocations.isSelected()));
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+		eventBus.setProfiler(null);
+	}
+
+	private static class ProfileTableModel extends AbstractTableModel
+	{
+		private List<SubscriberProfile> profiles = new ArrayList<>();
+
+		void setProfiles(List<SubscriberProfile> profiles)
+		{
+			this.profiles = profiles;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return col == COL_SUBSCRIBER || col == COL_EVENT ? String.class : Long.class;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return profiles.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			SubscriberProfile profile = profiles.get(row);
+			switch (col)
+			{
+				case COL_SUBSCRIBER:
+					return profile.getSubscriber();
+				case COL_EVENT:
+					return profile.getEventType().substring(profile.getEventType().lastIndexOf('.') + 1);
+				case COL_INVOCATIONS:
+					return profile.getInvocations();
+				case COL_TOTAL:
+					return profile.getTotalNanos() / 1_000_000L;
+				case COL_AVERAGE:
+					return profile.getInvocations() == 0 ? 0L : profile.getTotalNanos() / profile.getInvocations() / 1_000L;
+				case COL_MAX:
+					return profile.getMaxNanos() / 1_000L;
+				case COL_ALLOCATED:
+					return profile.getAllocatedBytes() < 0 ? null : profile.getAllocatedBytes() / 1024L;
+				default:
+					return null;
+			}
+		}
+	}
+}
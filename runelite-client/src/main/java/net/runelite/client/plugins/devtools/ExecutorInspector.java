@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.task.MonitoredExecutor;
+
+class ExecutorInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private static final int COL_NAME = 0;
+	private static final int COL_THREADS = 1;
+	private static final int COL_ACTIVE = 2;
+	private static final int COL_QUEUED = 3;
+	private static final int COL_COMPLETED = 4;
+	private static final int COL_REJECTED = 5;
+	private static final int COL_AVERAGE_WAIT = 6;
+	private static final int COL_MAX_WAIT = 7;
+	private static final int COL_AVERAGE_RUN = 8;
+	private static final String[] COLUMNS = {"Executor", "Threads", "Active", "Queued", "Completed", "Rejected", "Avg wait (ms)", "Max wait (ms)", "Avg run (ms)"};
+
+	private final List<MonitoredExecutor> executors;
+	private final StatsTableModel tableModel = new StatsTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	ExecutorInspector(
+		@Named("ioExecutor") MonitoredExecutor ioExecutor,
+		@Named("computeExecutor") MonitoredExecutor computeExecutor,
+		@Named("httpExecutor") MonitoredExecutor httpExecutor)
+	{
+		executors = List.of(ioExecutor, computeExecutor, httpExecutor);
+
+		setTitle("RuneLite Executor Inspector");
+		setLayout(new BorderLayout());
+
+		final JScrollPane scrollPane = new JScrollPane(new JTable(tableModel));
+		scrollPane.setPreferredSize(new Dimension(900, 100));
+		add(scrollPane, BorderLayout.CENTER);
+
+		pack();
+	}
+
+	private void refresh()
+	{
+		final List<MonitoredExecutor.Stats> stats = new ArrayList<>(executors.size());
+		for (MonitoredExecutor executor : executors)
+		{
+			stats.add(executor.getStats());
+		}
+		tableModel.setStats(stats);
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+	}
+
+	private static class StatsTableModel extends AbstractTableModel
+	{
+		private List<MonitoredExecutor.Stats> stats = new ArrayList<>();
+
+		void setStats(List<MonitoredExecutor.Stats> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return col == COL_NAME ? String.class : Long.class;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			MonitoredExecutor.Stats s = stats.get(row);
+			switch (col)
+			{
+				case COL_NAME:
+					return s.getName();
+				case COL_THREADS:
+					return (long) s.getThreads();
+				case COL_ACTIVE:
+					return (long) s.getActive();
+				case COL_QUEUED:
+					return (long) s.getQueued();
+				case COL_COMPLETED:
+					return s.getCompleted();
+				case COL_REJECTED:
+					return s.getRejected();
+				case COL_AVERAGE_WAIT:
+					return s.getCompleted() == 0 ? 0L : s.getQueueNanos() / s.getCompleted() / 1_000_000L;
+				case COL_MAX_WAIT:
+					return s.getMaxQueueNanos() / 1_000_000L;
+				case COL_AVERAGE_RUN:
+					return s.getCompleted() == 0 ? 0L : s.getRunNanos() / s.getCompleted() / 1_000_000L;
+				default:
+					return null;
+			}
+		}
+	}
+}
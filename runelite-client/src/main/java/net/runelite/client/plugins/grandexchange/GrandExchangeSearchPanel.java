@@ -177,43 +177,38 @@ class GrandExchangeSearchPanel extends JPanel
 			return;
 		}
 
-		List<ItemPrice> result = itemManager.search(searchBar.getText());
+		// move to client thread to lookup item composition
+		final String lookup = searchBar.getText();
+		clientThread.invokeLater(() -> processResult(lookup, exactMatch));
+	}
+
+	private void processResult(String lookup, boolean exactMatch)
+	{
+		// the untradeable items are filtered within the search, so they don't use up its limit
+		final List<ItemPrice> result = itemManager.search(lookup, MAX_SEARCH_ITEMS,
+			item -> itemManager.getItemComposition(item.getId()).isTradeable());
 		if (result.isEmpty())
 		{
-			searchBar.setIcon(IconTextField.Icon.ERROR);
-			errorPanel.setContent("No results found.", "No items were found with that name, please try again.");
-			cardLayout.show(centerPanel, ERROR_PANEL);
-			searchBar.setEditable(true);
+			SwingUtilities.invokeLater(() ->
+			{
+				searchBar.setIcon(IconTextField.Icon.ERROR);
+				errorPanel.setContent("No results found.", "No items were found with that name, please try again.");
+				cardLayout.show(centerPanel, ERROR_PANEL);
+				searchBar.setEditable(true);
+			});
 			return;
 		}
 
-		// move to client thread to lookup item composition
-		clientThread.invokeLater(() -> processResult(result, searchBar.getText(), exactMatch));
-	}
-
-	private void processResult(List<ItemPrice> result, String lookup, boolean exactMatch)
-	{
 		final List<GrandExchangeItems> itemsList = new ArrayList<>();
 
 		cardLayout.show(centerPanel, RESULTS_PANEL);
 
-		int count = 0;
 		boolean useActivelyTradedPrice = runeLiteConfig.useWikiItemPrices();
 
 		for (ItemPrice item : result)
 		{
 			int itemId = item.getId();
 			ItemComposition itemComp = itemManager.getItemComposition(itemId);
-			if (!itemComp.isTradeable())
-			{
-				continue;
-			}
-
-			if (count++ > MAX_SEARCH_ITEMS)
-			{
-				// Cap search
-				break;
-			}
 
 			ItemStats itemStats = itemManager.getItemStats(itemId);
 
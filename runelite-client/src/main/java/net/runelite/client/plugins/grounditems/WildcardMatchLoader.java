@@ -34,14 +34,14 @@ import net.runelite.client.util.WildcardMatcher;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
-	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcher.PatternSet<ItemThreshold> itemThresholds;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
-		this.itemThresholds = configEntries.stream()
+		this.itemThresholds = WildcardMatcher.compile(configEntries.stream()
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
+			.collect(Collectors.toList()), ItemThreshold::getItemName);
 	}
 
 	@Override
@@ -53,16 +53,8 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 		}
 
 		final String filteredName = key.getName().trim();
+		final int quantity = key.getQuantity();
 
-		for (final ItemThreshold entry : itemThresholds)
-		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return itemThresholds.match(filteredName, entry -> entry.quantityHolds(quantity)) != null;
 	}
 }
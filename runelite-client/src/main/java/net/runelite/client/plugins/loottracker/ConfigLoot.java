@@ -25,15 +25,16 @@
 package net.runelite.client.plugins.loottracker;
 
 import java.time.Instant;
-import java.util.Arrays;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import net.runelite.http.api.loottracker.LootRecordType;
 
+/**
+ * Loot as it was stored in the RuneScape profile config by older versions of the plugin. It is migrated into
+ * a {@link LootStore} when the profile is loaded.
+ */
 @Data
 @NoArgsConstructor
-@EqualsAndHashCode(of = {"type", "name"})
 class ConfigLoot
 {
 	LootRecordType type;
@@ -42,32 +43,4 @@ class ConfigLoot
 	Instant first = Instant.now();
 	Instant last;
 	int[] drops;
-
-	ConfigLoot(LootRecordType type, String name)
-	{
-		this.type = type;
-		this.name = name;
-		this.drops = new int[0];
-	}
-
-	void add(int id, int qty)
-	{
-		for (int i = 0; i < drops.length; i += 2)
-		{
-			if (drops[i] == id)
-			{
-				drops[i + 1] += qty;
-				return;
-			}
-		}
-
-		drops = Arrays.copyOf(drops, drops.length + 2);
-		drops[drops.length - 2] = id;
-		drops[drops.length - 1] = qty;
-	}
-
-	int numDrops()
-	{
-		return drops.length / 2;
-	}
 }
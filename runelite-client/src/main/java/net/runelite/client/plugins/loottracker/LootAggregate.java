@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * The total loot received from one source. Drops are kept in insertion order in parallel id and
+ * quantity arrays, with an open addressing table over them for finding an item's slot.
+ */
+@Getter
+class LootAggregate
+{
+	@NonNull
+	private final LootRecordType type;
+	@NonNull
+	private final String name;
+	private int kills;
+	/**
+	 * time of the first and last loot in epoch milliseconds
+	 */
+	private long first;
+	private long last;
+
+	@Getter(AccessLevel.NONE)
+	private int[] ids = new int[4];
+	@Getter(AccessLevel.NONE)
+	private int[] quantities = new int[4];
+	@Getter(AccessLevel.NONE)
+	private int size;
+	// slot + 1 of each id, or 0 for an empty bucket
+	@Getter(AccessLevel.NONE)
+	private int[] table = new int[8];
+
+	LootAggregate(LootRecordType type, String name, long first, long last)
+	{
+		this.type = type;
+		this.name = name;
+		this.first = first;
+		this.last = last;
+	}
+
+	LootAggregate(LootAggregate other)
+	{
+		this(other.type, other.name, other.first, other.last);
+		addAll(other);
+	}
+
+	/**
+	 * Add kills to the aggregate
+	 */
+	void addKills(int kills)
+	{
+		this.kills += kills;
+	}
+
+	/**
+	 * Add a drop to the aggregate, merging it with any earlier drop of the same item
+	 */
+	void add(int id, int qty)
+	{
+		int mask = table.length - 1;
+		int bucket = mix(id) & mask;
+		for (int slot; (slot = table[bucket]) != 0; bucket = (bucket + 1) & mask)
+		{
+			if (ids[slot - 1] == id)
+			{
+				quantities[slot - 1] += qty;
+				return;
+			}
+		}
+
+		if (size == ids.length)
+		{
+			ids = Arrays.copyOf(ids, size * 2);
+			quantities = Arrays.copyOf(quantities, size * 2);
+		}
+		ids[size] = id;
+		quantities[size] = qty;
+		table[bucket] = ++size;
+
+		if (size * 2 > table.length)
+		{
+			rehash(table.length * 2);
+		}
+	}
+
+	/**
+	 * Merge the kills, drops, and times of another aggregate into this one
+	 */
+	void addAll(LootAggregate other)
+	{
+		kills += other.kills;
+		first = Math.min(first, other.first);
+		last = Math.max(last, other.last);
+		for (int i = 0; i < other.size; ++i)
+		{
+			add(other.ids[i], other.quantities[i]);
+		}
+	}
+
+	int numDrops()
+	{
+		return size;
+	}
+
+	int getId(int drop)
+	{
+		return ids[drop];
+	}
+
+	int getQuantity(int drop)
+	{
+		return quantities[drop];
+	}
+
+	private void rehash(int capacity)
+	{
+		table = new int[capacity];
+		int mask = capacity - 1;
+		for (int i = 0; i < size; ++i)
+		{
+			int bucket = mix(ids[i]) & mask;
+			while (table[bucket] != 0)
+			{
+				bucket = (bucket + 1) & mask;
+			}
+			table[bucket] = i + 1;
+		}
+	}
+
+	private static int mix(int id)
+	{
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
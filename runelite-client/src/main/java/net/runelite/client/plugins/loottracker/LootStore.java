@@ -0,0 +1,629 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * The loot of one RuneScape profile. Changes are appended as records to a journal file, and the loot is
+ * kept aggregated in memory per source. The journal is rewritten with one record per source once it grows
+ * large relative to the loot it holds.
+ * <p>
+ * Journal layout: magic, version, then records of (length, crc32, payload). A record which fails its
+ * length or crc check, such as one torn by a crash, ends the journal and is truncated by the next writer.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int JOURNAL_MAGIC = 0x524c4c4a; // RLLJ
+	private static final int JOURNAL_VERSION = 1;
+	private static final int JOURNAL_HEADER_SIZE = 8;
+	private static final int RECORD_HEADER_SIZE = 8;
+	private static final byte OP_SET = 0;
+	private static final byte OP_ADD = 1;
+	private static final byte OP_REMOVE = 2;
+	private static final byte OP_CLEAR = 3;
+
+	// compact once the journal exceeds this, or COMPACT_RATIO times the size of the compacted journal, whichever is larger
+	private static final long COMPACT_MIN_SIZE = 64 * 1024;
+	private static final int COMPACT_RATIO = 2;
+
+	private final File file;
+	private final Map<String, LootAggregate> loot = new HashMap<>();
+	// loot last received before this is dropped on load and compaction
+	private long expireBefore = Long.MIN_VALUE;
+	// the journal length this instance knows to be valid
+	private long journalLength;
+	// the offset and checksum of the last record this instance knows of, used to tell whether another client has
+	// rewritten the journal, which may leave it at the same length
+	private long lastRecordOffset;
+	private int lastRecordCrc;
+
+	LootStore(File file)
+	{
+		this.file = file;
+	}
+
+	static String key(LootRecordType type, String name)
+	{
+		return type + "_" + name;
+	}
+
+	/**
+	 * Load the loot from the journal, dropping and compacting away loot last received before expireBefore
+	 */
+	synchronized void load(long expireBefore) throws IOException
+	{
+		this.expireBefore = expireBefore;
+		loot.clear();
+		journalLength = 0L;
+		lastRecordOffset = 0L;
+
+		if (!file.exists())
+		{
+			return;
+		}
+
+		withLock(this::replay);
+
+		if (loot.values().removeIf(l -> l.getLast() < expireBefore) || needsCompaction())
+		{
+			compact();
+		}
+	}
+
+	/**
+	 * Add loot, merging it with the existing loot of each source
+	 */
+	synchronized void add(Collection<LootAggregate> added) throws IOException
+	{
+		write(OP_ADD, added);
+		for (LootAggregate l : added)
+		{
+			LootAggregate existing = loot.get(key(l.getType(), l.getName()));
+			if (existing == null)
+			{
+				loot.put(key(l.getType(), l.getName()), new LootAggregate(l));
+			}
+			else
+			{
+				existing.addAll(l);
+			}
+		}
+		compactIfNeeded();
+	}
+
+	/**
+	 * Set the loot of sources, replacing their existing loot
+	 */
+	synchronized void set(Collection<LootAggregate> replaced) throws IOException
+	{
+		write(OP_SET, replaced);
+		for (LootAggregate l : replaced)
+		{
+			loot.put(key(l.getType(), l.getName()), new LootAggregate(l));
+		}
+		compactIfNeeded();
+	}
+
+	/**
+	 * Remove the loot of a source
+	 */
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(OP_REMOVE);
+		writeString(out, type.name());
+		writeString(out, name);
+
+		appendJournal(frame(bout.toByteArray()));
+		loot.remove(key(type, name));
+		compactIfNeeded();
+	}
+
+	/**
+	 * Remove all loot
+	 */
+	synchronized void clear() throws IOException
+	{
+		appendJournal(frame(new byte[]{OP_CLEAR}));
+		loot.clear();
+		compactIfNeeded();
+	}
+
+	/**
+	 * Get a copy of all loot, ordered by when it was last received
+	 */
+	synchronized List<LootAggregate> getLoot()
+	{
+		List<LootAggregate> copy = new ArrayList<>(loot.size());
+		for (LootAggregate l : loot.values())
+		{
+			copy.add(new LootAggregate(l));
+		}
+		copy.sort(Comparator.comparingLong(LootAggregate::getLast));
+		return copy;
+	}
+
+	/**
+	 * Get a copy of the loot of a source, or null if there is none
+	 */
+	synchronized LootAggregate get(LootRecordType type, String name)
+	{
+		LootAggregate l = loot.get(key(type, name));
+		return l != null ? new LootAggregate(l) : null;
+	}
+
+	synchronized int size()
+	{
+		return loot.size();
+	}
+
+	/**
+	 * Rewrite the journal with a single record per source
+	 */
+	synchronized void compact() throws IOException
+	{
+		withLock(() ->
+		{
+			// pick up records appended by other clients since this one loaded the journal
+			if (file.exists() && !isCurrent())
+			{
+				replay();
+			}
+			loot.values().removeIf(l -> l.getLast() < expireBefore);
+
+			ByteArrayOutputStream bout = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bout);
+			out.writeInt(JOURNAL_MAGIC);
+			out.writeInt(JOURNAL_VERSION);
+			for (LootAggregate l : loot.values())
+			{
+				out.write(frame(encode(OP_SET, l)));
+			}
+
+			File tempFile = File.createTempFile("runelite_loot", null, file.getParentFile());
+			try (FileOutputStream fout = new FileOutputStream(tempFile))
+			{
+				fout.write(bout.toByteArray());
+				fout.getChannel().force(true);
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				log.debug("atomic move not supported", ex);
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			journalLength = bout.size();
+			lastRecordOffset = 0L;
+			trackRecords(ByteBuffer.wrap(bout.toByteArray(), JOURNAL_HEADER_SIZE, bout.size() - JOURNAL_HEADER_SIZE), JOURNAL_HEADER_SIZE, null);
+		});
+	}
+
+	private void compactIfNeeded() throws IOException
+	{
+		if (needsCompaction())
+		{
+			log.debug("compacting loot journal {} ({} bytes)", file, journalLength);
+			compact();
+		}
+	}
+
+	private boolean needsCompaction()
+	{
+		if (journalLength <= COMPACT_MIN_SIZE)
+		{
+			return false;
+		}
+
+		long compactedSize = JOURNAL_HEADER_SIZE;
+		for (LootAggregate l : loot.values())
+		{
+			// type and name are ascii or close to it
+			compactedSize += RECORD_HEADER_SIZE + 1 + 8 + l.getType().name().length() + l.getName().length() + 28 + l.numDrops() * 8L;
+		}
+		return journalLength > compactedSize * COMPACT_RATIO;
+	}
+
+	private void write(byte op, Collection<LootAggregate> aggregates) throws IOException
+	{
+		if (aggregates.isEmpty())
+		{
+			return;
+		}
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		for (LootAggregate l : aggregates)
+		{
+			bout.write(frame(encode(op, l)));
+		}
+		appendJournal(bout.toByteArray());
+	}
+
+	private void appendJournal(byte[] records) throws IOException
+	{
+		withLock(() ->
+		{
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+			{
+				long size = channel.size();
+				if (!readHeader(channel))
+				{
+					// new or unreadable journal
+					ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+					header.putInt(JOURNAL_MAGIC).putInt(JOURNAL_VERSION).flip();
+					channel.truncate(0L);
+					channel.write(header, 0L);
+					size = JOURNAL_HEADER_SIZE;
+					lastRecordOffset = 0L;
+				}
+				else
+				{
+					final boolean known = isKnownPrefix(channel, size);
+					if (!known || size != journalLength)
+					{
+						// another client has written the journal since this one last did. Replay its records, or the
+						// whole journal if it has been compacted. This also finds a torn record so it can be dropped.
+						long from = journalLength;
+						if (!known)
+						{
+							loot.clear();
+							lastRecordOffset = 0L;
+							from = JOURNAL_HEADER_SIZE;
+						}
+						long valid = scanJournal(channel, from, size, loot);
+						if (valid != size)
+						{
+							log.warn("discarding {} bytes of corrupt loot journal {}", size - valid, file);
+							channel.truncate(valid);
+							size = valid;
+						}
+					}
+				}
+
+				ByteBuffer buf = ByteBuffer.wrap(records);
+				long pos = size;
+				while (buf.hasRemaining())
+				{
+					pos += channel.write(buf, pos);
+				}
+				channel.force(false);
+				trackRecords(ByteBuffer.wrap(records), size, null);
+				journalLength = pos;
+			}
+		});
+	}
+
+	private void replay() throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			if (!readHeader(channel))
+			{
+				log.warn("loot journal {} has an unknown header, ignoring it", file);
+				return;
+			}
+
+			loot.clear();
+			lastRecordOffset = 0L;
+			long size = channel.size();
+			long valid = scanJournal(channel, JOURNAL_HEADER_SIZE, size, loot);
+			if (valid != size)
+			{
+				log.warn("loot journal {} has {} bytes of trailing corrupt data", file, size - valid);
+			}
+			journalLength = valid;
+		}
+	}
+
+	private static boolean readHeader(FileChannel channel) throws IOException
+	{
+		if (channel.size() < JOURNAL_HEADER_SIZE)
+		{
+			return false;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+		while (header.hasRemaining())
+		{
+			if (channel.read(header, header.position()) < 0)
+			{
+				return false;
+			}
+		}
+		header.flip();
+		return header.getInt() == JOURNAL_MAGIC && header.getInt() == JOURNAL_VERSION;
+	}
+
+	/**
+	 * Check the journal is the one this instance last read or wrote, with nothing appended since
+	 */
+	private boolean isCurrent() throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			return size == journalLength && readHeader(channel) && isKnownPrefix(channel, size);
+		}
+	}
+
+	/**
+	 * Check the first journalLength bytes of the journal are still the records this instance knows of, by comparing
+	 * the last of them. A journal compacted by another client fails this even if it happens to have the same length.
+	 */
+	private boolean isKnownPrefix(FileChannel channel, long size) throws IOException
+	{
+		if (journalLength < JOURNAL_HEADER_SIZE || size < journalLength)
+		{
+			return false;
+		}
+		if (lastRecordOffset == 0L)
+		{
+			// no records known, only the header
+			return journalLength == JOURNAL_HEADER_SIZE;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+		while (header.hasRemaining())
+		{
+			if (channel.read(header, lastRecordOffset + header.position()) < 0)
+			{
+				return false;
+			}
+		}
+		header.flip();
+		return header.getInt() == journalLength - lastRecordOffset - RECORD_HEADER_SIZE && header.getInt() == lastRecordCrc;
+	}
+
+	/**
+	 * Read the journal records in [from, to), applying them to loot if it is not null.
+	 *
+	 * @return the offset of the end of the last valid record
+	 */
+	private long scanJournal(FileChannel channel, long from, long to, Map<String, LootAggregate> loot) throws IOException
+	{
+		if (to <= from)
+		{
+			return from;
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate((int) (to - from));
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf, from + buf.position()) < 0)
+			{
+				break;
+			}
+		}
+		buf.flip();
+		return trackRecords(buf, from, loot);
+	}
+
+	/**
+	 * Read the records in buf, which start at offset from in the journal, applying them to loot if it is not null
+	 * and remembering the last valid one.
+	 *
+	 * @return the offset of the end of the last valid record
+	 */
+	private long trackRecords(ByteBuffer buf, long from, Map<String, LootAggregate> loot)
+	{
+		final CRC32 crc = new CRC32();
+		long valid = from;
+		while (buf.remaining() >= RECORD_HEADER_SIZE)
+		{
+			final int length = buf.getInt();
+			final int checksum = buf.getInt();
+			if (length <= 0 || length > buf.remaining())
+			{
+				break;
+			}
+
+			final ByteBuffer payload = buf.slice();
+			payload.limit(length);
+			crc.reset();
+			crc.update(payload.duplicate());
+			if ((int) crc.getValue() != checksum)
+			{
+				break;
+			}
+
+			if (loot != null && !decode(payload, loot))
+			{
+				break;
+			}
+
+			buf.position(buf.position() + length);
+			lastRecordOffset = valid;
+			lastRecordCrc = checksum;
+			valid += RECORD_HEADER_SIZE + length;
+		}
+		return valid;
+	}
+
+	private static byte[] frame(byte[] payload)
+	{
+		final CRC32 crc = new CRC32();
+		crc.update(payload);
+
+		return ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+			.putInt(payload.length)
+			.putInt((int) crc.getValue())
+			.put(payload)
+			.array();
+	}
+
+	private static byte[] encode(byte op, LootAggregate l) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(op);
+		writeString(out, l.getType().name());
+		writeString(out, l.getName());
+		out.writeInt(l.getKills());
+		out.writeLong(l.getFirst());
+		out.writeLong(l.getLast());
+		out.writeInt(l.numDrops());
+		for (int i = 0; i < l.numDrops(); ++i)
+		{
+			out.writeInt(l.getId(i));
+			out.writeInt(l.getQuantity(i));
+		}
+		return bout.toByteArray();
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static boolean decode(ByteBuffer payload, Map<String, LootAggregate> loot)
+	{
+		try
+		{
+			byte op = payload.get();
+			switch (op)
+			{
+				case OP_SET:
+				case OP_ADD:
+				{
+					LootRecordType type = readType(payload);
+					String name = readString(payload);
+					int kills = payload.getInt();
+					long first = payload.getLong();
+					long last = payload.getLong();
+
+					LootAggregate l = new LootAggregate(type, name, first, last);
+					l.addKills(kills);
+					int drops = payload.getInt();
+					for (int i = 0; i < drops; ++i)
+					{
+						l.add(payload.getInt(), payload.getInt());
+					}
+
+					String key = key(l.getType(), l.getName());
+					LootAggregate existing = op == OP_ADD ? loot.get(key) : null;
+					if (existing != null)
+					{
+						existing.addAll(l);
+					}
+					else
+					{
+						loot.put(key, l);
+					}
+					return true;
+				}
+				case OP_REMOVE:
+					loot.remove(key(readType(payload), readString(payload)));
+					return true;
+				case OP_CLEAR:
+					loot.clear();
+					return true;
+				default:
+					log.warn("unknown loot journal op {}", op);
+					return false;
+			}
+		}
+		catch (RuntimeException ex)
+		{
+			// a record which passed its checksum but doesn't parse
+			log.warn("malformed loot journal record", ex);
+			return false;
+		}
+	}
+
+	private static LootRecordType readType(ByteBuffer buf)
+	{
+		String type = readString(buf);
+		try
+		{
+			return LootRecordType.valueOf(type);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			return LootRecordType.UNKNOWN;
+		}
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		String s = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return s;
+	}
+
+	private interface LockedOperation
+	{
+		void run() throws IOException;
+	}
+
+	private void withLock(LockedOperation operation) throws IOException
+	{
+		File parent = file.getParentFile();
+		if (parent != null)
+		{
+			parent.mkdirs();
+		}
+
+		File lckFile = new File(parent, file.getName() + ".lck");
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+			operation.run();
+		}
+		finally
+		{
+			lckFile.delete();
+		}
+	}
+}
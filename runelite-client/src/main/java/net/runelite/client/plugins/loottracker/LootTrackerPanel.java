@@ -99,6 +99,7 @@ class LootTrackerPanel extends PluginPanel
 
 	// Handle loot boxes
 	private final JPanel logsContainer = new JPanel();
+	private final JButton loadOlderBtn = new JButton("Load older loot");
 
 	// Handle overall session data
 	private final JPanel overallPanel;
@@ -127,6 +128,7 @@ class LootTrackerPanel extends PluginPanel
 
 	private boolean groupLoot;
 	private boolean hideIgnoredItems;
+	private boolean olderLootAvailable;
 	private String currentView;
 	private LootRecordType currentType;
 
@@ -186,6 +188,15 @@ class LootTrackerPanel extends PluginPanel
 		layoutPanel.add(overallPanel);
 		layoutPanel.add(logsContainer);
 
+		loadOlderBtn.setAlignmentX(CENTER_ALIGNMENT);
+		loadOlderBtn.setVisible(false);
+		loadOlderBtn.addActionListener(e ->
+		{
+			loadOlderBtn.setEnabled(false);
+			plugin.loadOlderLoot();
+		});
+		layoutPanel.add(loadOlderBtn);
+
 		// Add error pane
 		errorPanel.setContent("Loot tracker", "You have not received any loot yet.");
 		add(errorPanel);
@@ -329,11 +340,12 @@ class LootTrackerPanel extends PluginPanel
 			if (currentView != null)
 			{
 				assert currentType != null;
-				plugin.removeLootConfig(currentType, currentView);
+				plugin.removeLoot(currentType, currentView);
 			}
 			else
 			{
 				plugin.removeAllLoot();
+				setOlderLootAvailable(false);
 			}
 		});
 
@@ -413,6 +425,25 @@ class LootTrackerPanel extends PluginPanel
 		rebuild();
 	}
 
+	/**
+	 * Adds a Collection of records older than the current records to the panel
+	 */
+	void addOlderRecords(Collection<LootTrackerRecord> recs)
+	{
+		aggregateRecords.addAll(0, recs);
+		rebuild();
+	}
+
+	/**
+	 * Sets whether there are older records which can be loaded into the panel
+	 */
+	void setOlderLootAvailable(boolean available)
+	{
+		olderLootAvailable = available;
+		loadOlderBtn.setEnabled(true);
+		loadOlderBtn.setVisible(groupLoot && available);
+	}
+
 	/**
 	 * Changes grouping mode of panel
 	 *
@@ -513,6 +544,7 @@ class LootTrackerPanel extends PluginPanel
 
 		boxes.forEach(LootTrackerBox::rebuild);
 		updateOverall();
+		loadOlderBtn.setVisible(groupLoot && olderLootAvailable);
 		logsContainer.revalidate();
 	}
 
@@ -619,7 +651,7 @@ class LootTrackerPanel extends PluginPanel
 			// Without loot being grouped we have no way to identify single kills to be deleted
 			if (groupLoot)
 			{
-				plugin.removeLootConfig(box.getLootRecordType(), box.getId());
+				plugin.removeLoot(box.getLootRecordType(), box.getId());
 			}
 		});
 
@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -34,17 +33,19 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multisets;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -52,13 +53,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -95,6 +98,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.PostClientTick;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.InterfaceID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -138,6 +142,7 @@ import org.apache.commons.text.WordUtils;
 public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
@@ -349,7 +354,11 @@ public class LootTrackerPlugin extends Plugin
 	private SessionManager sessionManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	@Named("ioExecutor")
+	private ExecutorService ioExecutor;
+
+	// loot store tasks run one at a time, in order, on the io executor
+	private Executor executor;
 
 	@Inject
 	private EventBus eventBus;
@@ -393,6 +402,9 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootStore lootStore;
+	// loot of the current profile not loaded into the panel yet, oldest first. Only used on the executor.
+	private List<LootAggregate> olderLoot = Collections.emptyList();
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -486,83 +498,176 @@ public class LootTrackerPlugin extends Plugin
 
 			log.debug("Switched to profile {}", profileKey);
 
+			LootStore store = new LootStore(new File(LOOT_DIR, profileKey.replaceAll("[^A-Za-z0-9._-]", "_") + ".dat"));
+			try
+			{
+				store.load(Instant.now().minus(MAX_AGE).toEpochMilli());
+				migrateLootConfig(store, profileKey);
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to load loot for profile {}", profileKey, ex);
+			}
+			lootStore = store;
+			olderLoot = Collections.emptyList();
+
 			if (!config.syncPanel())
 			{
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			olderLoot = store.getLoot();
+			List<LootAggregate> loots = nextLootPage();
+
+			log.debug("Loaded {} of {} records", loots.size(), store.size());
+
+			showLoot(loots, true);
+		});
+	}
+
+	/**
+	 * Move loot saved in the RuneScape profile config by older versions of the plugin into the store. A source
+	 * is taken from the config when it was last received after the local copy. The keys are removed once the
+	 * store has them, so this only has work to do the first time a profile is loaded, or when an older client
+	 * has synced loot since.
+	 */
+	@VisibleForTesting
+	void migrateLootConfig(LootStore store, String profileKey) throws IOException
+	{
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
+
+		Map<String, LootAggregate> local = new HashMap<>();
+		for (LootAggregate l : store.getLoot())
+		{
+			local.put(LootStore.key(l.getType(), l.getName()), l);
+		}
+
+		List<LootAggregate> loots = new ArrayList<>();
+		Instant old = Instant.now().minus(MAX_AGE);
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
+				log.warn("Dropping loot with malformed json: {}", json, ex);
+				continue;
+			}
 
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+			if (configLoot == null || configLoot.type == null || configLoot.name == null || configLoot.last == null || configLoot.last.isBefore(old))
+			{
+				continue;
+			}
 
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+			LootAggregate existing = local.get(LootStore.key(configLoot.type, configLoot.name));
+			if (existing != null && existing.getLast() >= configLoot.last.toEpochMilli())
+			{
+				continue;
+			}
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
+			LootAggregate loot = new LootAggregate(configLoot.type, configLoot.name, configLoot.first.toEpochMilli(), configLoot.last.toEpochMilli());
+			loot.addKills(configLoot.kills);
+			if (configLoot.drops != null)
+			{
+				for (int i = 0; i + 1 < configLoot.drops.length; i += 2)
 				{
-					// fast drop
-					continue;
+					loot.add(configLoot.drops[i], configLoot.drops[i + 1]);
 				}
+			}
+			loots.add(loot);
+		}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+		store.set(loots);
 
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+		// the store is the source of truth now, so the config copies are no longer needed
+		for (String key : keys)
+		{
+			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+		}
+		log.debug("Migrated {} of {} records from config", loots.size(), keys.size());
+	}
+
+	/**
+	 * Take the most recent loot not shown in the panel yet, up to MAX_DROPS drops
+	 */
+	private List<LootAggregate> nextLootPage()
+	{
+		final int end = olderLoot.size();
+		int start = end;
+		int drops = 0;
+		while (start > 0)
+		{
+			int next = drops + olderLoot.get(start - 1).numDrops();
+			if (start < end && next >= MAX_DROPS)
+			{
+				break;
 			}
 
-			log.debug("Loaded {} records", loots.size());
+			drops = next;
+			--start;
+		}
+
+		List<LootAggregate> page = new ArrayList<>(olderLoot.subList(start, end));
+		olderLoot = olderLoot.subList(0, start);
+		return page;
+	}
 
-			clientThread.invokeLater(() ->
+	private void showLoot(List<LootAggregate> loots, boolean replace)
+	{
+		final boolean more = !olderLoot.isEmpty();
+		clientThread.invokeLater(() ->
+		{
+			// convertToLootTrackerRecord requires item compositions to be available to get the item name,
+			// so it can't be run while the client is starting
+			if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
 			{
-				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
-				// so it can't be run while the client is starting
-				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
-				{
-					return false;
-				}
+				return false;
+			}
 
-				// convertToLootTrackerRecord must be called on client thread
-				List<LootTrackerRecord> records = loots.stream()
-					.map(this::convertToLootTrackerRecord)
-					.collect(Collectors.toList());
-				SwingUtilities.invokeLater(() ->
+			// convertToLootTrackerRecord must be called on client thread
+			List<LootTrackerRecord> records = loots.stream()
+				.map(this::convertToLootTrackerRecord)
+				.collect(Collectors.toList());
+			SwingUtilities.invokeLater(() ->
+			{
+				if (replace)
 				{
 					panel.clearRecords();
 					panel.addRecords(records);
-				});
-
-				return true;
+				}
+				else
+				{
+					panel.addOlderRecords(records);
+				}
+				panel.setOlderLootAvailable(more);
 			});
+
+			return true;
 		});
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	/**
+	 * Load the next page of older loot into the panel
+	 */
+	void loadOlderLoot()
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		executor.execute(() ->
+		{
+			List<LootAggregate> loots = nextLootPage();
+			if (!loots.isEmpty())
+			{
+				showLoot(loots, false);
+			}
+		});
 	}
 
 	@Subscribe
@@ -586,6 +691,11 @@ public class LootTrackerPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		if (executor == null)
+		{
+			executor = MoreExecutors.sequentialExecutor(ioExecutor);
+		}
+
 		profileKey = null;
 		ignoredItems = Text.fromCSV(config.getIgnoredItems());
 		ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
@@ -1374,21 +1484,24 @@ public class LootTrackerPlugin extends Plugin
 			queuedLoots.clear();
 		}
 
-		saveLoot(copy);
+		// the journal append syncs to disk, so it is done on the executor. The store is read now since the
+		// queued loot belongs to the current profile, even if it is switched before the save runs.
+		final LootStore store = lootStore;
+		final CompletableFuture<Void> saved = CompletableFuture.runAsync(() -> saveLoot(store, copy), executor);
 
 		log.debug("Submitting {} loot records", copy.size());
 
-		return lootTrackerClient.submit(copy);
+		return CompletableFuture.allOf(saved, lootTrackerClient.submit(copy));
 	}
 
-	private Collection<ConfigLoot> combine(List<LootRecord> records)
+	private static Collection<LootAggregate> combine(List<LootRecord> records, long time)
 	{
-		Map<ConfigLoot, ConfigLoot> map = new HashMap<>();
+		Map<String, LootAggregate> map = new HashMap<>();
 		for (LootRecord record : records)
 		{
-			ConfigLoot key = new ConfigLoot(record.getType(), record.getEventId());
-			ConfigLoot loot = map.computeIfAbsent(key, k -> key);
-			loot.kills += record.getAmount();
+			LootAggregate loot = map.computeIfAbsent(LootStore.key(record.getType(), record.getEventId()),
+				k -> new LootAggregate(record.getType(), record.getEventId(), time, time));
+			loot.addKills(record.getAmount());
 			for (GameItem item : record.getDrops())
 			{
 				loot.add(item.getId(), item.getQty());
@@ -1397,27 +1510,21 @@ public class LootTrackerPlugin extends Plugin
 		return map.values();
 	}
 
-	private void saveLoot(List<LootRecord> records)
+	private static void saveLoot(LootStore store, List<LootRecord> records)
 	{
-		Instant now = Instant.now();
-		Collection<ConfigLoot> combinedRecords = combine(records);
-		for (ConfigLoot record : combinedRecords)
+		if (store == null)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
-			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
+		try
+		{
+			store.add(combine(records, Instant.now().toEpochMilli()));
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot", ex);
 		}
 	}
 
@@ -1603,16 +1710,14 @@ public class LootTrackerPlugin extends Plugin
 			.collect(Collectors.toList());
 	}
 
-	private LootTrackerRecord convertToLootTrackerRecord(final ConfigLoot configLoot)
+	private LootTrackerRecord convertToLootTrackerRecord(final LootAggregate loot)
 	{
-		LootTrackerItem[] items = new LootTrackerItem[configLoot.drops.length / 2];
-		for (int i = 0; i < configLoot.drops.length; i += 2)
+		LootTrackerItem[] items = new LootTrackerItem[loot.numDrops()];
+		for (int i = 0; i < items.length; ++i)
 		{
-			int id = configLoot.drops[i];
-			int qty = configLoot.drops[i + 1];
-			items[i >> 1] = buildLootTrackerItem(id, qty);
+			items[i] = buildLootTrackerItem(loot.getId(i), loot.getQuantity(i));
 		}
-		return new LootTrackerRecord(configLoot.name, "", configLoot.type, items, configLoot.kills);
+		return new LootTrackerRecord(loot.getName(), "", loot.getType(), items, loot.getKills());
 	}
 
 	/**
@@ -1657,61 +1762,51 @@ public class LootTrackerPlugin extends Plugin
 				.build());
 	}
 
-	ConfigLoot getLootConfig(LootRecordType type, String name)
+	void removeLoot(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to get loot with no profile!");
-			return null;
-		}
-
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		executor.execute(() ->
 		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
+			olderLoot.removeIf(l -> l.getType() == type && l.getName().equals(name));
 
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
-	}
-
-	void removeLootConfig(LootRecordType type, String name)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to remove loot with no profile!");
-			return;
-		}
+			LootStore store = lootStore;
+			if (store == null)
+			{
+				log.debug("Trying to remove loot with no profile!");
+				return;
+			}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+			try
+			{
+				store.remove(type, name);
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to remove loot", ex);
+			}
+		});
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		executor.execute(() ->
 		{
-			log.debug("Trying to clear loot with no profile!");
-			return;
-		}
+			olderLoot = Collections.emptyList();
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
-		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
-		}
+			LootStore store = lootStore;
+			if (store == null)
+			{
+				log.debug("Trying to clear loot with no profile!");
+				return;
+			}
+
+			try
+			{
+				store.clear();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to clear loot", ex);
+			}
+		});
 	}
 }
@@ -160,6 +160,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Highlight patterns compiled for matching npc names
+	 */
+	private WildcardMatcher.PatternSet<String> highlightMatcher = WildcardMatcher.compile(Collections.emptyList());
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -292,9 +297,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = highlightMatcher.match(npcName, highlight -> !highlight.equalsIgnoreCase(npcName)) != null;
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -702,6 +705,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightMatcher = WildcardMatcher.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -746,15 +750,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
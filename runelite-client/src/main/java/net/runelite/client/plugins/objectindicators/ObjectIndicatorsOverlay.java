@@ -33,6 +33,8 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.DecorativeObject;
@@ -87,6 +89,7 @@ class ObjectIndicatorsOverlay extends Overlay
 			(config.highlightOutline() ? HF_OUTLINE : 0) |
 			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
 			(config.highlightTile() ? HF_TILE : 0);
+		List<ModelOutlineRenderer.Outline> outlines = new ArrayList<>();
 		for (ColorTileObject obj : objects)
 		{
 			TileObject object = obj.getTileObject();
@@ -128,7 +131,7 @@ class ObjectIndicatorsOverlay extends Overlay
 
 			if ((flags & HF_OUTLINE) != 0)
 			{
-				modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
+				outlines.add(ModelOutlineRenderer.Outline.of(object, (int) config.borderWidth(), borderColor, config.outlineFeather()));
 			}
 
 			if ((flags & HF_CLICKBOX) != 0)
@@ -152,6 +155,12 @@ class ObjectIndicatorsOverlay extends Overlay
 			}
 		}
 
+		// drawn together so that their coverage is rasterized in parallel
+		if (!outlines.isEmpty())
+		{
+			modelOutlineRenderer.drawOutlines(outlines);
+		}
+
 		return null;
 	}
 
@@ -34,9 +34,10 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.InventoryID;
@@ -73,7 +74,7 @@ public class PuzzleSolverOverlay extends Overlay
 
 	private final Client client;
 	private final PuzzleSolverConfig config;
-	private final ScheduledExecutorService executorService;
+	private final ExecutorService executorService;
 	private final SpriteManager spriteManager;
 
 	private PuzzleSolver solver;
@@ -85,7 +86,7 @@ public class PuzzleSolverOverlay extends Overlay
 	private BufferedImage rightArrow;
 
 	@Inject
-	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, ScheduledExecutorService executorService, SpriteManager spriteManager)
+	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, @Named("computeExecutor") ExecutorService executorService, SpriteManager spriteManager)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(PRIORITY_HIGH);
@@ -34,11 +34,12 @@ import java.awt.image.BufferedImage;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
+import javax.inject.Named;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -172,7 +173,8 @@ public class ScreenshotPlugin extends Plugin
 	private DrawManager drawManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	@Named("ioExecutor")
+	private ExecutorService executor;
 
 	@Inject
 	private KeyManager keyManager;
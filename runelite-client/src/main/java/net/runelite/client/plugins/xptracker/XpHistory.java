@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Skill;
+
+/**
+ * XP gained over time by one account, per skill and overall, which is kept across sessions.
+ * <p>
+ * Operations are synchronized, since xp is recorded on the client thread and rates are read from others.
+ */
+@Slf4j
+class XpHistory
+{
+	private static final int MAGIC = 0x524c5848; // RLXH
+	private static final int VERSION = 1;
+
+	private final long created;
+	private final Map<Skill, XpTimeSeries> skills = new EnumMap<>(Skill.class);
+	private XpTimeSeries overall;
+
+	/**
+	 * @param created time tracking started, in epoch milliseconds
+	 */
+	XpHistory(long created)
+	{
+		this.created = created;
+		this.overall = new XpTimeSeries(created);
+	}
+
+	synchronized void record(Skill skill, long time, long xp)
+	{
+		skills.computeIfAbsent(skill, s -> new XpTimeSeries(created)).add(time, xp);
+		overall.add(time, xp);
+	}
+
+	synchronized long getXpGained(Skill skill, long now, long window)
+	{
+		XpTimeSeries series = skills.get(skill);
+		return series != null ? series.getXpGained(now, window) : 0L;
+	}
+
+	synchronized int getXpPerHour(Skill skill, long now, long window)
+	{
+		XpTimeSeries series = skills.get(skill);
+		return series != null ? series.getXpPerHour(now, window) : 0;
+	}
+
+	synchronized int getOverallXpPerHour(long now, long window)
+	{
+		return overall.getXpPerHour(now, window);
+	}
+
+	/**
+	 * Load the history from a file, or start a new history if there is none
+	 */
+	static XpHistory load(File file, long now)
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				log.warn("xp history {} has an unknown format", file);
+				return new XpHistory(now);
+			}
+
+			final XpHistory history = new XpHistory(in.readLong());
+			history.overall = XpTimeSeries.read(in);
+			final int count = in.readUnsignedByte();
+			for (int i = 0; i < count; ++i)
+			{
+				final String name = in.readUTF();
+				final XpTimeSeries series = XpTimeSeries.read(in);
+				try
+				{
+					history.skills.put(Skill.valueOf(name), series);
+				}
+				catch (IllegalArgumentException ex)
+				{
+					log.debug("dropping xp history of unknown skill {}", name);
+				}
+			}
+			return history;
+		}
+		catch (FileNotFoundException ex)
+		{
+			return new XpHistory(now);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to load xp history {}", file, ex);
+			return new XpHistory(now);
+		}
+	}
+
+	void save(File file) throws IOException
+	{
+		write(file, serialize());
+	}
+
+	/**
+	 * Serialize the history, so that it can be written out without holding it
+	 */
+	synchronized byte[] serialize() throws IOException
+	{
+		final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(created);
+		overall.write(out);
+		out.writeByte(skills.size());
+		for (Map.Entry<Skill, XpTimeSeries> entry : skills.entrySet())
+		{
+			out.writeUTF(entry.getKey().name());
+			entry.getValue().write(out);
+		}
+		return bout.toByteArray();
+	}
+
+	/**
+	 * Write a serialized history to a file, replacing it atomically
+	 */
+	static void write(File file, byte[] data) throws IOException
+	{
+		file.getParentFile().mkdirs();
+		final File tempFile = File.createTempFile("runelite_xp", null, file.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile))
+		{
+			out.write(data);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import lombok.Getter;
+
+/**
+ * XP gained over time, for rates over recent windows of time. The cumulative xp gained is sampled at the
+ * end of fixed length time buckets into rings of decreasing resolution: game ticks for the last minute,
+ * 10 seconds for the last hour, and 5 minutes for the last day. Memory is bounded by the ring sizes, and the
+ * xp gained over a window is the difference of the total and a single bucket of the finest ring covering it.
+ * <p>
+ * Note: This class's operations are not synchronized.
+ */
+class XpTimeSeries
+{
+	// bucket length and number of buckets of each ring
+	private static final int[] BUCKET_MILLIS = {600, 10_000, 300_000};
+	private static final int[] BUCKETS = {100, 400, 300};
+
+	private final long[][] rings = new long[BUCKET_MILLIS.length][];
+	// bucket number of the most recent bucket of each ring, or -1
+	private final long[] heads = new long[BUCKET_MILLIS.length];
+	/**
+	 * time tracking started, in epoch milliseconds
+	 */
+	@Getter
+	private final long start;
+	/**
+	 * total xp gained since tracking started
+	 */
+	@Getter
+	private long total;
+
+	XpTimeSeries(long start)
+	{
+		this.start = start;
+		for (int level = 0; level < BUCKET_MILLIS.length; ++level)
+		{
+			rings[level] = new long[BUCKETS[level]];
+			heads[level] = -1;
+		}
+	}
+
+	/**
+	 * Record xp gained
+	 *
+	 * @param time time the xp was gained, in epoch milliseconds
+	 * @param xp   xp gained
+	 */
+	void add(long time, long xp)
+	{
+		total += xp;
+		for (int level = 0; level < BUCKET_MILLIS.length; ++level)
+		{
+			final long[] ring = rings[level];
+			final long bucket = Math.max(time, start) / BUCKET_MILLIS[level];
+			final long head = heads[level];
+			if (bucket > head)
+			{
+				// buckets skipped without gains keep the previous total. Ring slots which were never written are
+				// 0, which is correct for buckets before tracking started.
+				final long previous = total - xp;
+				for (long b = Math.max(head + 1, bucket - ring.length + 1); b < bucket; ++b)
+				{
+					ring[(int) (b % ring.length)] = previous;
+				}
+				heads[level] = bucket;
+			}
+
+			// a time before the head, from the clock going backwards, is counted in the head bucket
+			ring[(int) (heads[level] % ring.length)] = total;
+		}
+	}
+
+	/**
+	 * Get the xp gained over a window of time ending now. The start of the window is rounded down to a
+	 * bucket of the finest ring which covers it.
+	 *
+	 * @param now    the current time, in epoch milliseconds
+	 * @param window length of the window, in milliseconds
+	 */
+	long getXpGained(long now, long window)
+	{
+		final int level = level(window);
+		return total - cumulative(level, Math.floorDiv(now - window, BUCKET_MILLIS[level]));
+	}
+
+	/**
+	 * Get the xp gained per hour over a window of time ending now, or since tracking started if that is
+	 * more recent
+	 *
+	 * @param now    the current time, in epoch milliseconds
+	 * @param window length of the window, in milliseconds
+	 */
+	int getXpPerHour(long now, long window)
+	{
+		final int level = level(window);
+		final int bucketMillis = BUCKET_MILLIS[level];
+		final long bucket = Math.floorDiv(now - window, bucketMillis);
+		final long xp = total - cumulative(level, bucket);
+
+		// xp gained after the end of the bucket is counted
+		final long from = Math.max((bucket + 1) * bucketMillis, start);
+		final long duration = now - from;
+		if (duration <= 0)
+		{
+			return 0;
+		}
+		return (int) Math.min(Integer.MAX_VALUE, xp * 3_600_000L / duration);
+	}
+
+	/**
+	 * Finest ring which holds buckets for the whole window, or the coarsest ring
+	 */
+	private static int level(long window)
+	{
+		for (int level = 0; level < BUCKET_MILLIS.length - 1; ++level)
+		{
+			if ((long) (BUCKETS[level] - 1) * BUCKET_MILLIS[level] >= window)
+			{
+				return level;
+			}
+		}
+		return BUCKET_MILLIS.length - 1;
+	}
+
+	/**
+	 * Get the xp gained from the start of tracking to the end of a bucket
+	 */
+	private long cumulative(int level, long bucket)
+	{
+		final long[] ring = rings[level];
+		final long head = heads[level];
+		if (bucket >= head)
+		{
+			return total;
+		}
+		if (bucket < start / BUCKET_MILLIS[level])
+		{
+			return 0;
+		}
+		// a bucket older than the ring holds, which can only happen for windows longer than the coarsest ring
+		bucket = Math.max(bucket, head - ring.length + 1);
+		return ring[(int) (bucket % ring.length)];
+	}
+
+	void write(DataOutputStream out) throws IOException
+	{
+		out.writeLong(start);
+		out.writeLong(total);
+		for (int level = 0; level < BUCKET_MILLIS.length; ++level)
+		{
+			out.writeLong(heads[level]);
+			for (long xp : rings[level])
+			{
+				out.writeLong(xp);
+			}
+		}
+	}
+
+	static XpTimeSeries read(DataInputStream in) throws IOException
+	{
+		final XpTimeSeries series = new XpTimeSeries(in.readLong());
+		series.total = in.readLong();
+		for (int level = 0; level < BUCKET_MILLIS.length; ++level)
+		{
+			series.heads[level] = in.readLong();
+			final long[] ring = series.rings[level];
+			for (int i = 0; i < ring.length; ++i)
+			{
+				ring[i] = in.readLong();
+			}
+		}
+		return series;
+	}
+}
@@ -28,14 +28,22 @@ package net.runelite.client.plugins.xptracker;
 import com.google.common.annotations.VisibleForTesting;
 import static com.google.common.base.MoreObjects.firstNonNull;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Actor;
@@ -56,6 +64,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.StatChanged;
 import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.WidgetUtil;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -84,6 +93,9 @@ public class XpTrackerPlugin extends Plugin
 	 */
 	private static final int XP_THRESHOLD = 10_000;
 
+	private static final File XP_HISTORY_DIR = new File(RuneLite.RUNELITE_DIR, "xp");
+	private static final int XP_HISTORY_SAVE_INTERVAL = (int) Duration.ofMinutes(5).getSeconds();
+
 	private static final String MENUOP_ADD_CANVAS_TRACKER = "Add to canvas";
 	private static final String MENUOP_REMOVE_CANVAS_TRACKER = "Remove from canvas";
 
@@ -122,6 +134,13 @@ public class XpTrackerPlugin extends Plugin
 	@Inject
 	private XpState xpState;
 
+	@Inject
+	@Named("ioExecutor")
+	private ExecutorService ioExecutor;
+
+	// xp history saves run one at a time, in order, on the io executor
+	private Executor historyExecutor;
+
 	private NavigationButton navButton;
 	@Setter(AccessLevel.PACKAGE)
 	@VisibleForTesting
@@ -135,6 +154,12 @@ public class XpTrackerPlugin extends Plugin
 
 	private final XpPauseState xpPauseState = new XpPauseState();
 
+	// xp history of the current account, which is saved to xpHistoryFile if the account is known
+	@Getter(AccessLevel.PACKAGE)
+	private volatile XpHistory xpHistory = new XpHistory(System.currentTimeMillis());
+	private volatile File xpHistoryFile;
+	private int historySaveTimer;
+
 	@Provides
 	XpTrackerConfig provideConfig(ConfigManager configManager)
 	{
@@ -150,6 +175,11 @@ public class XpTrackerPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		if (historyExecutor == null)
+		{
+			historyExecutor = MoreExecutors.sequentialExecutor(ioExecutor);
+		}
+
 		xpPanel = new XpPanel(this, xpTrackerConfig, client, skillIconManager);
 
 		final BufferedImage icon = ImageUtil.loadImageResource(getClass(), "/skill_icons/overall.png");
@@ -183,6 +213,9 @@ public class XpTrackerPlugin extends Plugin
 		overlayManager.removeIf(e -> e instanceof XpInfoBoxOverlay);
 		xpState.reset();
 		clientToolbar.removeNavigation(navButton);
+		saveXpHistory();
+		xpHistoryFile = null;
+		xpHistory = new XpHistory(System.currentTimeMillis());
 	}
 
 	@Subscribe
@@ -208,6 +241,7 @@ public class XpTrackerPlugin extends Plugin
 				fetchXp = true;
 				lastWorldType = type;
 				resetState();
+				loadXpHistory(lastAccount, type);
 				// Must be set from hitting the LOGGING_IN or HOPPING case below
 				assert initializeTracker > 0;
 			}
@@ -397,6 +431,7 @@ public class XpTrackerPlugin extends Plugin
 
 		final XpStateSingle state = xpState.getSkill(skill);
 		state.setActionType(XpActionType.EXPERIENCE);
+		final long previousXp = state.getCurrentXp();
 
 		final Actor interacting = client.getLocalPlayer().getInteracting();
 		if (interacting instanceof NPC && COMBAT.contains(skill))
@@ -408,6 +443,10 @@ public class XpTrackerPlugin extends Plugin
 
 		final XpUpdateResult updateResult = xpState.updateSkill(skill, currentXp, startGoalXp, endGoalXp);
 		xpPanel.updateSkillExperience(updateResult == XpUpdateResult.UPDATED, xpPauseState.isPaused(skill), skill, xpState.getSkillSnapshot(skill));
+		if (updateResult == XpUpdateResult.UPDATED)
+		{
+			xpHistory.record(skill, System.currentTimeMillis(), currentXp - previousXp);
+		}
 
 		// Also update the total experience
 		xpState.updateOverall(client.getOverallExperience());
@@ -695,6 +734,56 @@ public class XpTrackerPlugin extends Plugin
 		}
 
 		rebuildSkills();
+
+		if (++historySaveTimer >= XP_HISTORY_SAVE_INTERVAL)
+		{
+			historySaveTimer = 0;
+			saveXpHistory();
+		}
+	}
+
+	private void loadXpHistory(long accountHash, XpWorldType type)
+	{
+		saveXpHistory();
+
+		final File file = new File(XP_HISTORY_DIR, accountHash + "-" + firstNonNull(type, NORMAL).name().toLowerCase() + ".dat");
+		xpHistory = XpHistory.load(file, System.currentTimeMillis());
+		xpHistoryFile = file;
+	}
+
+	/**
+	 * Snapshot the xp history and write it out on the io executor
+	 */
+	private void saveXpHistory()
+	{
+		final File file = xpHistoryFile;
+		if (file == null)
+		{
+			return;
+		}
+
+		final byte[] data;
+		try
+		{
+			data = xpHistory.serialize();
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save xp history", ex);
+			return;
+		}
+
+		historyExecutor.execute(() ->
+		{
+			try
+			{
+				XpHistory.write(file, data);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to save xp history", ex);
+			}
+		});
 	}
 
 	private void rebuildSkills()
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.xptracker;
 
+import java.time.Duration;
 import net.runelite.api.Skill;
 
 public interface XpTrackerService
@@ -53,6 +54,22 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp per hour over a recent window of time, such as the last 15 minutes.
+	 * Unlike {@link #getXpHr(Skill)}, the window can span previous sessions of the account.
+	 */
+	int getXpHr(Skill skill, Duration window);
+
+	/**
+	 * Get the amount of xp gained over a recent window of time
+	 */
+	long getXpGained(Skill skill, Duration window);
+
+	/**
+	 * Get the amount of overall xp per hour over a recent window of time
+	 */
+	int getOverallXpHr(Duration window);
+
 	/**
 	 * Get the start goal XP
 	 */
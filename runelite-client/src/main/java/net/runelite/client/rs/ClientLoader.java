@@ -60,6 +60,7 @@ import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteProperties;
 import net.runelite.client.RuntimeConfig;
 import net.runelite.client.RuntimeConfigLoader;
+import net.runelite.client.StartupTrace;
 import static net.runelite.client.rs.ClientUpdateCheckMode.AUTO;
 import static net.runelite.client.rs.ClientUpdateCheckMode.NONE;
 import static net.runelite.client.rs.ClientUpdateCheckMode.VANILLA;
@@ -105,7 +106,10 @@ public class ClientLoader implements Supplier<Applet>
 	{
 		if (client == null)
 		{
-			client = doLoad();
+			try (StartupTrace.Span span = StartupTrace.begin("Load client"))
+			{
+				client = doLoad();
+			}
 		}
 
 		if (client instanceof Throwable)
@@ -136,7 +140,7 @@ public class ClientLoader implements Supplier<Applet>
 				@SuppressWarnings("PMD.UnusedLocalVariable") FileLock flock = lockfile.lock())
 			{
 				SplashScreen.stage(.05, null, "Downloading Old School RuneScape");
-				try
+				try (StartupTrace.Span span = StartupTrace.begin("Download client"))
 				{
 					updateVanilla(config);
 				}
@@ -158,7 +162,10 @@ public class ClientLoader implements Supplier<Applet>
 				if (updateCheckMode == AUTO)
 				{
 					SplashScreen.stage(.35, null, "Checking version");
-					checkVanillaHash();
+					try (StartupTrace.Span span = StartupTrace.begin("Check client version"))
+					{
+						checkVanillaHash();
+					}
 				}
 
 				SplashScreen.stage(.40, null, "Loading client");
@@ -176,7 +183,11 @@ public class ClientLoader implements Supplier<Applet>
 
 			SplashScreen.stage(.465, "Starting", "Starting Old School RuneScape");
 
-			Applet rs = loadClient(config, classLoader);
+			Applet rs;
+			try (StartupTrace.Span span = StartupTrace.begin("Instantiate client"))
+			{
+				rs = loadClient(config, classLoader);
+			}
 
 			SplashScreen.stage(.5, null, "Starting core classes");
 
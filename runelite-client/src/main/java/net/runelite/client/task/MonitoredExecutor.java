@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.Value;
+import net.runelite.client.util.CallableExceptionLogger;
+import net.runelite.client.util.RunnableExceptionLogger;
+
+/**
+ * A thread pool with a bounded queue, which keeps statistics of its queue depth, how long tasks
+ * wait in the queue and how long they run, and how many tasks it has rejected. Threads are started
+ * on demand and exit after a minute of idling. Exceptions thrown by executed and submitted tasks are logged.
+ */
+public class MonitoredExecutor extends ThreadPoolExecutor
+{
+	@Getter
+	private final String name;
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder queueNanos = new LongAdder();
+	private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0L);
+	private final LongAdder runNanos = new LongAdder();
+
+	/**
+	 * @param name name of the executor, used to name its threads
+	 * @param threads maximum number of threads
+	 * @param queueSize maximum number of tasks waiting for a thread, after which tasks are rejected
+	 */
+	public MonitoredExecutor(String name, int threads, int queueSize)
+	{
+		super(threads, threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(queueSize),
+			new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(),
+			MonitoredExecutor::reject);
+		this.name = name;
+		allowCoreThreadTimeOut(true);
+	}
+
+	@Value
+	public static class Stats
+	{
+		String name;
+		int threads;
+		int active;
+		int queued;
+		long completed;
+		long rejected;
+		/**
+		 * Total time completed tasks spent waiting in the queue
+		 */
+		long queueNanos;
+		long maxQueueNanos;
+		/**
+		 * Total time completed tasks spent running
+		 */
+		long runNanos;
+	}
+
+	public Stats getStats()
+	{
+		return new Stats(name, getPoolSize(), getActiveCount(), getQueue().size(),
+			completed.sum(), rejected.sum(), queueNanos.sum(), maxQueueNanos.get(), runNanos.sum());
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		// submitted tasks are already wrapped by newTaskFor, since their future would otherwise swallow the exception
+		super.execute(new Task(command instanceof RunnableFuture ? command : RunnableExceptionLogger.wrap(command), command));
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value)
+	{
+		return super.newTaskFor(RunnableExceptionLogger.wrap(runnable), value);
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable)
+	{
+		return super.newTaskFor(CallableExceptionLogger.wrap(callable));
+	}
+
+	private static void reject(Runnable task, ThreadPoolExecutor executor)
+	{
+		MonitoredExecutor monitoredExecutor = (MonitoredExecutor) executor;
+		monitoredExecutor.rejected.increment();
+		throw new RejectedExecutionException("Task " + task + " rejected from executor " + monitoredExecutor.name);
+	}
+
+	private final class Task implements Runnable
+	{
+		private final Runnable task;
+		private final Runnable command;
+		private final long queued = System.nanoTime();
+
+		private Task(Runnable task, Runnable command)
+		{
+			this.task = task;
+			this.command = command;
+		}
+
+		@Override
+		public void run()
+		{
+			final long start = System.nanoTime();
+			queueNanos.add(start - queued);
+			maxQueueNanos.accumulate(start - queued);
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				runNanos.add(System.nanoTime() - start);
+				completed.increment();
+			}
+		}
+
+		@Override
+		public String toString()
+		{
+			return command.toString();
+		}
+	}
+}
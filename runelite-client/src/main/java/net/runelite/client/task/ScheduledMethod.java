@@ -26,6 +26,8 @@ package net.runelite.client.task;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -44,4 +46,9 @@ public class ScheduledMethod
 	private final Runnable lambda;
 	@Setter
 	private Instant last = Instant.now();
+	// set while an asynchronous run is queued or running
+	@Getter(AccessLevel.PACKAGE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final AtomicBoolean inFlight = new AtomicBoolean();
 }
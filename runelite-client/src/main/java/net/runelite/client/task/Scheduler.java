@@ -24,15 +24,22 @@
  */
 package net.runelite.client.task;
 
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,8 +49,13 @@ public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
+	// asynchronous tasks of the same object run one at a time, in order, as they did on the single
+	// scheduler thread. Weakly keyed so that unloaded plugins aren't kept alive.
+	private final Map<Object, Executor> serialExecutors = new MapMaker().weakKeys().makeMap();
+
 	@Inject
-	ScheduledExecutorService executor;
+	@Named("httpExecutor")
+	ExecutorService executor;
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
@@ -75,13 +87,39 @@ public class Scheduler
 
 			if (difference.compareTo(timeSinceRun) > 0)
 			{
+				final AtomicBoolean inFlight = scheduledMethod.getInFlight();
+				if (schedule.asynchronous() && !inFlight.compareAndSet(false, true))
+				{
+					// don't let a slow task overlap itself, try again on the next tick
+					log.trace("Scheduled task still running: {}", scheduledMethod);
+					continue;
+				}
+
 				log.trace("Scheduled task triggered: {}", scheduledMethod);
 
 				scheduledMethod.setLast(now);
 
 				if (schedule.asynchronous())
 				{
-					executor.submit(() -> run(scheduledMethod));
+					try
+					{
+						serialExecutor(scheduledMethod).execute(() ->
+						{
+							try
+							{
+								run(scheduledMethod);
+							}
+							finally
+							{
+								inFlight.set(false);
+							}
+						});
+					}
+					catch (RejectedExecutionException ex)
+					{
+						inFlight.set(false);
+						log.warn("unable to queue scheduled task {}", scheduledMethod, ex);
+					}
 				}
 				else
 				{
@@ -91,6 +129,12 @@ public class Scheduler
 		}
 	}
 
+	private Executor serialExecutor(ScheduledMethod scheduledMethod)
+	{
+		final Object owner = scheduledMethod.getObject() != null ? scheduledMethod.getObject() : scheduledMethod;
+		return serialExecutors.computeIfAbsent(owner, k -> MoreExecutors.sequentialExecutor(executor));
+	}
+
 	private void run(ScheduledMethod scheduledMethod)
 	{
 		try
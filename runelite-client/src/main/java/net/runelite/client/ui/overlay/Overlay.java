@@ -92,6 +92,19 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay's output is retained between frames. A retained overlay is rendered into an
+	 * image which is redrawn only after the overlay is marked dirty with {@link #markDirty()}, its preferred
+	 * size or font changes, or any config changes. Retained overlays must draw within their returned
+	 * dimension, and are not supported for {@link OverlayPosition#DYNAMIC} or {@link OverlayPosition#TOOLTIP}.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean retained;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.PACKAGE)
+	private volatile boolean dirty = true;
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -205,6 +218,14 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Mark the output of a retained overlay as changed, causing it to be rendered again on the next frame.
+	 */
+	public void markDirty()
+	{
+		dirty = true;
+	}
+
 	/**
 	 * Called when an overlay is dragged onto this, if dragTargetable is true.
 	 * Return true to consume the mouse event and prevent the other
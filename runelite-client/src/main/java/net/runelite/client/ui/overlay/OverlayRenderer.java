@@ -26,10 +26,12 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -38,9 +40,14 @@ import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -61,6 +68,7 @@ import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.OverlayMenuClicked;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseAdapter;
@@ -117,6 +125,23 @@ public class OverlayRenderer extends MouseAdapter
 	private OverlayBounds emptySnapCorners, snapCorners;
 	private boolean dragWarn;
 
+	// Per-frame render state, shared by all overlays rendered in a layer
+	private Rectangle clientBounds;
+	private Font interfaceFont, dynamicFont, tooltipFont;
+
+	// Retained overlay output
+	private final Map<Overlay, RetainedImage> retainedImages = new WeakHashMap<>();
+	private final AtomicInteger configGeneration = new AtomicInteger();
+
+	private static class RetainedImage
+	{
+		private BufferedImage image;
+		private Dimension dimension;
+		private Font font;
+		private Dimension preferredSize;
+		private int configGeneration;
+	}
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
@@ -175,6 +200,13 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		// retained overlays may render differently with any config, so redraw them all
+		configGeneration.incrementAndGet();
+	}
+
 	@Subscribe
 	protected void onClientTick(ClientTick t)
 	{
@@ -291,6 +323,11 @@ public class OverlayRenderer extends MouseAdapter
 		final Rectangle clip = clipBounds(layer);
 		graphics.setClip(clip);
 
+		clientBounds = new Rectangle(client.getRealDimensions());
+		interfaceFont = runeLiteConfig.interfaceFontType().getFont();
+		dynamicFont = runeLiteConfig.fontType().getFont();
+		tooltipFont = runeLiteConfig.tooltipFontType().getFont();
+
 		for (Overlay overlay : overlays)
 		{
 			final OverlayPosition overlayPosition = getCorrectedOverlayPosition(overlay);
@@ -310,14 +347,14 @@ public class OverlayRenderer extends MouseAdapter
 				int destX = snapCorner.x + translation.x;
 				int destY = snapCorner.y + translation.y;
 				// Clamp the target position to ensure it is on screen or within parent bounds
-				location = clampOverlayLocation(destX, destY, dimension.width, dimension.height, overlay);
+				location = clampOverlayLocation(destX, destY, dimension.width, dimension.height, overlay, clientBounds);
 			}
 			else
 			{
 				location = preferredLocation != null ? preferredLocation : bounds.getLocation();
 
 				// Clamp the overlay position to ensure it is on screen or within parent bounds
-				location = clampOverlayLocation(location.x, location.y, dimension.width, dimension.height, overlay);
+				location = clampOverlayLocation(location.x, location.y, dimension.width, dimension.height, overlay, clientBounds);
 			}
 
 			if (overlay.getPreferredSize() != null)
@@ -375,7 +412,7 @@ public class OverlayRenderer extends MouseAdapter
 					graphics.setPaint(paint);
 				}
 
-				if (!client.isMenuOpen() && !client.isWidgetSelected() && bounds.contains(mousePosition))
+				if (bounds.contains(mousePosition) && !client.isMenuOpen() && !client.isWidgetSelected())
 				{
 					curHoveredOverlay = overlay;
 					overlay.onMouseOver();
@@ -611,7 +648,8 @@ public class OverlayRenderer extends MouseAdapter
 
 			// Clamp drag to parent component
 			final Rectangle overlayBounds = currentManagedOverlay.getBounds();
-			overlayPosition = clampOverlayLocation(overlayPosition.x, overlayPosition.y, overlayBounds.width, overlayBounds.height, currentManagedOverlay);
+			overlayPosition = clampOverlayLocation(overlayPosition.x, overlayPosition.y, overlayBounds.width, overlayBounds.height, currentManagedOverlay,
+				new Rectangle(client.getRealDimensions()));
 			currentManagedOverlay.setPreferredPosition(null);
 			currentManagedOverlay.setPreferredLocation(overlayPosition);
 		}
@@ -714,15 +752,15 @@ public class OverlayRenderer extends MouseAdapter
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(runeLiteConfig.fontType().getFont());
+			graphics.setFont(dynamicFont);
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			graphics.setFont(tooltipFont);
 		}
 		else
 		{
-			graphics.setFont(runeLiteConfig.interfaceFontType().getFont());
+			graphics.setFont(interfaceFont);
 		}
 
 		graphics.translate(point.x, point.y);
@@ -731,7 +769,14 @@ public class OverlayRenderer extends MouseAdapter
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			if (overlay.isRetained() && position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP)
+			{
+				overlayDimension = renderRetained(overlay, graphics);
+			}
+			else
+			{
+				overlayDimension = overlay.render(graphics);
+			}
 		}
 		catch (Exception ex)
 		{
@@ -743,6 +788,87 @@ public class OverlayRenderer extends MouseAdapter
 		overlay.getBounds().setSize(dimension);
 	}
 
+	private Dimension renderRetained(Overlay overlay, Graphics2D graphics)
+	{
+		RetainedImage retained = retainedImages.computeIfAbsent(overlay, k -> new RetainedImage());
+		final Font font = graphics.getFont();
+		final Dimension preferredSize = overlay.getPreferredSize();
+		final int generation = configGeneration.get();
+
+		if (overlay.isDirty() || retained.image == null || retained.font != font
+			|| retained.configGeneration != generation || !Objects.equals(retained.preferredSize, preferredSize))
+		{
+			// clear dirty first, so that the overlay being marked dirty while it renders is not lost
+			overlay.setDirty(false);
+
+			boolean rendered = false;
+			try
+			{
+				retained.dimension = renderToImage(overlay, graphics, retained);
+				rendered = true;
+			}
+			finally
+			{
+				if (!rendered)
+				{
+					overlay.markDirty();
+				}
+			}
+
+			retained.font = font;
+			retained.preferredSize = preferredSize != null ? new Dimension(preferredSize) : null;
+			retained.configGeneration = generation;
+		}
+
+		final Dimension dimension = retained.dimension;
+		if (dimension != null && dimension.width > 0 && dimension.height > 0)
+		{
+			graphics.drawImage(retained.image, 0, 0, dimension.width, dimension.height, 0, 0, dimension.width, dimension.height, null);
+		}
+		return dimension;
+	}
+
+	private static Dimension renderToImage(Overlay overlay, Graphics2D graphics, RetainedImage retained)
+	{
+		BufferedImage image = retained.image;
+		if (image == null)
+		{
+			// start from the last size of the overlay, the image is grown below if the overlay is larger
+			final Rectangle bounds = overlay.getBounds();
+			image = new BufferedImage(Math.max(bounds.width, 1), Math.max(bounds.height, 1), BufferedImage.TYPE_INT_ARGB);
+		}
+
+		for (;;)
+		{
+			final Graphics2D g = image.createGraphics();
+			final Dimension dimension;
+			try
+			{
+				g.setComposite(AlphaComposite.Clear);
+				g.fillRect(0, 0, image.getWidth(), image.getHeight());
+				g.setComposite(AlphaComposite.SrcOver);
+				g.setRenderingHints(graphics.getRenderingHints());
+				g.setFont(graphics.getFont());
+				g.setColor(graphics.getColor());
+				g.setStroke(graphics.getStroke());
+				dimension = overlay.render(g);
+			}
+			finally
+			{
+				g.dispose();
+			}
+
+			if (dimension == null || (dimension.width <= image.getWidth() && dimension.height <= image.getHeight()))
+			{
+				retained.image = image;
+				return dimension;
+			}
+
+			// the overlay was clipped by the image, so render it again into one which fits
+			image = new BufferedImage(Math.max(dimension.width, image.getWidth()), Math.max(dimension.height, image.getHeight()), BufferedImage.TYPE_INT_ARGB);
+		}
+	}
+
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
 	{
 		OverlayPosition overlayPosition = overlay.getPosition();
@@ -894,16 +1020,16 @@ public class OverlayRenderer extends MouseAdapter
 	 * @param overlayWidth
 	 * @param overlayHeight
 	 * @param overlay       the overlay
+	 * @param clientBounds  the client bounds, used if the overlay has no parent bounds
 	 * @return the clamped position
 	 */
-	private Point clampOverlayLocation(int overlayX, int overlayY, int overlayWidth, int overlayHeight, Overlay overlay)
+	private static Point clampOverlayLocation(int overlayX, int overlayY, int overlayWidth, int overlayHeight, Overlay overlay, Rectangle clientBounds)
 	{
 		Rectangle parentBounds = overlay.getParentBounds();
 		if (parentBounds == null || parentBounds.isEmpty())
 		{
 			// If no bounds are set, use the full client bounds
-			Dimension dim = client.getRealDimensions();
-			parentBounds = new Rectangle(0, 0, dim.width, dim.height);
+			parentBounds = clientBounds;
 		}
 
 		// Constrain overlay position to be within the parent bounds
@@ -31,11 +31,15 @@ import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Value;
 import net.runelite.api.Client;
 import net.runelite.api.DecorativeObject;
 import net.runelite.api.GameObject;
@@ -57,6 +61,53 @@ import net.runelite.api.coords.LocalPoint;
 @Singleton
 public class ModelOutlineRenderer
 {
+	/**
+	 * An outline to draw with {@link #drawOutlines(Collection)}
+	 */
+	@Value
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Outline
+	{
+		Object entity;
+		int width;
+		Color color;
+		int feather;
+
+		public static Outline of(NPC npc, int width, Color color, int feather)
+		{
+			return new Outline(npc, width, color, feather);
+		}
+
+		public static Outline of(Player player, int width, Color color, int feather)
+		{
+			return new Outline(player, width, color, feather);
+		}
+
+		public static Outline of(TileObject tileObject, int width, Color color, int feather)
+		{
+			return new Outline(tileObject, width, color, feather);
+		}
+
+		public static Outline of(GraphicsObject graphicsObject, int width, Color color, int feather)
+		{
+			return new Outline(graphicsObject, width, color, feather);
+		}
+
+		public static Outline of(RuneLiteObject runeLiteObject, int width, Color color, int feather)
+		{
+			return new Outline(runeLiteObject, width, color, feather);
+		}
+	}
+
+	@AllArgsConstructor
+	private static class PendingOutline
+	{
+		private final ModelCoverage coverage;
+		private final int outlineWidth;
+		private final Color color;
+		private final int feather;
+	}
+
 	@AllArgsConstructor
 	private static class PixelDistanceDelta
 	{
@@ -76,14 +127,22 @@ public class ModelOutlineRenderer
 	private static final int MAX_OUTLINE_WIDTH = 50;
 	private static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
+	// Item layers have up to 3 models
+	private static final int MAX_MODELS = 3;
 
 	private final Client client;
 
-	// Vertex positions projected on the screen.
-	private final int[] projectedVerticesX = new int[6500];
-	private final int[] projectedVerticesY = new int[6500];
+	// Coverages of the outlined models by entity and model index, kept across frames so that the coverage
+	// of a model which hasn't changed can be reused. Coverages not used during a game cycle are dropped.
+	private Map<Object, ModelCoverage[]> coverages = new IdentityHashMap<>();
+	private Map<Object, ModelCoverage[]> previousCoverages = new IdentityHashMap<>();
+	private int coverageCycle;
+
+	// The outlines being collected by drawOutlines, or null if not drawing a batch
+	private List<PendingOutline> batch;
+	private int batchId;
 
-	// Window boundaries for the ingame world
+	// The coverage being drawn. Window boundaries for the ingame world
 	private int clipX1;
 	private int clipY1;
 	private int clipX2;
@@ -92,13 +151,13 @@ public class ModelOutlineRenderer
 	// Boundaries for the outline
 	private int croppedX1;
 	private int croppedY1;
-	private int croppedX2;
-	private int croppedY2;
 	private int croppedWidth;
 	private int croppedHeight;
 
 	// Bitset with pixel positions that would be rendered to within the cropped area by the model.
-	private int[] visited = new int[0];
+	private int[] visited;
+	// Copy of the coverage's bitset for queued outlines, which mark outline pixels visited as they are drawn
+	private int[] visitedCopy = new int[0];
 
 	// Memory used for queueing the pixels for the outline of the model.
 	// Pixels are grouped by x and y distance to the closest pixel drawn on the model.
@@ -130,7 +189,7 @@ public class ModelOutlineRenderer
 	 * @param value The value to find the next power of two of.
 	 * @return Returns the next power of two.
 	 */
-	private static int nextPowerOfTwo(int value)
+	static int nextPowerOfTwo(int value)
 	{
 		value--;
 		value |= value >> 1;
@@ -142,16 +201,6 @@ public class ModelOutlineRenderer
 		return value;
 	}
 
-	/**
-	 * Determine if a triangle goes counter clockwise
-	 *
-	 * @return Returns true if the triangle goes counter clockwise and should be culled, otherwise false
-	 */
-	private static boolean cullFace(int x1, int y1, int x2, int y2, int x3, int y3)
-	{
-		return (y2 - y1) * (x3 - x2) - (x2 - x1) * (y3 - y2) <= 0;
-	}
-
 	/**
 	 * Get an array of pixel outline group indices ordered by distance for a specific outline width.
 	 *
@@ -282,21 +331,6 @@ public class ModelOutlineRenderer
 		memory[(block << IntBlockBuffer.BLOCK_BITS) + blockPos] = (y << 16) | x;
 	}
 
-	/**
-	 * Checks that the visited bitset is big enough to hold a certain amount of pixels and sets them to 0.
-	 *
-	 * @param pixelAmount The amount of pixels needed.
-	 */
-	private void resetVisited(int pixelAmount)
-	{
-		int size = (pixelAmount >>> 5);
-		if (visited.length < size)
-		{
-			visited = new int[nextPowerOfTwo(size)];
-		}
-		Arrays.fill(visited, 0, size, 0);
-	}
-
 	/**
 	 * Ensures that the outline buffer arrays are large enough to fit the current outline.
 	 */
@@ -336,267 +370,6 @@ public class ModelOutlineRenderer
 		}
 	}
 
-	/**
-	 * Simulates a horizontal line rasterization and marks pixels visited.
-	 *
-	 * @param pixelY The y position of the line
-	 * @param x1 The starting x position
-	 * @param x2 The ending x position
-	 */
-	private void simulateHorizontalLineRasterizationForOutline(int pixelY, int x1, int x2)
-	{
-		if (x2 > clipX2)
-		{
-			x2 = clipX2;
-		}
-		if (x1 < clipX1)
-		{
-			x1 = clipX1;
-		}
-		if (x1 >= x2)
-		{
-			return;
-		}
-
-		int pixelPos1 = (pixelY - croppedY1) * croppedWidth + (x1 - croppedX1);
-		int pixelPos2 = pixelPos1 + x2 - x1;
-		int pixelPosIndex1 = pixelPos1 >> 5;
-		int pixelPosIndex2 = pixelPos2 >> 5;
-		if (pixelPosIndex1 == pixelPosIndex2)
-		{
-			visited[pixelPosIndex1] |= ((1 << (pixelPos2 & 31)) - 1) ^ ((1 << (pixelPos1 & 31)) - 1);
-		}
-		else
-		{
-			visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
-			visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
-			for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
-			{
-				visited[i] = 0xFFFFFFFF;
-			}
-		}
-	}
-
-	/**
-	 * Simulates rasterization of a triangle and marks pixels visited.
-	 *
-	 * @param x1 The x position of the first vertex in the triangle
-	 * @param y1 The y position of the first vertex in the triangle
-	 * @param x2 The x position of the second vertex in the triangle
-	 * @param y2 The y position of the second vertex in the triangle
-	 * @param x3 The x position of the third vertex in the triangle
-	 * @param y3 The y position of the third vertex in the triangle
-	 */
-	private void simulateTriangleRasterizationForOutline(
-		int x1, int y1, int x2, int y2, int x3, int y3)
-	{
-		// Swap vertices so y1 <= y2 <= y3 using bubble sort
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
-		}
-		if (y2 > y3)
-		{
-			int yp = y2;
-			int xp = x2;
-			y2 = y3;
-			y3 = yp;
-			x2 = x3;
-			x3 = xp;
-		}
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
-		}
-
-		if (y1 > clipY2)
-		{
-			// All points are outside clip boundaries
-			return;
-		}
-
-		int slope1 = 0;
-		if (y1 != y2)
-		{
-			slope1 = (x2 - x1 << 14) / (y2 - y1);
-		}
-
-		int slope2 = 0;
-		if (y3 != y2)
-		{
-			slope2 = (x3 - x2 << 14) / (y3 - y2);
-		}
-
-		int slope3 = 0;
-		if (y1 != y3)
-		{
-			slope3 = (x1 - x3 << 14) / (y1 - y3);
-		}
-
-		if (y2 > clipY2)
-		{
-			y2 = clipY2;
-		}
-		if (y3 > clipY2)
-		{
-			y3 = clipY2;
-		}
-		if (y1 == y3 || y3 < clipY1)
-		{
-			return;
-		}
-
-		x1 <<= 14;
-		x2 <<= 14;
-		x3 = x1;
-
-		if (y1 < clipY1)
-		{
-			x3 -= (y1 - clipY1) * slope3;
-			x1 -= (y1 - clipY1) * slope1;
-			y1 = clipY1;
-		}
-		if (y2 < clipY1)
-		{
-			x2 -= (y2 - clipY1) * slope2;
-			y2 = clipY1;
-		}
-
-		int pixelY = y1;
-		int height1 = y2 - y1;
-		int height2 = y3 - y2;
-		if (y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2)
-		{
-			while (height1-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x1 >> 14);
-				x3 += slope3;
-				x1 += slope1;
-				pixelY++;
-			}
-
-			while (height2-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x2 >> 14);
-				x3 += slope3;
-				x2 += slope2;
-				pixelY++;
-			}
-		}
-		else
-		{
-			while (height1-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x1 >> 14, x3 >> 14);
-				x1 += slope1;
-				x3 += slope3;
-				pixelY++;
-			}
-
-			while (height2-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x2 >> 14, x3 >> 14);
-				x3 += slope3;
-				x2 += slope2;
-				pixelY++;
-			}
-		}
-	}
-
-	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
-	 *
-	 * @param localX The local x position of the vertices.
-	 * @param localY The local y position of the vertices.
-	 * @param localZ The local z position of the vertices.
-	 * @param vertexOrientation The orientation of the vertices.
-	 * @return Returns true if any of them are inside the clip area, otherwise false.
-	 */
-	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
-	{
-		final int vertexCount = model.getVerticesCount();
-		Perspective.modelToCanvas(client,
-			vertexCount,
-			localX, localY, localZ,
-			vertexOrientation,
-			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
-			projectedVerticesX, projectedVerticesY);
-
-		boolean anyVisible = false;
-
-		for (int i = 0; i < vertexCount; i++)
-		{
-			int x = projectedVerticesX[i];
-			int y = projectedVerticesY[i];
-
-			if (y != Integer.MIN_VALUE)
-			{
-				boolean visibleX = x >= clipX1 && x < clipX2;
-				boolean visibleY = y >= clipY1 && y < clipY2;
-				anyVisible |= visibleX && visibleY;
-
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
-			}
-			else
-			{
-				// Vertex is too close or behind camera and isn't rendered
-				projectedVerticesY[i] = Integer.MIN_VALUE;
-			}
-		}
-
-		return anyVisible;
-	}
-
-	/**
-	 * Simulates rendering of the model and marks every pixel visited.
-	 */
-	private void simulateModelRasterizationForOutline(Model model)
-	{
-		final int triangleCount = model.getFaceCount();
-		final int[] indices1 = model.getFaceIndices1();
-		final int[] indices2 = model.getFaceIndices2();
-		final int[] indices3 = model.getFaceIndices3();
-		final byte[] triangleTransparencies = model.getFaceTransparencies();
-
-		for (int i = 0; i < triangleCount; i++)
-		{
-			if (projectedVerticesY[indices1[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices2[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices3[i]] != Integer.MIN_VALUE &&
-				// 254 and 255 counts as fully transparent
-				(triangleTransparencies == null || (triangleTransparencies[i] & 255) < 254))
-			{
-				final int index1 = indices1[i];
-				final int index2 = indices2[i];
-				final int index3 = indices3[i];
-				final int v1x = projectedVerticesX[index1];
-				final int v1y = projectedVerticesY[index1];
-				final int v2x = projectedVerticesX[index2];
-				final int v2y = projectedVerticesY[index2];
-				final int v3x = projectedVerticesX[index3];
-				final int v3y = projectedVerticesY[index3];
-
-				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
-				{
-					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
-				}
-			}
-		}
-	}
-
 	/**
 	 * Draws the outline of a pixel according to the distance deltas of an outline.
 	 *
@@ -886,8 +659,10 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Draws an outline around a model to an image
+	 * Draws an outline around a model to an image, or adds it to the batch being drawn
 	 *
+	 * @param entity The entity the model belongs to, used to reuse the model's coverage across frames
+	 * @param part The index of the model within the entity
 	 * @param localX The local x position of the model
 	 * @param localY The local y position of the model
 	 * @param localZ The local z position of the model
@@ -895,7 +670,7 @@ public class ModelOutlineRenderer
 	 * @param outlineWidth The width of the outline
 	 * @param color The color of the outline
 	 */
-	private void drawModelOutline(Model model,
+	private void drawModelOutline(Object entity, int part, Model model,
 		int localX, int localY, int localZ, int orientation,
 		int outlineWidth, Color color, int feather)
 	{
@@ -918,35 +693,65 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
-		croppedX1 = Integer.MAX_VALUE;
-		croppedX2 = Integer.MIN_VALUE;
-		croppedY1 = Integer.MAX_VALUE;
-		croppedY2 = Integer.MIN_VALUE;
-
-		clipX1 = client.getViewportXOffset();
-		clipY1 = client.getViewportYOffset();
-		clipX2 = client.getViewportWidth() + clipX1;
-		clipY2 = client.getViewportHeight() + clipY1;
+		ModelCoverage coverage = getCoverage(entity, part);
+		if (!coverage.project(client, model, localX, localY, localZ, orientation, outlineWidth))
+		{
+			return;
+		}
 
-		if (!projectVertices(model, localX, localY, localZ, orientation))
+		if (batch != null)
 		{
-			// No vertex of the model is visible on the screen, so we can
-			// assume there are no parts of the model to outline.
+			batch.add(new PendingOutline(coverage, outlineWidth, color, feather));
 			return;
 		}
 
-		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
-		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
-		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
-		croppedY1 = Math.max(croppedY1 - outlineWidth, clipY1);
-		croppedY2 = Math.min(croppedY2 + outlineWidth, clipY2);
-		croppedWidth = croppedX2 - croppedX1;
-		croppedHeight = croppedY2 - croppedY1;
+		if (coverage.needsRasterization())
+		{
+			coverage.rasterize();
+		}
+		drawCoverage(coverage, outlineWidth, color, feather);
+	}
+
+	private ModelCoverage getCoverage(Object entity, int part)
+	{
+		final int cycle = client.getGameCycle();
+		if (cycle != coverageCycle)
+		{
+			coverageCycle = cycle;
+			Map<Object, ModelCoverage[]> unused = previousCoverages;
+			unused.clear();
+			previousCoverages = coverages;
+			coverages = unused;
+		}
+
+		ModelCoverage[] parts = coverages.get(entity);
+		if (parts == null)
+		{
+			parts = previousCoverages.remove(entity);
+			if (parts == null)
+			{
+				parts = new ModelCoverage[MAX_MODELS];
+			}
+			coverages.put(entity, parts);
+		}
 
-		resetVisited(croppedWidth * croppedHeight);
+		ModelCoverage coverage = parts[part];
+		if (coverage == null)
+		{
+			coverage = parts[part] = new ModelCoverage();
+		}
+		else if (batch != null && coverage.batch == batchId)
+		{
+			// the entity is outlined more than once in this batch, possibly with a different width
+			coverage = new ModelCoverage();
+		}
 
-		simulateModelRasterizationForOutline(model);
+		coverage.batch = batchId;
+		return coverage;
+	}
 
+	private void drawCoverage(ModelCoverage coverage, int outlineWidth, Color color, int feather)
+	{
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
 		// and instead raster pixels directly. This only looks right for opaque
@@ -956,12 +761,31 @@ public class ModelOutlineRenderer
 		boolean directWrite = color.getAlpha() == 255 && outlineWidth <= DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD &&
 			(feather == 0 || outlineWidth == 1); // Feather has no effect on outlineWidth == 1
 
+		clipX1 = coverage.clipX1;
+		clipY1 = coverage.clipY1;
+		clipX2 = coverage.clipX2;
+		clipY2 = coverage.clipY2;
+		croppedX1 = coverage.croppedX1;
+		croppedY1 = coverage.croppedY1;
+		croppedWidth = coverage.croppedWidth;
+		croppedHeight = coverage.croppedHeight;
+
 		if (directWrite)
 		{
+			visited = coverage.visited;
 			ensureDistanceDeltasCreated(outlineWidth);
 		}
 		else
 		{
+			// the queue marks drawn pixels visited, so work on a copy to keep the coverage reusable
+			int size = (croppedWidth * croppedHeight) >>> 5;
+			if (visitedCopy.length < size)
+			{
+				visitedCopy = new int[nextPowerOfTwo(size)];
+			}
+			System.arraycopy(coverage.visited, 0, visitedCopy, 0, size);
+			visited = visitedCopy;
+
 			outlineArrayWidth = outlineWidth + 2;
 			initializeOutlineBuffers();
 		}
@@ -978,6 +802,75 @@ public class ModelOutlineRenderer
 		finally
 		{
 			freeAllBlockMemory();
+			visited = null;
+		}
+	}
+
+	/**
+	 * Draws the outlines of several entities. The coverage of the entities' models is rasterized in parallel,
+	 * and the outlines are then drawn in the given order.
+	 *
+	 * @param outlines The outlines to draw
+	 */
+	public void drawOutlines(Collection<Outline> outlines)
+	{
+		batch = new ArrayList<>(outlines.size());
+		++batchId;
+		try
+		{
+			for (Outline outline : outlines)
+			{
+				final Object entity = outline.getEntity();
+				if (entity instanceof NPC)
+				{
+					drawOutline((NPC) entity, outline.getWidth(), outline.getColor(), outline.getFeather());
+				}
+				else if (entity instanceof Player)
+				{
+					drawOutline((Player) entity, outline.getWidth(), outline.getColor(), outline.getFeather());
+				}
+				else if (entity instanceof TileObject)
+				{
+					drawOutline((TileObject) entity, outline.getWidth(), outline.getColor(), outline.getFeather());
+				}
+				else if (entity instanceof GraphicsObject)
+				{
+					drawOutline((GraphicsObject) entity, outline.getWidth(), outline.getColor(), outline.getFeather());
+				}
+				else if (entity instanceof RuneLiteObject)
+				{
+					drawOutline((RuneLiteObject) entity, outline.getWidth(), outline.getColor(), outline.getFeather());
+				}
+			}
+
+			final List<ModelCoverage> rasterize = new ArrayList<>();
+			for (PendingOutline pending : batch)
+			{
+				if (pending.coverage.needsRasterization())
+				{
+					rasterize.add(pending.coverage);
+				}
+			}
+
+			if (rasterize.size() > 1)
+			{
+				rasterize.parallelStream().forEach(ModelCoverage::rasterize);
+			}
+			else
+			{
+				rasterize.forEach(ModelCoverage::rasterize);
+			}
+
+			final List<PendingOutline> pendingOutlines = batch;
+			batch = null;
+			for (PendingOutline pending : pendingOutlines)
+			{
+				drawCoverage(pending.coverage, pending.outlineWidth, pending.color, pending.feather);
+			}
+		}
+		finally
+		{
+			batch = null;
 		}
 	}
 
@@ -998,7 +891,7 @@ public class ModelOutlineRenderer
 			final int northEastY = lp.getY() + Perspective.LOCAL_TILE_SIZE * (size - 1) / 2;
 			final LocalPoint northEastLp = new LocalPoint(northEastX, northEastY);
 
-			drawModelOutline(npc.getModel(), lp.getX(), lp.getY(),
+			drawModelOutline(npc, 0, npc.getModel(), lp.getX(), lp.getY(),
 				Perspective.getTileHeight(client, northEastLp, client.getPlane()),
 				npc.getCurrentOrientation(), outlineWidth, color, feather);
 		}
@@ -1009,7 +902,7 @@ public class ModelOutlineRenderer
 		LocalPoint lp = player.getLocalLocation();
 		if (lp != null)
 		{
-			drawModelOutline(player.getModel(), lp.getX(), lp.getY(),
+			drawModelOutline(player, 0, player.getModel(), lp.getX(), lp.getY(),
 				Perspective.getTileHeight(client, lp, client.getPlane()),
 				player.getCurrentOrientation(), outlineWidth, color, feather);
 		}
@@ -1023,7 +916,7 @@ public class ModelOutlineRenderer
 			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, gameObject.getX(), gameObject.getY(), gameObject.getZ(),
+				drawModelOutline(gameObject, 0, model, gameObject.getX(), gameObject.getY(), gameObject.getZ(),
 					gameObject.getModelOrientation(), outlineWidth, color, feather);
 			}
 		}
@@ -1037,7 +930,7 @@ public class ModelOutlineRenderer
 			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, groundObject.getX(), groundObject.getY(), groundObject.getZ(),
+				drawModelOutline(groundObject, 0, model, groundObject.getX(), groundObject.getY(), groundObject.getZ(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1051,7 +944,7 @@ public class ModelOutlineRenderer
 			Model model = bottomRenderable instanceof Model ? (Model) bottomRenderable : bottomRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
+				drawModelOutline(itemLayer, 0, model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1062,7 +955,7 @@ public class ModelOutlineRenderer
 			Model model = middleRenderable instanceof Model ? (Model) middleRenderable : middleRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
+				drawModelOutline(itemLayer, 1, model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1073,7 +966,7 @@ public class ModelOutlineRenderer
 			Model model = topRenderable instanceof Model ? (Model) topRenderable : topRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
+				drawModelOutline(itemLayer, 2, model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1087,7 +980,7 @@ public class ModelOutlineRenderer
 			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model,
+				drawModelOutline(decorativeObject, 0, model,
 					decorativeObject.getX() + decorativeObject.getXOffset(),
 					decorativeObject.getY() + decorativeObject.getYOffset(),
 					decorativeObject.getZ(),
@@ -1102,7 +995,7 @@ public class ModelOutlineRenderer
 			if (model != null)
 			{
 				// Offset is not used for the second model
-				drawModelOutline(model, decorativeObject.getX(), decorativeObject.getY(), decorativeObject.getZ(),
+				drawModelOutline(decorativeObject, 1, model, decorativeObject.getX(), decorativeObject.getY(), decorativeObject.getZ(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1116,7 +1009,7 @@ public class ModelOutlineRenderer
 			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
+				drawModelOutline(wallObject, 0, model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1127,7 +1020,7 @@ public class ModelOutlineRenderer
 			Model model = renderable2 instanceof Model ? (Model) renderable2 : renderable2.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
+				drawModelOutline(wallObject, 1, model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1165,7 +1058,7 @@ public class ModelOutlineRenderer
 			Model model = graphicsObject.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, lp.getX(), lp.getY(), graphicsObject.getZ(),
+				drawModelOutline(graphicsObject, 0, model, lp.getX(), lp.getY(), graphicsObject.getZ(),
 					0, outlineWidth, color, feather);
 			}
 		}
@@ -1179,7 +1072,7 @@ public class ModelOutlineRenderer
 			Model model = runeLiteObject.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, lp.getX(), lp.getY(), runeLiteObject.getZ(),
+				drawModelOutline(runeLiteObject, 0, model, lp.getX(), lp.getY(), runeLiteObject.getZ(),
 					runeLiteObject.getOrientation(), outlineWidth, color, feather);
 			}
 		}
@@ -41,13 +41,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -61,7 +61,6 @@ import net.runelite.client.ui.DrawManager;
 
 @Slf4j
 @Singleton
-@RequiredArgsConstructor(onConstructor = @__(@Inject))
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
@@ -70,9 +69,27 @@ public class ImageCapture
 	private final Notifier notifier;
 	private final ClientUI clientUi;
 	private final DrawManager drawManager;
-	private final ScheduledExecutorService executor;
+	private final ExecutorService executor;
 	private final EventBus eventBus;
 
+	@Inject
+	private ImageCapture(
+		Client client,
+		Notifier notifier,
+		ClientUI clientUi,
+		DrawManager drawManager,
+		@Named("ioExecutor") ExecutorService executor,
+		EventBus eventBus
+	)
+	{
+		this.client = client;
+		this.notifier = notifier;
+		this.clientUi = clientUi;
+		this.drawManager = drawManager;
+		this.executor = executor;
+		this.eventBus = eventBus;
+	}
+
 	/**
 	 * Take a screenshot and save it
 	 * @param subDir the subdirectory to save the screenshot in
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches a set of literal words and regular expressions against text. The words are compiled into
+ * a single Aho-Corasick automaton, so the cost of matching them does not grow with the number of words.
+ * <p>
+ * The spans reported are the same as those found by running {@link Matcher#find()} over the text with
+ * each word (quoted) and regex on its own: matches of one pattern do not overlap, but matches of
+ * different patterns may.
+ */
+public class MultiPatternMatcher
+{
+	public static final MultiPatternMatcher EMPTY = new MultiPatternMatcher(Collections.emptyList(), Collections.emptyList(), false);
+
+	@FunctionalInterface
+	public interface MatchListener
+	{
+		void onMatch(int start, int end);
+	}
+
+	private final boolean ignoreCase;
+	private final List<Pattern> regexes;
+
+	// automaton states, 0 is the root. transitions of each state are sorted by character
+	private final char[][] transitionChars;
+	private final int[][] transitionStates;
+	private final int[] failure;
+	// index of the word ending at each state, or -1
+	private final int[] word;
+	// the nearest state on the failure chain which ends a word, or -1
+	private final int[] wordLink;
+	private final int[] wordLengths;
+
+	/**
+	 * @param words literal words to match
+	 * @param regexes regular expressions to match, in addition to the words
+	 * @param ignoreCase whether to match the words case insensitively. Like {@link Pattern#CASE_INSENSITIVE},
+	 *                   only US-ASCII characters are folded.
+	 */
+	public MultiPatternMatcher(Collection<String> words, Collection<Pattern> regexes, boolean ignoreCase)
+	{
+		this.ignoreCase = ignoreCase;
+		this.regexes = new ArrayList<>(regexes);
+
+		Set<String> uniqueWords = new LinkedHashSet<>();
+		for (String w : words)
+		{
+			if (!w.isEmpty())
+			{
+				uniqueWords.add(ignoreCase ? fold(w) : w);
+			}
+		}
+
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<Integer> trieWords = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		trieWords.add(-1);
+
+		wordLengths = new int[uniqueWords.size()];
+		int wordIdx = 0;
+		for (String w : uniqueWords)
+		{
+			int state = 0;
+			for (int i = 0; i < w.length(); ++i)
+			{
+				Integer next = trie.get(state).get(w.charAt(i));
+				if (next == null)
+				{
+					next = trie.size();
+					trie.add(new TreeMap<>());
+					trieWords.add(-1);
+					trie.get(state).put(w.charAt(i), next);
+				}
+				state = next;
+			}
+			trieWords.set(state, wordIdx);
+			wordLengths[wordIdx++] = w.length();
+		}
+
+		int states = trie.size();
+		transitionChars = new char[states][];
+		transitionStates = new int[states][];
+		word = new int[states];
+		for (int s = 0; s < states; ++s)
+		{
+			TreeMap<Character, Integer> transitions = trie.get(s);
+			transitionChars[s] = new char[transitions.size()];
+			transitionStates[s] = new int[transitions.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> entry : transitions.entrySet())
+			{
+				transitionChars[s][i] = entry.getKey();
+				transitionStates[s][i++] = entry.getValue();
+			}
+			word[s] = trieWords.get(s);
+		}
+
+		// breadth first, so the failure state of a state's parent is always known first
+		failure = new int[states];
+		wordLink = new int[states];
+		wordLink[0] = -1;
+		Deque<Integer> queue = new ArrayDeque<>();
+		for (int child : transitionStates[0])
+		{
+			failure[child] = 0;
+			wordLink[child] = -1;
+			queue.add(child);
+		}
+		while (!queue.isEmpty())
+		{
+			int s = queue.poll();
+			for (int i = 0; i < transitionChars[s].length; ++i)
+			{
+				char c = transitionChars[s][i];
+				int child = transitionStates[s][i];
+
+				int f = failure[s];
+				int next;
+				while ((next = transition(f, c)) < 0 && f != 0)
+				{
+					f = failure[f];
+				}
+				failure[child] = next >= 0 ? next : 0;
+				wordLink[child] = word[failure[child]] >= 0 ? failure[child] : wordLink[failure[child]];
+				queue.add(child);
+			}
+		}
+	}
+
+	public boolean isEmpty()
+	{
+		return wordLengths.length == 0 && regexes.isEmpty();
+	}
+
+	/**
+	 * Test if any word or regex matches the text
+	 */
+	public boolean find(CharSequence text)
+	{
+		if (wordLengths.length > 0)
+		{
+			int state = 0;
+			for (int i = 0; i < text.length(); ++i)
+			{
+				state = step(state, text.charAt(i));
+				if (word[state] >= 0 || wordLink[state] >= 0)
+				{
+					return true;
+				}
+			}
+		}
+
+		for (Pattern regex : regexes)
+		{
+			if (regex.matcher(text).find())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find every match in the text. Word matches are reported first, in order of their end,
+	 * followed by the matches of each regex in turn.
+	 */
+	public void findAll(CharSequence text, MatchListener listener)
+	{
+		if (wordLengths.length > 0)
+		{
+			// end of the last match of each word, so that matches of the same word don't overlap
+			int[] lastEnd = new int[wordLengths.length];
+			int state = 0;
+			for (int i = 0; i < text.length(); ++i)
+			{
+				state = step(state, text.charAt(i));
+				for (int s = word[state] >= 0 ? state : wordLink[state]; s >= 0; s = wordLink[s])
+				{
+					int w = word[s];
+					int start = i + 1 - wordLengths[w];
+					if (start >= lastEnd[w])
+					{
+						lastEnd[w] = i + 1;
+						listener.onMatch(start, i + 1);
+					}
+				}
+			}
+		}
+
+		for (Pattern regex : regexes)
+		{
+			Matcher m = regex.matcher(text);
+			while (m.find())
+			{
+				listener.onMatch(m.start(), m.end());
+			}
+		}
+	}
+
+	private int step(int state, char c)
+	{
+		if (ignoreCase)
+		{
+			c = fold(c);
+		}
+
+		int next;
+		while ((next = transition(state, c)) < 0 && state != 0)
+		{
+			state = failure[state];
+		}
+		return next >= 0 ? next : 0;
+	}
+
+	private int transition(int state, char c)
+	{
+		char[] chars = transitionChars[state];
+		int idx = Arrays.binarySearch(chars, c);
+		return idx >= 0 ? transitionStates[state][idx] : -1;
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String fold(String s)
+	{
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+}
@@ -24,34 +24,335 @@
  */
 package net.runelite.client.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Matches names against wildcard patterns, where {@code *} matches any run of characters. Matching is
+ * case insensitive for US-ASCII characters, like a {@link Pattern#CASE_INSENSITIVE} regex.
+ */
 public class WildcardMatcher
 {
 	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
 
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		return new Wildcard(pattern).matches(text);
+	}
 
-		buffer.append("(?i)");
-		while (matcher.find())
+	/**
+	 * Compile a list of wildcard patterns to match many names against
+	 */
+	public static PatternSet<String> compile(List<String> patterns)
+	{
+		return new PatternSet<>(patterns, Function.identity());
+	}
+
+	/**
+	 * Compile a list of entries, each with a wildcard pattern, to match many names against
+	 *
+	 * @param entries entries, in order of priority
+	 * @param pattern function from an entry to its pattern
+	 */
+	public static <T> PatternSet<T> compile(List<T> entries, Function<? super T, String> pattern)
+	{
+		return new PatternSet<>(entries, pattern);
+	}
+
+	/**
+	 * A list of entries with wildcard patterns. Patterns without a wildcard are found by hash, and
+	 * the rest are tested in order with checks specialized to their shape, so matching does not
+	 * compile or allocate anything.
+	 */
+	public static class PatternSet<T>
+	{
+		private final List<T> entries;
+
+		// open addressed table of the entries without a wildcard, keyed by folded pattern
+		private final String[] literalKeys;
+		private final int[] literalEntries;
+		// the next entry with the same literal pattern, or -1
+		private final int[] nextLiteral;
+
+		private final Wildcard[] wildcards;
+		private final int[] wildcardEntries;
+
+		private PatternSet(List<T> entries, Function<? super T, String> pattern)
 		{
-			if (matcher.group(1) != null)
+			this.entries = new ArrayList<>(entries);
+
+			int literals = 0;
+			for (T entry : entries)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				if (pattern.apply(entry).indexOf('*') == -1)
+				{
+					++literals;
+				}
 			}
-			else
+
+			int capacity = Integer.highestOneBit(Math.max(literals, 1) * 2) * 2;
+			literalKeys = new String[capacity];
+			literalEntries = new int[capacity];
+			nextLiteral = new int[entries.size()];
+			wildcards = new Wildcard[entries.size() - literals];
+			wildcardEntries = new int[wildcards.length];
+
+			int[] lastLiteral = new int[capacity];
+			int wildcardIdx = 0;
+			for (int i = 0; i < entries.size(); ++i)
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				String p = pattern.apply(entries.get(i));
+				nextLiteral[i] = -1;
+				if (p.indexOf('*') != -1)
+				{
+					wildcards[wildcardIdx] = new Wildcard(p);
+					wildcardEntries[wildcardIdx++] = i;
+					continue;
+				}
+
+				String key = fold(p);
+				int slot = foldedHash(key, 0, key.length()) & (capacity - 1);
+				while (literalKeys[slot] != null && !literalKeys[slot].equals(key))
+				{
+					slot = (slot + 1) & (capacity - 1);
+				}
+
+				if (literalKeys[slot] == null)
+				{
+					literalKeys[slot] = key;
+					literalEntries[slot] = i;
+				}
+				else
+				{
+					nextLiteral[lastLiteral[slot]] = i;
+				}
+				lastLiteral[slot] = i;
 			}
 		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+		/**
+		 * Find the first entry whose pattern matches the name
+		 *
+		 * @return the entry, or null if none match
+		 */
+		public T match(String name)
+		{
+			return match(name, null);
+		}
+
+		/**
+		 * Find the first entry whose pattern matches the name and which passes the filter,
+		 * for example an item quantity threshold.
+		 *
+		 * @return the entry, or null if none match
+		 */
+		public T match(String name, Predicate<? super T> filter)
+		{
+			int best = Integer.MAX_VALUE;
+
+			for (int i = findLiteral(name); i != -1; i = nextLiteral[i])
+			{
+				if (filter == null || filter.test(entries.get(i)))
+				{
+					best = i;
+					break;
+				}
+			}
+
+			for (int i = 0; i < wildcards.length && wildcardEntries[i] < best; ++i)
+			{
+				if (wildcards[i].matches(name) && (filter == null || filter.test(entries.get(wildcardEntries[i]))))
+				{
+					best = wildcardEntries[i];
+					break;
+				}
+			}
+
+			return best == Integer.MAX_VALUE ? null : entries.get(best);
+		}
+
+		public boolean matches(String name)
+		{
+			return match(name) != null;
+		}
+
+		private int findLiteral(String name)
+		{
+			int mask = literalKeys.length - 1;
+			for (int slot = foldedHash(name, 0, name.length()) & mask; literalKeys[slot] != null; slot = (slot + 1) & mask)
+			{
+				String key = literalKeys[slot];
+				if (key.length() == name.length() && regionMatches(name, 0, key))
+				{
+					return literalEntries[slot];
+				}
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * A single compiled pattern. The text between wildcards is stored case folded.
+	 */
+	private static class Wildcard
+	{
+		private final String pattern;
+		// text before the first wildcard, text after the last, and the text between them
+		private final String prefix;
+		private final String suffix;
+		private final String[] middle;
+		private final boolean hasWildcard;
+		private Pattern regex;
+
+		Wildcard(String pattern)
+		{
+			this.pattern = pattern;
+
+			List<String> parts = new ArrayList<>();
+			int start = 0;
+			for (int i; (i = pattern.indexOf('*', start)) != -1; start = i + 1)
+			{
+				parts.add(fold(pattern.substring(start, i)));
+			}
+			parts.add(fold(pattern.substring(start)));
+
+			hasWildcard = parts.size() > 1;
+			prefix = parts.get(0);
+			suffix = hasWildcard ? parts.get(parts.size() - 1) : "";
+			middle = hasWildcard
+				? parts.subList(1, parts.size() - 1).stream().filter(s -> !s.isEmpty()).toArray(String[]::new)
+				: new String[0];
+		}
+
+		boolean matches(String text)
+		{
+			if (!hasWildcard)
+			{
+				return text.length() == prefix.length() && regionMatches(text, 0, prefix);
+			}
 
-		return text.matches(replaced);
+			// a wildcard is a regex .* which doesn't match line terminators, which names don't have
+			if (hasLineTerminator(text))
+			{
+				return regex().matcher(text).matches();
+			}
+
+			int end = text.length() - suffix.length();
+			if (end < prefix.length() || !regionMatches(text, 0, prefix) || !regionMatches(text, end, suffix))
+			{
+				return false;
+			}
+
+			// the earliest match of each part between the wildcards leaves the most room for the rest
+			int pos = prefix.length();
+			for (String part : middle)
+			{
+				pos = indexOf(text, part, pos, end);
+				if (pos == -1)
+				{
+					return false;
+				}
+				pos += part.length();
+			}
+			return true;
+		}
+
+		private synchronized Pattern regex()
+		{
+			if (regex == null)
+			{
+				final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
+				final StringBuffer buffer = new StringBuffer();
+
+				buffer.append("(?i)");
+				while (matcher.find())
+				{
+					if (matcher.group(1) != null)
+					{
+						matcher.appendReplacement(buffer, ".*");
+					}
+					else
+					{
+						matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+					}
+				}
+
+				matcher.appendTail(buffer);
+				regex = Pattern.compile(buffer.toString());
+			}
+			return regex;
+		}
+	}
+
+	private static boolean hasLineTerminator(String text)
+	{
+		for (int i = 0; i < text.length(); ++i)
+		{
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029')
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find a folded string in text between from and to
+	 */
+	private static int indexOf(String text, String folded, int from, int to)
+	{
+		for (int i = from; i + folded.length() <= to; ++i)
+		{
+			if (regionMatches(text, i, folded))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Test if text at offset matches a folded string
+	 */
+	private static boolean regionMatches(String text, int offset, String folded)
+	{
+		for (int i = 0; i < folded.length(); ++i)
+		{
+			if (fold(text.charAt(offset + i)) != folded.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int foldedHash(String s, int from, int to)
+	{
+		int h = 0;
+		for (int i = from; i < to; ++i)
+		{
+			h = 31 * h + fold(s.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String fold(String s)
+	{
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
 	}
 }
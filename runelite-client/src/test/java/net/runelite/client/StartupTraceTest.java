@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Test;
+
+public class StartupTraceTest
+{
+	@After
+	public void after()
+	{
+		StartupTrace.stop();
+	}
+
+	@Test
+	public void testDisabled()
+	{
+		StartupTrace.stop();
+		try (StartupTrace.Span span = StartupTrace.begin("ignored"))
+		{
+			assertEquals(span, StartupTrace.begin("also ignored"));
+		}
+
+		StartupTrace.start();
+		assertTrue(StartupTrace.stop().isEmpty());
+	}
+
+	@Test
+	public void testSpans() throws Exception
+	{
+		StartupTrace.start();
+		try (StartupTrace.Span outer = StartupTrace.begin("outer"))
+		{
+			try (StartupTrace.Span inner = StartupTrace.begin("inner"))
+			{
+				Thread thread = new Thread(() ->
+				{
+					try (StartupTrace.Span span = StartupTrace.begin("worker"))
+					{
+						Thread.yield();
+					}
+				}, "trace worker");
+				thread.start();
+				thread.join();
+			}
+		}
+		StartupTrace.Span unfinished = StartupTrace.begin("unfinished");
+		List<StartupTrace.Event> events = StartupTrace.stop();
+		unfinished.close();
+
+		assertEquals(3, events.size());
+		StartupTrace.Event worker = events.get(0), inner = events.get(1), outer = events.get(2);
+		assertEquals("worker", worker.getName());
+		assertEquals("inner", inner.getName());
+		assertEquals("outer", outer.getName());
+
+		assertEquals(Thread.currentThread().getId(), outer.getThreadId());
+		assertEquals(outer.getThreadId(), inner.getThreadId());
+		assertNotEquals(outer.getThreadId(), worker.getThreadId());
+		assertEquals("trace worker", worker.getThreadName());
+
+		assertTrue(outer.getStart() <= inner.getStart() && inner.getEnd() <= outer.getEnd());
+		assertTrue(inner.getStart() <= worker.getStart() && worker.getEnd() <= inner.getEnd());
+
+		StringWriter out = new StringWriter();
+		StartupTrace.write(out, events);
+		JsonArray traceEvents = new JsonParser().parse(out.toString()).getAsJsonObject().getAsJsonArray("traceEvents");
+
+		int threads = 0, spans = 0;
+		for (JsonElement element : traceEvents)
+		{
+			JsonObject event = element.getAsJsonObject();
+			switch (event.get("ph").getAsString())
+			{
+				case "M":
+					assertEquals("thread_name", event.get("name").getAsString());
+					++threads;
+					break;
+				case "X":
+					StartupTrace.Event expected = events.get(spans++);
+					assertEquals(expected.getName(), event.get("name").getAsString());
+					assertEquals(expected.getThreadId(), event.get("tid").getAsLong());
+					assertEquals(expected.getStart() / 1000.0, event.get("ts").getAsDouble(), 0.001);
+					assertEquals((expected.getEnd() - expected.getStart()) / 1000.0, event.get("dur").getAsDouble(), 0.001);
+					break;
+			}
+		}
+		assertEquals(2, threads);
+		assertEquals(3, spans);
+	}
+
+	@Test
+	public void testPendingSpans() throws Exception
+	{
+		StartupTrace.start();
+		CountDownLatch begun = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		Thread thread = new Thread(() ->
+		{
+			try (StartupTrace.Span span = StartupTrace.begin("late"))
+			{
+				begun.countDown();
+				finish.await();
+			}
+			catch (InterruptedException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+		}, "trace worker");
+		thread.start();
+		begun.await();
+
+		assertFalse(StartupTrace.awaitPending(10));
+
+		finish.countDown();
+		assertTrue(StartupTrace.awaitPending(10_000));
+		thread.join();
+
+		List<StartupTrace.Event> events = StartupTrace.stop();
+		assertEquals(1, events.size());
+		assertEquals("late", events.get(0).getName());
+	}
+}
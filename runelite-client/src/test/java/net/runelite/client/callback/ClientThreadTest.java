@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	Client client;
+
+	@Inject
+	ClientThread clientThread;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		List<String> ran = new ArrayList<>();
+		clientThread.invokeLater(() -> ran.add("low"), InvokePriority.LOW);
+		clientThread.invokeLater(() -> ran.add("normal1"));
+		clientThread.invokeLater(() -> ran.add("high"), InvokePriority.HIGH);
+		clientThread.invokeLater(() -> ran.add("normal2"));
+		assertEquals(4, clientThread.getQueueDepth());
+
+		clientThread.invoke();
+		assertEquals(List.of("high", "normal1", "normal2", "low"), ran);
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testBudget()
+	{
+		clientThread.setFrameBudgetNanos(0);
+
+		List<String> ran = new ArrayList<>();
+		clientThread.invokeLater(() -> ran.add("normal1"));
+		clientThread.invokeLater(() -> ran.add("normal2"));
+		clientThread.invokeLater(() -> ran.add("high1"), InvokePriority.HIGH);
+		clientThread.invokeLater(() -> ran.add("high2"), InvokePriority.HIGH);
+		clientThread.invokeLater(() -> ran.add("low"), InvokePriority.LOW);
+
+		// high priority tasks aren't budgeted, and every lane runs at least one task
+		clientThread.invoke();
+		assertEquals(List.of("high1", "high2", "normal1", "low"), ran);
+		assertEquals(1, clientThread.getLastFrameCarriedOver());
+		assertEquals(1, clientThread.getQueueDepth());
+
+		clientThread.invoke();
+		assertEquals(List.of("high1", "high2", "normal1", "low", "normal2"), ran);
+		assertEquals(0, clientThread.getLastFrameCarriedOver());
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testBackoff()
+	{
+		int[] attempts = new int[1];
+		clientThread.invoke(() ->
+		{
+			++attempts[0];
+			return false;
+		});
+		assertEquals(1, attempts[0]);
+
+		// retried every frame at first, and then backs off
+		for (int i = 0; i < 20; ++i)
+		{
+			clientThread.invoke();
+		}
+		assertEquals(11, attempts[0]);
+		assertEquals(1, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testInvokeAfterTicks()
+	{
+		when(client.getTickCount()).thenReturn(5);
+		int[] ran = new int[1];
+		clientThread.invokeAfterTicks(() -> ++ran[0], 2);
+
+		clientThread.invoke();
+		when(client.getTickCount()).thenReturn(6);
+		clientThread.invoke();
+		assertEquals(0, ran[0]);
+		assertEquals(1, clientThread.getQueueDepth());
+
+		when(client.getTickCount()).thenReturn(7);
+		clientThread.invoke();
+		assertEquals(1, ran[0]);
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testInvokeDelayed()
+	{
+		int[] ran = new int[2];
+		clientThread.invokeLater(() -> ++ran[0], Duration.ZERO);
+		clientThread.invokeLater(() -> ++ran[1], Duration.ofHours(1));
+
+		clientThread.invoke();
+		assertEquals(1, ran[0]);
+		assertEquals(0, ran[1]);
+		assertEquals(1, clientThread.getQueueDepth());
+	}
+
+	@Test
+	public void testDelayedPriority()
+	{
+		when(client.getTickCount()).thenReturn(5);
+		List<String> ran = new ArrayList<>();
+		clientThread.invokeLater(() -> ran.add("normal"));
+		clientThread.invokeLater(() -> ran.add("delayed"), Duration.ZERO, InvokePriority.HIGH);
+		clientThread.invokeAfterTicks(() -> ran.add("ticks"), 0, InvokePriority.HIGH);
+
+		clientThread.invoke();
+		assertEquals(List.of("delayed", "ticks", "normal"), ran);
+		assertEquals(0, clientThread.getQueueDepth());
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.base.Strings;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Slf4j
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static void save(ConfigData data)
+	{
+		data.patch(data.swapChanges());
+	}
+
+	@Test
+	public void testJournalReplay() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.setProperty("b", "2");
+		save(data);
+		// the first save writes the properties file
+		assertTrue(file.exists());
+		assertFalse(ConfigData.journalFile(file).exists());
+
+		data.setProperty("a", "3");
+		data.unset("b");
+		data.setProperty("c", "unicode ☃");
+		save(data);
+		assertTrue(ConfigData.journalFile(file).exists());
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("3", loaded.getProperty("a"));
+		assertNull(loaded.getProperty("b"));
+		assertEquals("unicode ☃", loaded.getProperty("c"));
+
+		ConfigData.compact(file);
+		assertFalse(ConfigData.journalFile(file).exists());
+		assertEquals(data.get(), new ConfigData(file).get());
+	}
+
+	@Test
+	public void testMerge()
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData first = new ConfigData(file);
+		first.setProperty("base", "1");
+		save(first);
+
+		ConfigData second = new ConfigData(file);
+		first.setProperty("first", "1");
+		save(first);
+		second.setProperty("second", "2");
+		save(second);
+		first.setProperty("first", "3");
+		save(first);
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("1", loaded.getProperty("base"));
+		assertEquals("3", loaded.getProperty("first"));
+		assertEquals("2", loaded.getProperty("second"));
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		File journal = ConfigData.journalFile(file);
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		save(data);
+		data.setProperty("b", "2");
+		save(data);
+		long length = journal.length();
+
+		// simulate a crash part way through appending a record
+		data.setProperty("c", "3");
+		save(data);
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(raf.length() - 2);
+		}
+
+		ConfigData other = new ConfigData(file);
+		assertEquals("2", other.getProperty("b"));
+		assertNull(other.getProperty("c"));
+
+		// the next writer drops the torn record before appending
+		other.setProperty("d", "4");
+		save(other);
+		assertTrue(journal.length() > length);
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("1", loaded.getProperty("a"));
+		assertEquals("2", loaded.getProperty("b"));
+		assertNull(loaded.getProperty("c"));
+		assertEquals("4", loaded.getProperty("d"));
+	}
+
+	@Test
+	public void testCompactionThreshold()
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		save(data);
+
+		String big = Strings.repeat("x", 64 * 1024);
+		for (int i = 0; i < 8; ++i)
+		{
+			data.setProperty("big" + i, big);
+			save(data);
+		}
+
+		// the journal was folded back into the properties file once it passed the minimum size
+		assertTrue(file.length() > 4 * big.length());
+		assertTrue(ConfigData.journalFile(file).length() < 256 * 1024);
+		assertEquals(data.get(), new ConfigData(file).get());
+	}
+
+	@Test
+	public void testKeysWithPrefix()
+	{
+		ConfigData data = new ConfigData(new File(folder.getRoot(), "test.properties"));
+		data.setProperty("bank.tagtabs", "1");
+		data.setProperty("bank.tag_a", "2");
+		data.setProperty("bank.tag_b", "3");
+		data.setProperty("banktags.tag_c", "4");
+		data.setProperty("loottracker.rsprofile.abc.drops_NPC_Goblin", "5");
+		data.setProperty("loottracker.rsprofile.abd.drops_NPC_Cow", "6");
+		data.setProperty("a\uffff.b", "7");
+		data.setProperty("a\uffff\uffff.b", "8");
+		data.setProperty("b.c", "9");
+		data.setProperty("nogroup", "10");
+
+		assertEquals(List.of("bank.tag_a", "bank.tag_b", "bank.tagtabs"), List.copyOf(data.keysWithPrefix("bank.tag").keySet()));
+		assertEquals(List.of("bank.tag_a", "bank.tag_b"), List.copyOf(data.keysWithPrefix("bank.tag_").keySet()));
+		assertEquals(List.of("a\uffff.b", "a\uffff\uffff.b"), List.copyOf(data.keysWithPrefix("a\uffff").keySet()));
+		assertEquals(List.of("a\uffff\uffff.b"), List.copyOf(data.keysWithPrefix("a\uffff\uffff").keySet()));
+		assertEquals(10, data.keysWithPrefix("").size());
+		assertTrue(data.keysWithPrefix("zzz").isEmpty());
+		assertSame(ConfigData.UNSPLITTABLE, data.keysWithPrefix("nogroup").get("nogroup"));
+
+		String[] split = data.keysWithPrefix("loottracker.rsprofile.abc.").get("loottracker.rsprofile.abc.drops_NPC_Goblin");
+		assertArrayEquals(new String[]{"loottracker", "rsprofile.abc", "drops_NPC_Goblin"}, split);
+
+		data.unset("bank.tag_a");
+		data.putAll(Map.of("bank.tag_d", "11"));
+		assertEquals(List.of("bank.tag_b", "bank.tag_d", "bank.tagtabs"), List.copyOf(data.keysWithPrefix("bank.tag").keySet()));
+
+		// the index is rebuilt on load
+		save(data);
+		ConfigData loaded = new ConfigData(new File(folder.getRoot(), "test.properties"));
+		assertEquals(List.copyOf(data.keysWithPrefix("").keySet()), List.copyOf(loaded.keysWithPrefix("").keySet()));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkKeysWithPrefix()
+	{
+		// 100k keys spread over a few hundred groups and rs profiles
+		ConfigData data = new ConfigData(new File(folder.getRoot(), "test.properties"));
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < 100_000; ++i)
+		{
+			values.put("group" + (i % 200) + ".rsprofile.profile" + (i % 5) + ".key" + i, "value");
+		}
+		data.putAll(values);
+
+		String prefix = "group17.rsprofile.profile2.";
+		for (int pass = 0; pass < 10; ++pass)
+		{
+			long start = System.nanoTime();
+			List<String> scanned = data.keySet().stream()
+				.filter(k -> k.startsWith(prefix))
+				.map(k -> ConfigManager.splitKey(k)[2])
+				.collect(Collectors.toList());
+			long scan = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			List<String> indexed = new ArrayList<>();
+			for (String[] split : data.keysWithPrefix(prefix).values())
+			{
+				indexed.add(split[2]);
+			}
+			long index = System.nanoTime() - start;
+
+			assertEquals(scanned.size(), indexed.size());
+			log.info("{} matches: scan took {}us, index took {}us", indexed.size(), scan / 1000, index / 1000);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkFlush()
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+
+		// ~20MB profile, similar to one with lots of loot tracker and bank tags data
+		ConfigData data = new ConfigData(file);
+		String value = Strings.repeat("{\"id\":4151,\"qty\":1},", 100);
+		Map<String, String> values = new HashMap<>();
+		for (int i = 0; i < 10_000; ++i)
+		{
+			values.put("loottracker.rsprofile.drops_NPC_" + i, value);
+		}
+		data.putAll(values);
+		save(data);
+		log.info("Profile size: {}MB", file.length() / 1024 / 1024);
+
+		for (int i = 0; i < 50; ++i)
+		{
+			long start = System.nanoTime();
+			data.setProperty("runelite.key", "value" + i);
+			save(data);
+			log.info("1 key flush took {}us", (System.nanoTime() - start) / 1000);
+		}
+	}
+}
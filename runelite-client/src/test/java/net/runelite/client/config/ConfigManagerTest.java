@@ -29,10 +29,21 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.SessionManager;
@@ -40,6 +51,7 @@ import net.runelite.client.eventbus.EventBus;
 import org.junit.Assert;
 import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -50,6 +62,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
+@Slf4j
 public class ConfigManagerTest
 {
 	@Mock
@@ -60,6 +73,11 @@ public class ConfigManagerTest
 	@Bind
 	ScheduledExecutorService executor;
 
+	@Mock
+	@Bind
+	@Named("ioExecutor")
+	ExecutorService ioExecutor;
+
 	@Mock
 	@Bind
 	RuneLiteConfig runeliteConfig;
@@ -165,6 +183,89 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testConfigChangeInvalidates()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+
+		// rs profile keys are never read by config interfaces
+		manager.setConfiguration("test", "rsprofile.123", "key", "rsprofile");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkGetConfig() throws Exception
+	{
+		final int numInterfaces = 300;
+		final int numItems = 5;
+
+		// Compile a large number of distinct config interfaces, as a client with many plugins has
+		File dir = Files.createTempDirectory("configbench").toFile();
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		List<File> sources = new ArrayList<>();
+		for (int i = 0; i < numInterfaces; ++i)
+		{
+			StringBuilder sb = new StringBuilder();
+			sb.append("package bench; import net.runelite.client.config.*;\n")
+				.append("@ConfigGroup(\"bench").append(i).append("\") public interface Bench").append(i).append(" extends Config {\n");
+			for (int j = 0; j < numItems; ++j)
+			{
+				sb.append("@ConfigItem(keyName = \"item").append(j).append("\", name = \"\", description = \"\") default int item").append(j).append("() { return ").append(j).append("; }\n");
+			}
+			sb.append("}\n");
+			File source = new File(dir, "bench/Bench" + i + ".java");
+			source.getParentFile().mkdirs();
+			Files.write(source.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+			sources.add(source);
+		}
+
+		List<String> compilerArgs = new ArrayList<>(List.of("-cp", System.getProperty("java.class.path"), "-d", dir.getPath()));
+		sources.forEach(f -> compilerArgs.add(f.getPath()));
+		Assert.assertEquals(0, compiler.run(null, null, null, compilerArgs.toArray(new String[0])));
+
+		List<Config> configs = new ArrayList<>();
+		List<Method> methods = new ArrayList<>();
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toURI().toURL()}, getClass().getClassLoader()))
+		{
+			for (int i = 0; i < numInterfaces; ++i)
+			{
+				Class<? extends Config> clazz = (Class<? extends Config>) loader.loadClass("bench.Bench" + i);
+				configs.add(manager.getConfig(clazz));
+				for (int j = 0; j < numItems; ++j)
+				{
+					methods.add(clazz.getMethod("item" + j));
+				}
+			}
+
+			for (int pass = 0; pass < 5; ++pass)
+			{
+				long start = System.nanoTime();
+				int reads = 0;
+				for (int round = 0; round < 200; ++round)
+				{
+					// a config change elsewhere, such as from a plugin's periodic state save
+					manager.setConfiguration("other", "key", round);
+					for (int i = 0; i < methods.size(); ++i)
+					{
+						methods.get(i).invoke(configs.get(i / numItems));
+						++reads;
+					}
+				}
+				log.info("Config read took {}ns", (System.nanoTime() - start) / reads);
+			}
+		}
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
@@ -185,5 +286,8 @@ public class ConfigManagerTest
 			Assert.assertEquals(split[1], test[1]);
 			Assert.assertEquals(split[2], test[2]);
 		}
+
+		Assert.assertNull(ConfigManager.splitKey("foo"));
+		Assert.assertNull(ConfigManager.splitKey("foo.rsprofile.123"));
 	}
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameTick;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+
+	private class Low
+	{
+		@Subscribe(priority = -1)
+		public void onGameTick(GameTick tick)
+		{
+			calls.add("low");
+		}
+	}
+
+	private class High
+	{
+		@Subscribe(priority = 1)
+		public void onGameTick(GameTick tick)
+		{
+			calls.add("high");
+		}
+
+		@Subscribe
+		public void onClientTick(ClientTick tick)
+		{
+			calls.add("high-client");
+		}
+	}
+
+	private class Normal
+	{
+		@Subscribe
+		public void onGameTick(GameTick tick)
+		{
+			calls.add("normal");
+		}
+	}
+
+	private static class Counter
+	{
+		private int count;
+
+		@Subscribe
+		public void onGameTick(GameTick tick)
+		{
+			++count;
+		}
+
+		@Subscribe
+		public void onClientTick(ClientTick tick)
+		{
+			++count;
+		}
+
+		@Subscribe
+		public void onBeforeRender(BeforeRender beforeRender)
+		{
+			++count;
+		}
+	}
+
+	@Test
+	public void testPriorityOrder()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Low());
+		eventBus.register(new Normal());
+		eventBus.register(new High());
+
+		eventBus.post(new GameTick());
+		assertEquals(List.of("high", "normal", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		High high = new High();
+		Normal normal = new Normal();
+		eventBus.register(high);
+		eventBus.register(normal);
+
+		eventBus.unregister(high);
+		eventBus.post(new GameTick());
+		eventBus.post(new ClientTick());
+		assertEquals(List.of("normal"), calls);
+
+		// unregistering an unknown object is a no-op
+		eventBus.unregister(new Low());
+		eventBus.unregister(normal);
+		calls.clear();
+		eventBus.post(new GameTick());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testUnregisterSubscriber()
+	{
+		EventBus eventBus = new EventBus();
+		EventBus.Subscriber first = eventBus.register(GameTick.class, t -> calls.add("first"), 0);
+		eventBus.register(GameTick.class, t -> calls.add("second"), 0);
+
+		eventBus.post(new GameTick());
+		assertEquals(List.of("first", "second"), calls);
+
+		eventBus.unregister(first);
+		calls.clear();
+		eventBus.post(new GameTick());
+		assertEquals(List.of("second"), calls);
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> errors = new ArrayList<>();
+		EventBus eventBus = new EventBus(errors::add);
+		eventBus.register(GameTick.class, t ->
+		{
+			throw new IllegalStateException();
+		}, 1);
+		eventBus.register(new Normal());
+
+		eventBus.post(new GameTick());
+		assertEquals(1, errors.size());
+		assertEquals(List.of("normal"), calls);
+	}
+
+	@Test
+	public void testProfiler()
+	{
+		EventBus eventBus = new EventBus();
+		Counter a = new Counter(), b = new Counter();
+		eventBus.register(a);
+		eventBus.register(b);
+		eventBus.register(new Normal());
+
+		EventBusProfiler profiler = new EventBusProfiler(false);
+		eventBus.setProfiler(profiler);
+		eventBus.post(new GameTick());
+		eventBus.post(new GameTick());
+		eventBus.post(new ClientTick());
+		eventBus.setProfiler(null);
+		eventBus.post(new GameTick());
+
+		Map<List<String>, EventBusProfiler.SubscriberProfile> profiles = profiler.snapshot().stream()
+			.collect(Collectors.toMap(p -> List.of(p.getSubscriber(), p.getEventType()), Function.identity()));
+		assertEquals(3, profiles.size());
+		// both Counter instances aggregate into one entry
+		assertEquals(4, profiles.get(List.of(Counter.class.getName(), GameTick.class.getName())).getInvocations());
+		assertEquals(2, profiles.get(List.of(Counter.class.getName(), ClientTick.class.getName())).getInvocations());
+		assertEquals(2, profiles.get(List.of(Normal.class.getName(), GameTick.class.getName())).getInvocations());
+		assertEquals(-1, profiles.get(List.of(Normal.class.getName(), GameTick.class.getName())).getAllocatedBytes());
+		assertEquals(4, a.count);
+
+		profiler.reset();
+		assertTrue(profiler.snapshot().isEmpty());
+	}
+
+	@Test
+	public void testProfilerRestoresAllocationTracking()
+	{
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+		assumeTrue(bean.isThreadAllocatedMemorySupported());
+
+		boolean enabled = bean.isThreadAllocatedMemoryEnabled();
+		try
+		{
+			bean.setThreadAllocatedMemoryEnabled(false);
+
+			EventBus eventBus = new EventBus();
+			eventBus.setProfiler(new EventBusProfiler(true));
+			assertTrue(bean.isThreadAllocatedMemoryEnabled());
+
+			// replacing the profiler keeps tracking enabled for the new one
+			eventBus.setProfiler(new EventBusProfiler(true));
+			assertTrue(bean.isThreadAllocatedMemoryEnabled());
+
+			eventBus.setProfiler(null);
+			assertFalse(bean.isThreadAllocatedMemoryEnabled());
+		}
+		finally
+		{
+			bean.setThreadAllocatedMemoryEnabled(enabled);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkProfiler()
+	{
+		final int iterations = 200_000;
+
+		EventBus eventBus = new EventBus();
+		for (int i = 0; i < 100; ++i)
+		{
+			eventBus.register(new Counter());
+		}
+
+		final GameTick gameTick = new GameTick();
+		for (EventBusProfiler profiler : new EventBusProfiler[]{null, null, new EventBusProfiler(false), new EventBusProfiler(true)})
+		{
+			eventBus.setProfiler(profiler);
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				eventBus.post(gameTick);
+			}
+			log.info("Post with profiler {} took {}ns/event", profiler == null ? "off" : profiler.isTrackingAllocations() ? "on (allocations)" : "on",
+				(System.nanoTime() - start) / iterations);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int subscribers = 500;
+		final int iterations = 200_000;
+
+		EventBus eventBus = new EventBus();
+		Counter[] counters = new Counter[subscribers];
+		for (int i = 0; i < subscribers; ++i)
+		{
+			counters[i] = new Counter();
+		}
+
+		// register churn, similar to toggling plugins during a profile switch
+		long start = System.nanoTime();
+		for (int round = 0; round < 20; ++round)
+		{
+			for (Counter counter : counters)
+			{
+				eventBus.register(counter);
+			}
+			for (Counter counter : counters)
+			{
+				eventBus.unregister(counter);
+			}
+		}
+		log.info("Register churn took {}us/op", (System.nanoTime() - start) / 1000 / (20 * subscribers * 2));
+
+		for (Counter counter : counters)
+		{
+			eventBus.register(counter);
+		}
+
+		final GameTick gameTick = new GameTick();
+		final ClientTick clientTick = new ClientTick();
+		final BeforeRender beforeRender = new BeforeRender();
+		for (int pass = 0; pass < 2; ++pass)
+		{
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				eventBus.post(gameTick);
+				eventBus.post(clientTick);
+				eventBus.post(beforeRender);
+			}
+			log.info("Post took {}ns/event with {} subscribers", (System.nanoTime() - start) / (iterations * 3L), subscribers);
+		}
+
+		assertEquals(iterations * 6L, counters[0].count);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.IOException;
+import javax.inject.Named;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ItemClientTest
+{
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	@Bind
+	private OkHttpClient okHttpClient = new OkHttpClient();
+
+	@Bind
+	@Named("runelite.api.base")
+	private HttpUrl apiBase;
+
+	@Bind
+	@Named("runelite.static.base")
+	private HttpUrl staticBase;
+
+	@Bind
+	private Gson gson = new Gson();
+
+	@Inject
+	private ItemClient itemClient;
+
+	@Before
+	public void before()
+	{
+		apiBase = staticBase = server.url("/");
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testConditionalPrices() throws IOException, InterruptedException
+	{
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"v1\"")
+			.setBody("[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1500000,\"wikiPrice\":1450000}]"));
+		server.enqueue(new MockResponse()
+			.setResponseCode(304));
+
+		PriceSnapshot snapshot = itemClient.getPrices(null);
+		assertEquals("\"v1\"", snapshot.getEtag());
+		assertEquals(1, snapshot.getPrices().length);
+		assertEquals(1_450_000, snapshot.getPrices()[0].getWikiPrice());
+
+		RecordedRequest request = server.takeRequest();
+		assertEquals("/item/prices.js", request.getPath());
+		assertNull(request.getHeader("If-None-Match"));
+
+		// unchanged since the last lookup
+		assertNull(itemClient.getPrices(snapshot.getEtag()));
+		assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+	}
+}
@@ -28,23 +28,36 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Named;
 import net.runelite.api.Client;
+import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ItemManagerTest
 {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Inject
 	private ItemManager itemManager;
 
@@ -56,6 +69,11 @@ public class ItemManagerTest
 	@Bind
 	private ScheduledExecutorService scheduledExecutorService;
 
+	@Mock
+	@Bind
+	@Named("httpExecutor")
+	private ExecutorService httpExecutor;
+
 	@Mock
 	@Bind
 	private ClientThread clientThread;
@@ -95,4 +113,60 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
-}
\ No newline at end of file
+
+	private static ItemPrice price(int itemId, int price, int wikiPrice)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(itemId);
+		itemPrice.setName("item " + itemId);
+		itemPrice.setPrice(price);
+		itemPrice.setWikiPrice(wikiPrice);
+		return itemPrice;
+	}
+
+	@Test
+	public void testPriceTable()
+	{
+		ItemComposition unnoted = mock(ItemComposition.class);
+		when(unnoted.getNote()).thenReturn(-1);
+		when(client.getItemDefinition(anyInt())).thenReturn(unnoted);
+
+		itemManager.setPriceTable(itemManager.buildPriceTable(new PriceSnapshot(null, new ItemPrice[]{
+			price(ItemID.SOFT_CLAY, 200, 250),
+			price(ItemID.MAX_CAPE, 2_000_000, 2_100_000),
+			price(ItemID.ABYSSAL_WHIP, 1_500_000, 0),
+			price(ItemID.YEW_SEED, 10_000, 300_000),
+		})));
+
+		assertEquals(1_500_000, itemManager.getItemPriceWithSource(ItemID.ABYSSAL_WHIP, false));
+		// no wiki price, so the ge price is used
+		assertEquals(1_500_000, itemManager.getItemPriceWithSource(ItemID.ABYSSAL_WHIP, true));
+		// wiki price outside of the active price threshold, so the ge price is used
+		assertEquals(10_000, itemManager.getItemPriceWithSource(ItemID.YEW_SEED, true));
+		// worn items
+		assertEquals(2_000_000, itemManager.getItemPriceWithSource(ItemID.MAX_CAPE_13342, false));
+		assertEquals(2_100_000, itemManager.getItemPriceWithSource(ItemID.MAX_CAPE_13342, true));
+		// mapped items, including an item mapped to another mapped item
+		assertEquals(2_000, itemManager.getItemPriceWithSource(ItemID.GOLDEN_NUGGET, false));
+		assertEquals(32 * 2_500, itemManager.getItemPriceWithSource(ItemID.PROSPECTOR_HELMET, true));
+		assertEquals(1_000, itemManager.getItemPriceWithSource(ItemID.LONG_BONE, false));
+		assertEquals(0, itemManager.getItemPriceWithSource(ItemID.DRAGON_DAGGER, false));
+		assertEquals(1, itemManager.getItemPriceWithSource(ItemID.COINS_995, false));
+	}
+
+	@Test
+	public void testPriceSnapshot() throws IOException
+	{
+		File file = new File(folder.getRoot(), "prices.json");
+		assertNull(itemManager.readPriceSnapshot(file));
+
+		itemManager.writePriceSnapshot(file, new PriceSnapshot("\"abc\"", new ItemPrice[]{
+			price(ItemID.SOFT_CLAY, 200, 250),
+		}));
+
+		PriceSnapshot snapshot = itemManager.readPriceSnapshot(file);
+		assertEquals("\"abc\"", snapshot.getEtag());
+		assertEquals(1, snapshot.getPrices().length);
+		assertEquals(price(ItemID.SOFT_CLAY, 200, 250), snapshot.getPrices()[0]);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ItemID;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ItemSearchIndexTest
+{
+	private static ItemPrice item(int id, String name)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(id);
+		itemPrice.setName(name);
+		return itemPrice;
+	}
+
+	private static List<String> names(List<ItemPrice> items)
+	{
+		return items.stream().map(ItemPrice::getName).collect(Collectors.toList());
+	}
+
+	/**
+	 * Item names derived from the item id constants, close enough to the full price list
+	 */
+	private static List<ItemPrice> allItems() throws IllegalAccessException
+	{
+		List<ItemPrice> items = new ArrayList<>();
+		for (Field field : ItemID.class.getDeclaredFields())
+		{
+			if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class)
+			{
+				String name = field.getName().replaceAll("_\\d+$", "").replace('_', ' ').toLowerCase();
+				items.add(item(field.getInt(null), Character.toUpperCase(name.charAt(0)) + name.substring(1)));
+			}
+		}
+		return items;
+	}
+
+	private static List<ItemPrice> linearSearch(List<ItemPrice> items, String itemName)
+	{
+		itemName = itemName.toLowerCase();
+
+		List<ItemPrice> result = new ArrayList<>();
+		for (ItemPrice itemPrice : items)
+		{
+			if (itemPrice.getName().toLowerCase().contains(itemName))
+			{
+				result.add(itemPrice);
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testRanking()
+	{
+		ItemSearchIndex index = new ItemSearchIndex(Arrays.asList(
+			item(1, "Rune platebody"),
+			item(2, "Rune axe"),
+			item(3, "Rune"),
+			item(4, "Adamantite rune"),
+			item(5, "Fire rune"),
+			item(6, "Rune"),
+			item(7, "Runecrafting cape"),
+			item(8, "Abyssal whip")
+		));
+
+		assertEquals(Arrays.asList("Rune", "Rune", "Rune axe", "Rune platebody", "Runecrafting cape", "Fire rune", "Adamantite rune"),
+			names(index.search("RUNE", Integer.MAX_VALUE)));
+		assertEquals(Arrays.asList("Rune", "Rune", "Rune axe"), names(index.search("rune", 3)));
+		assertEquals(Arrays.asList("Abyssal whip"), names(index.search("whip", 5)));
+		assertEquals(Arrays.asList("Abyssal whip"), names(index.search("l w", 5)));
+		assertEquals(Arrays.asList("Fire rune", "Adamantite rune"), names(index.search("e r", 5)));
+		assertEquals(8, index.search("", Integer.MAX_VALUE).size());
+		assertTrue(index.search("dragon", 5).isEmpty());
+		assertTrue(index.search("rune", 0).isEmpty());
+		assertTrue(new ItemSearchIndex(new ArrayList<>()).search("rune", 5).isEmpty());
+	}
+
+	@Test
+	public void testFilter()
+	{
+		ItemSearchIndex index = new ItemSearchIndex(Arrays.asList(
+			item(1, "Rune"),
+			item(2, "Rune axe"),
+			item(3, "Rune"),
+			item(4, "Rune platebody"),
+			item(5, "Fire rune"),
+			item(6, "Air rune")
+		));
+
+		// the limit applies after filtering, so filtered out items don't take the places of later matches
+		assertEquals(Arrays.asList("Rune", "Rune platebody", "Air rune"),
+			names(index.search("rune", 3, item -> item.getId() != 2 && item.getId() != 3 && item.getId() != 5)));
+		assertTrue(index.search("rune", 5, item -> false).isEmpty());
+	}
+
+	@Test
+	public void testRepeatedTrigrams()
+	{
+		ItemSearchIndex index = new ItemSearchIndex(Arrays.asList(
+			item(1, "aaaa"),
+			item(2, "baaab"),
+			item(3, "aab")
+		));
+
+		assertEquals(Arrays.asList("aaaa", "baaab"), names(index.search("aaa", 5)));
+		assertEquals(Arrays.asList("aab", "aaaa", "baaab"), names(index.search("aa", 5)));
+	}
+
+	@Test
+	public void testMatchesLinearSearch() throws IllegalAccessException
+	{
+		List<ItemPrice> items = allItems();
+		ItemSearchIndex index = new ItemSearchIndex(items);
+		Random random = new Random(42);
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			String name = items.get(random.nextInt(items.size())).getName();
+			int start = random.nextInt(name.length());
+			String query = name.substring(start, start + 1 + random.nextInt(Math.min(8, name.length() - start)));
+			if (random.nextBoolean())
+			{
+				query = query.toUpperCase();
+			}
+
+			List<ItemPrice> expected = linearSearch(items, query);
+			List<ItemPrice> actual = index.search(query, Integer.MAX_VALUE);
+			assertEquals(query, expected.size(), actual.size());
+			assertEquals(query, new HashSet<>(expected), new HashSet<>(actual));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkSearch() throws IllegalAccessException
+	{
+		List<ItemPrice> items = allItems();
+		ItemSearchIndex index = new ItemSearchIndex(items);
+		String[] queries = {"a", "ru", "rune", "dragon", "abyssal whip", "platebody", "(4)", "tzhaar-ket-om", "xyz"};
+
+		for (int pass = 0; pass < 5; ++pass)
+		{
+			long start = System.nanoTime();
+			int linear = 0;
+			for (int i = 0; i < 100; ++i)
+			{
+				for (String query : queries)
+				{
+					linear += linearSearch(items, query).size();
+				}
+			}
+			long linearTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int indexed = 0;
+			for (int i = 0; i < 100; ++i)
+			{
+				for (String query : queries)
+				{
+					indexed += index.search(query, Integer.MAX_VALUE).size();
+				}
+			}
+			long indexedTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < 100; ++i)
+			{
+				for (String query : queries)
+				{
+					index.search(query, 10);
+				}
+			}
+			long topTime = System.nanoTime() - start;
+
+			assertEquals(linear, indexed);
+			int searches = 100 * queries.length;
+			log.info("{} items: linear {}us, index {}us, index top 10 {}us per search", items.size(),
+				linearTime / 1000 / searches, indexedTime / 1000 / searches, topTime / 1000 / searches);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.io.IOException;
+import java.util.List;
+import lombok.Data;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import net.runelite.client.plugins.party.messages.TilePing;
+import net.runelite.client.plugins.specialcounter.SpecialCounterUpdate;
+import net.runelite.client.plugins.specialcounter.SpecialWeapon;
+import okio.Buffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PartyCodecTest
+{
+	private final Gson gson = WebsocketGsonFactory.build();
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setCharacterName("Zezima");
+		status.setHealthCurrent(-5);
+		status.setRunEnergy(10000);
+		status.setVengeanceActive(true);
+		status.setMemberColor(new Color(0x80ff0000, true));
+
+		final LocationUpdate location = new LocationUpdate(new WorldPoint(3222, 3218, 2));
+		final TilePing ping = new TilePing(new WorldPoint(-1, 12850, 0));
+		final SpecialCounterUpdate spec = new SpecialCounterUpdate(13, SpecialWeapon.BANDOS_GODSWORD, 41, 7, -1);
+		final PartyChatMessage chat = new PartyChatMessage("héllo");
+
+		final List<WebsocketMessage> read = roundTrip(status, location, ping, spec, chat);
+		assertEquals(5, read.size());
+		// member messages compare by identity, so compare their fields
+		assertEquals(status.toString(), read.get(0).toString());
+		assertEquals(0x80, ((StatusUpdate) read.get(0)).getMemberColor().getAlpha());
+		assertEquals(location.getWorldPoint(), ((LocationUpdate) read.get(1)).getWorldPoint());
+		assertEquals(ping.toString(), read.get(2).toString());
+		assertEquals(spec.toString(), read.get(3).toString());
+		assertEquals(chat, read.get(4));
+	}
+
+	@Test
+	public void testDelta() throws IOException
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setPrayerCurrent(43);
+
+		final Buffer buffer = new Buffer();
+		PartyCodec.write(buffer, PartyCodec.schema(StatusUpdate.class), status);
+		// schema id, length, presence mask and the single changed field
+		assertEquals(4 + 1 + 1 + 1, buffer.size());
+
+		final StatusUpdate read = (StatusUpdate) roundTrip(status).get(0);
+		assertEquals(43, (int) read.getPrayerCurrent());
+		assertNull(read.getHealthCurrent());
+		assertNull(read.getCharacterName());
+	}
+
+	@Test
+	public void testSchema()
+	{
+		assertNull(PartyCodec.schema(Unsupported.class));
+		// the schema id depends only on the layout of the type
+		assertEquals(PartyCodec.schema(StatusUpdate.class).getId(), PartyCodec.schema(StatusUpdate.class).getId());
+		assertNotEquals(PartyCodec.schema(StatusUpdate.class).getId(), PartyCodec.schema(LocationUpdate.class).getId());
+	}
+
+	@Test
+	public void testUnknownSchema() throws IOException
+	{
+		final Buffer buffer = new Buffer();
+		PartyCodec.write(buffer, PartyCodec.schema(TilePing.class), new TilePing(new WorldPoint(1, 2, 3)));
+		PartyCodec.write(buffer, PartyCodec.schema(PartyChatMessage.class), new PartyChatMessage("hi"));
+
+		final PartyCodec.Schema chat = PartyCodec.schema(PartyChatMessage.class);
+		final List<WebsocketMessage> read = PartyCodec.read(buffer, id -> id == chat.getId() ? chat : null, gson);
+		assertEquals(1, read.size());
+		assertTrue(read.get(0) instanceof PartyChatMessage);
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncated() throws IOException
+	{
+		final Buffer buffer = new Buffer();
+		final PartyCodec.Schema schema = PartyCodec.schema(PartyChatMessage.class);
+		PartyCodec.write(buffer, schema, new PartyChatMessage("hello"));
+
+		final Buffer truncated = new Buffer();
+		buffer.copyTo(truncated, 0, buffer.size() - 1);
+		PartyCodec.read(truncated, id -> schema, gson);
+	}
+
+	@Test
+	public void testVarint() throws IOException
+	{
+		final Buffer buffer = new Buffer();
+		final long[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE, -1L, Long.MIN_VALUE};
+		for (long value : values)
+		{
+			PartyCodec.writeVarint(buffer, value);
+		}
+		for (long value : values)
+		{
+			assertEquals(value, PartyCodec.readVarint(buffer));
+		}
+	}
+
+	private List<WebsocketMessage> roundTrip(WebsocketMessage... messages) throws IOException
+	{
+		final Buffer buffer = new Buffer();
+		for (WebsocketMessage message : messages)
+		{
+			PartyCodec.write(buffer, PartyCodec.schema(message.getClass()), message);
+		}
+		return PartyCodec.read(buffer, id ->
+		{
+			for (WebsocketMessage message : messages)
+			{
+				final PartyCodec.Schema schema = PartyCodec.schema(message.getClass());
+				if (schema.getId() == id)
+				{
+					return schema;
+				}
+			}
+			return null;
+		}, gson);
+	}
+
+	@Data
+	private static class Unsupported extends PartyMemberMessage
+	{
+		private byte[] data;
+	}
+}
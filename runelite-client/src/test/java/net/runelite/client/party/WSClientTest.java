@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.name.Names;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.party.messages.MessageSchemas;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+
+@Slf4j
+public class WSClientTest
+{
+	private static final int MEMBERS = 50;
+	private static final int TICKS = 10;
+
+	private final OkHttpClient okHttpClient = new OkHttpClient();
+	private final Relay relay = new Relay();
+	private final List<Member> members = new ArrayList<>();
+	private MockWebServer server;
+
+	@Before
+	public void before() throws Exception
+	{
+		server = new MockWebServer();
+		server.start();
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		for (Member member : members)
+		{
+			member.partyService.changeParty(null);
+		}
+		server.shutdown();
+	}
+
+	@Test
+	public void testLoad() throws Exception
+	{
+		for (int i = 0; i < MEMBERS; ++i)
+		{
+			join(true);
+		}
+		await(() -> members.stream().allMatch(m -> m.schemas.size() == MEMBERS));
+
+		final Gson gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(List.of(StatusUpdate.class, LocationUpdate.class)));
+		long jsonBytes = 0;
+		for (int tick = 0; tick < TICKS; ++tick)
+		{
+			for (int i = 0; i < MEMBERS; ++i)
+			{
+				final Member member = members.get(i);
+				final StatusUpdate status = new StatusUpdate();
+				status.setHealthCurrent(99 - tick);
+				status.setRunEnergy(10000 - i * tick);
+				final LocationUpdate location = new LocationUpdate(new WorldPoint(3200 + tick, 3200 + i, 0));
+
+				member.partyService.send(status);
+				member.partyService.send(location);
+				member.eventBus.post(new GameTick());
+
+				jsonBytes += jsonSize(gson, status) + jsonSize(gson, location);
+			}
+		}
+
+		await(() -> members.stream().allMatch(m -> m.statusUpdates.get() == MEMBERS * TICKS && m.locationUpdates.get() == MEMBERS * TICKS));
+
+		for (Member member : members)
+		{
+			for (int i = 0; i < MEMBERS; ++i)
+			{
+				final long memberId = members.get(i).memberId();
+				assertEquals(new WorldPoint(3200 + TICKS - 1, 3200 + i, 0), member.locations.get(memberId));
+				assertEquals(99 - TICKS + 1, (int) member.health.get(memberId));
+			}
+		}
+
+		// one frame per member per tick, and nothing sent as json
+		assertEquals(MEMBERS * TICKS, relay.batchFrames.get());
+		assertEquals(0, relay.jsonFrames.get());
+		log.info("{} members, {} ticks: {} bytes sent in binary, {} bytes as json", MEMBERS, TICKS, relay.batchBytes.get(), jsonBytes);
+		assertTrue(relay.batchBytes.get() * 3 < jsonBytes);
+	}
+
+	@Test
+	public void testJsonFallback() throws Exception
+	{
+		final Member sender = join(true);
+		final Member receiver = join(true);
+		// a member which can't read status updates in binary
+		final Member other = join(false);
+		await(() -> members.stream().allMatch(m -> m.schemas.size() == 3));
+
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(50);
+		sender.partyService.send(status);
+		sender.partyService.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		sender.eventBus.post(new GameTick());
+
+		await(() -> receiver.statusUpdates.get() == 1 && members.stream().allMatch(m -> m.locationUpdates.get() == 1));
+		assertEquals(50, (int) receiver.health.get(sender.memberId()));
+		assertEquals(0, other.statusUpdates.get());
+		assertEquals(1, relay.jsonFrames.get());
+		assertEquals(1, relay.batchFrames.get());
+	}
+
+	@Test
+	public void testNoKnownMembers() throws Exception
+	{
+		// no other member has said it can read binary, so the messages are sent as json
+		final Member sender = join(true);
+		sender.partyService.send(new LocationUpdate(new WorldPoint(3200, 3200, 0)));
+		sender.eventBus.post(new GameTick());
+
+		await(() -> relay.jsonFrames.get() == 1);
+		assertEquals(0, relay.batchFrames.get());
+	}
+
+	private Member join(boolean statusUpdates)
+	{
+		server.enqueue(new MockResponse().withWebSocketUpgrade(relay.new Connection()));
+
+		final EventBus eventBus = new EventBus();
+		final Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(mock(Client.class));
+			binder.bind(ChatMessageManager.class).toInstance(mock(ChatMessageManager.class));
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.ws")).toInstance(server.url("/ws"));
+		});
+
+		final WSClient wsClient = injector.getInstance(WSClient.class);
+		wsClient.registerMessage(LocationUpdate.class);
+		if (statusUpdates)
+		{
+			wsClient.registerMessage(StatusUpdate.class);
+		}
+
+		final Member member = new Member(eventBus, injector.getInstance(PartyService.class));
+		eventBus.register(member);
+		members.add(member);
+
+		final GameStateChanged loggedIn = new GameStateChanged();
+		loggedIn.setGameState(GameState.LOGGED_IN);
+		eventBus.post(loggedIn);
+
+		member.partyService.changeParty("load-test");
+		return member;
+	}
+
+	private static int jsonSize(Gson gson, WebsocketMessage message)
+	{
+		return Party.C2S.newBuilder()
+			.setData(Party.Data.newBuilder()
+				.setType(message.getClass().getSimpleName())
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(gson.toJson(message, WebsocketMessage.class))))
+			.build()
+			.getSerializedSize();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException
+	{
+		final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (!condition.getAsBoolean())
+		{
+			assertTrue("timed out", System.nanoTime() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	public static class Member
+	{
+		private final EventBus eventBus;
+		private final PartyService partyService;
+		private final Set<Long> schemas = ConcurrentHashMap.newKeySet();
+		private final Map<Long, Integer> health = new ConcurrentHashMap<>();
+		private final Map<Long, WorldPoint> locations = new ConcurrentHashMap<>();
+		private final AtomicInteger statusUpdates = new AtomicInteger();
+		private final AtomicInteger locationUpdates = new AtomicInteger();
+
+		Member(EventBus eventBus, PartyService partyService)
+		{
+			this.eventBus = eventBus;
+			this.partyService = partyService;
+		}
+
+		long memberId()
+		{
+			return partyService.getLocalMember().getMemberId();
+		}
+
+		@Subscribe
+		public void onMessageSchemas(MessageSchemas message)
+		{
+			schemas.add(message.getMemberId());
+		}
+
+		@Subscribe
+		public void onStatusUpdate(StatusUpdate update)
+		{
+			health.put(update.getMemberId(), update.getHealthCurrent());
+			statusUpdates.incrementAndGet();
+		}
+
+		@Subscribe
+		public void onLocationUpdate(LocationUpdate update)
+		{
+			locations.put(update.getMemberId(), update.getWorldPoint());
+			locationUpdates.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Stand-in for the party server which relays data to every member of the party, including the sender
+	 */
+	private static class Relay
+	{
+		private final List<Connection> connections = new ArrayList<>();
+		private final AtomicInteger batchFrames = new AtomicInteger();
+		private final AtomicLong batchBytes = new AtomicLong();
+		private final AtomicInteger jsonFrames = new AtomicInteger();
+
+		private synchronized void broadcast(long partyId, Party.S2C message)
+		{
+			final ByteString bytes = ByteString.of(message.toByteArray());
+			for (Connection connection : connections)
+			{
+				if (connection.partyId == partyId)
+				{
+					connection.webSocket.send(bytes);
+				}
+			}
+		}
+
+		private class Connection extends WebSocketListener
+		{
+			private WebSocket webSocket;
+			private long partyId;
+			private long memberId;
+
+			@Override
+			public void onOpen(WebSocket webSocket, Response response)
+			{
+				this.webSocket = webSocket;
+			}
+
+			@Override
+			public void onClosing(WebSocket webSocket, int code, String reason)
+			{
+				webSocket.close(code, null);
+			}
+
+			@Override
+			public void onMessage(WebSocket webSocket, ByteString bytes)
+			{
+				final Party.C2S c2s;
+				try
+				{
+					c2s = Party.C2S.parseFrom(bytes.toByteArray());
+				}
+				catch (InvalidProtocolBufferException e)
+				{
+					throw new RuntimeException(e);
+				}
+
+				synchronized (Relay.this)
+				{
+					switch (c2s.getMsgCase())
+					{
+						case JOIN:
+							partyId = c2s.getJoin().getPartyId();
+							memberId = c2s.getJoin().getMemberId();
+							for (Connection connection : connections)
+							{
+								if (connection.partyId == partyId)
+								{
+									webSocket.send(ByteString.of(join(connection).toByteArray()));
+								}
+							}
+							connections.add(this);
+							broadcast(partyId, join(this));
+							break;
+						case PART:
+							connections.remove(this);
+							broadcast(partyId, Party.S2C.newBuilder()
+								.setPart(Party.UserPart.newBuilder().setPartyId(partyId).setMemberId(memberId))
+								.build());
+							break;
+						case DATA:
+							final Party.Data data = c2s.getData();
+							if (data.getType().equals("$batch"))
+							{
+								batchFrames.incrementAndGet();
+								batchBytes.addAndGet(bytes.size());
+							}
+							else if (data.getType().equals(StatusUpdate.class.getSimpleName()) || data.getType().equals(LocationUpdate.class.getSimpleName()))
+							{
+								jsonFrames.incrementAndGet();
+							}
+
+							broadcast(partyId, Party.S2C.newBuilder()
+								.setData(Party.PartyData.newBuilder()
+									.setPartyId(partyId)
+									.setMemberId(memberId)
+									.setType(data.getType())
+									.setData(data.getData()))
+								.build());
+							break;
+					}
+				}
+			}
+
+			private Party.S2C join(Connection connection)
+			{
+				return Party.S2C.newBuilder()
+					.setJoin(Party.UserJoin.newBuilder().setPartyId(connection.partyId).setMemberId(connection.memberId))
+					.build();
+			}
+		}
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
@@ -45,11 +46,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
 import net.runelite.client.RuntimeConfig;
 import net.runelite.client.RuntimeConfigLoader;
+import net.runelite.client.StartupTrace;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigManager;
@@ -59,6 +63,7 @@ import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -69,6 +74,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
+@Slf4j
 @RunWith(MockitoJUnitRunner.class)
 public class PluginManagerTest
 {
@@ -169,6 +175,40 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testStartupTrace() throws Exception
+	{
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager.setOutdated(true);
+
+		StartupTrace.start();
+		pluginManager.loadCorePlugins();
+		Set<String> spans = StartupTrace.stop().stream()
+			.map(StartupTrace.Event::getName)
+			.collect(Collectors.toSet());
+
+		for (Plugin plugin : pluginManager.getPlugins())
+		{
+			assertTrue(spans.contains("Instantiate " + plugin.getClass().getSimpleName()));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkStartup() throws Exception
+	{
+		PluginManager pluginManager = RuneLite.getInjector().getInstance(PluginManager.class);
+
+		long start = System.nanoTime();
+		pluginManager.loadCorePlugins();
+		long loaded = System.nanoTime();
+		pluginManager.startPlugins();
+		long started = System.nanoTime();
+
+		log.info("{} plugins: loading plugins {}ms, starting plugins {}ms", pluginManager.getPlugins().size(),
+			(loaded - start) / 1_000_000, (started - loaded) / 1_000_000);
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
@@ -249,4 +289,26 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testDependencyLevels()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(5);
+		graph.putEdge(1, 2);
+		graph.putEdge(1, 3);
+		graph.putEdge(2, 4);
+		graph.putEdge(3, 4);
+		graph.putEdge(1, 4);
+
+		List<List<Integer>> levels = PluginManager.dependencyLevels(graph, PluginManager.topologicalSort(graph));
+
+		assertEquals(3, levels.size());
+		assertEquals(ImmutableSet.of(1, 5), ImmutableSet.copyOf(levels.get(0)));
+		assertEquals(ImmutableSet.of(2, 3), ImmutableSet.copyOf(levels.get(1)));
+		assertEquals(ImmutableSet.of(4), ImmutableSet.copyOf(levels.get(2)));
+	}
 }
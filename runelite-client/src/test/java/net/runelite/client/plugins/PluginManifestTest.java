@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.base.Strings;
+import com.google.common.reflect.ClassPath;
+import com.google.common.reflect.ClassPath.ClassInfo;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class PluginManifestTest
+{
+	@Test
+	public void testRead() throws IOException
+	{
+		final String manifest = "net.runelite.client.plugins.a.APlugin\tA\t\tenabledByDefault,developerPlugin\t\ta\n"
+			+ "\n"
+			+ "net.runelite.client.plugins.b.BPlugin\tB\tbee\tloadWhenOutdated\tnet.runelite.client.plugins.a.APlugin\tb,bb\n";
+		final List<PluginManifest.Entry> entries = PluginManifest.read(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(2, entries.size());
+
+		final PluginManifest.Entry a = entries.get(0);
+		assertEquals("net.runelite.client.plugins.a.APlugin", a.getClassName());
+		assertEquals("A", a.getName());
+		assertEquals("", a.getConfigName());
+		assertTrue(a.isDeveloperPlugin());
+		assertFalse(a.isLoadWhenOutdated());
+		assertEquals(Collections.emptyList(), a.getDependencies());
+		assertEquals(Collections.singletonList("a"), a.getConfigGroups());
+
+		final PluginManifest.Entry b = entries.get(1);
+		assertEquals("bee", b.getConfigName());
+		assertFalse(b.isDeveloperPlugin());
+		assertTrue(b.isLoadWhenOutdated());
+		assertEquals(Collections.singletonList("net.runelite.client.plugins.a.APlugin"), b.getDependencies());
+		assertEquals(Arrays.asList("b", "bb"), b.getConfigGroups());
+	}
+
+	@Test(expected = IOException.class)
+	public void testMalformed() throws IOException
+	{
+		PluginManifest.read(new ByteArrayInputStream("net.runelite.client.plugins.a.APlugin\tA".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testManifestMatchesPlugins() throws IOException
+	{
+		final List<PluginManifest.Entry> entries;
+		try (InputStream in = PluginManager.class.getResourceAsStream(PluginManifest.RESOURCE))
+		{
+			// the manifest is built by the maven plugin in process-classes
+			Assume.assumeNotNull(in);
+			entries = PluginManifest.read(in);
+		}
+
+		final Map<String, PluginManifest.Entry> byClass = entries.stream()
+			.collect(Collectors.toMap(PluginManifest.Entry::getClassName, Function.identity()));
+		final List<Class<?>> plugins = ClassPath.from(getClass().getClassLoader()).getTopLevelClassesRecursive("net.runelite.client.plugins").stream()
+			.map(ClassInfo::load)
+			.filter(c -> c.getAnnotation(PluginDescriptor.class) != null)
+			.collect(Collectors.toList());
+		assertEquals(plugins.size(), entries.size());
+
+		for (Class<?> plugin : plugins)
+		{
+			final PluginDescriptor descriptor = plugin.getAnnotation(PluginDescriptor.class);
+			final PluginManifest.Entry entry = Objects.requireNonNull(byClass.get(plugin.getName()), plugin.getName());
+			assertEquals(descriptor.name(), entry.getName());
+			assertEquals(Strings.nullToEmpty(descriptor.configName()), entry.getConfigName());
+			assertEquals(descriptor.developerPlugin(), entry.isDeveloperPlugin());
+			assertEquals(descriptor.loadWhenOutdated(), entry.isLoadWhenOutdated());
+			assertEquals(Arrays.stream(plugin.getAnnotationsByType(PluginDependency.class)).map(d -> d.value().getName()).collect(Collectors.toList()),
+				entry.getDependencies());
+		}
+	}
+}
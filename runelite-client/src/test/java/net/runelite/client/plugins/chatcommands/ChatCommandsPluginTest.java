@@ -33,8 +33,9 @@ import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.ChatMessageType;
 import static net.runelite.api.ChatMessageType.FRIENDSCHATNOTIFICATION;
 import static net.runelite.api.ChatMessageType.GAMEMESSAGE;
@@ -110,7 +111,8 @@ public class ChatCommandsPluginTest
 
 	@Mock
 	@Bind
-	ScheduledExecutorService scheduledExecutorService;
+	@Named("httpExecutor")
+	ExecutorService httpExecutor;
 
 	@Mock
 	@Bind
@@ -137,6 +137,16 @@ public class ChatFilterPluginTest
 		assertEquals("w***s up", chatFilterPlugin.censorMessage("Blue", "whats up"));
 	}
 
+	@Test
+	public void testCensorOverlappingWords()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("aa,bab,ha");
+		when(chatFilterConfig.filteredRegex()).thenReturn("t+");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		assertEquals("**** ****** *up", chatFilterPlugin.censorMessage("Blue", "aaaa haabab tup"));
+	}
+
 	@Test
 	public void testCensorRegex()
 	{
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.ItemID;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "loots/profile.dat");
+	}
+
+	private static LootAggregate loot(LootRecordType type, String name, long time, int kills, int... drops)
+	{
+		LootAggregate loot = new LootAggregate(type, name, time, time);
+		loot.addKills(kills);
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+
+	private static void assertLoot(LootAggregate loot, String name, int kills, long first, long last, int... drops)
+	{
+		assertEquals(name, loot.getName());
+		assertEquals(kills, loot.getKills());
+		assertEquals(first, loot.getFirst());
+		assertEquals(last, loot.getLast());
+		assertEquals(drops.length / 2, loot.numDrops());
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			assertEquals(drops[i], loot.getId(i / 2));
+			assertEquals(drops[i + 1], loot.getQuantity(i / 2));
+		}
+	}
+
+	private LootStore reload() throws IOException
+	{
+		LootStore store = new LootStore(file);
+		store.load(Long.MIN_VALUE);
+		return store;
+	}
+
+	@Test
+	public void testAddAndReload() throws IOException
+	{
+		LootStore store = reload();
+		store.add(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 100, 1, ItemID.BONES, 1, ItemID.COINS_995, 5),
+			loot(LootRecordType.EVENT, "Barrows", 200, 1, ItemID.DEATH_RUNE, 100)
+		));
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 300, 2, ItemID.COINS_995, 10, ItemID.BRONZE_SPEAR, 1)));
+
+		for (LootStore s : Arrays.asList(store, reload()))
+		{
+			List<LootAggregate> loots = s.getLoot();
+			assertEquals(2, loots.size());
+			assertLoot(loots.get(0), "Barrows", 1, 200, 200, ItemID.DEATH_RUNE, 100);
+			assertLoot(loots.get(1), "Goblin", 3, 100, 300, ItemID.BONES, 1, ItemID.COINS_995, 15, ItemID.BRONZE_SPEAR, 1);
+		}
+	}
+
+	@Test
+	public void testSetRemoveClear() throws IOException
+	{
+		LootStore store = reload();
+		store.add(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 100, 1, ItemID.BONES, 1),
+			loot(LootRecordType.PICKPOCKET, "Goblin", 100, 1, ItemID.COINS_995, 3),
+			loot(LootRecordType.NPC, "Cow", 100, 1, ItemID.COWHIDE, 1)
+		));
+		store.set(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 50, 7, ItemID.BONES, 7)));
+		store.remove(LootRecordType.NPC, "Cow");
+
+		List<LootAggregate> loots = reload().getLoot();
+		assertEquals(2, loots.size());
+		assertLoot(loots.get(0), "Goblin", 7, 50, 50, ItemID.BONES, 7);
+		assertEquals(LootRecordType.PICKPOCKET, loots.get(1).getType());
+
+		store.clear();
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 400, 1, ItemID.RAW_BEEF, 1)));
+		loots = reload().getLoot();
+		assertEquals(1, loots.size());
+		assertLoot(loots.get(0), "Cow", 1, 400, 400, ItemID.RAW_BEEF, 1);
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		LootStore store = reload();
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 100, 1, ItemID.BONES, 1)));
+		long length = file.length();
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 200, 1, ItemID.COWHIDE, 1)));
+
+		// simulate a crash while writing the second record
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(file.length() - 3);
+		}
+
+		store = reload();
+		assertEquals(1, store.size());
+
+		// the next append replaces the torn record
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 300, 1, ItemID.COWHIDE, 2)));
+		assertTrue(file.length() > length);
+		List<LootAggregate> loots = reload().getLoot();
+		assertEquals(2, loots.size());
+		assertLoot(loots.get(1), "Cow", 1, 300, 300, ItemID.COWHIDE, 2);
+	}
+
+	@Test
+	public void testCompaction() throws IOException
+	{
+		LootStore store = reload();
+		store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 0, 1, ItemID.BONES, 1, ItemID.COINS_995, 0)));
+		long recordSize = file.length() - 8;
+		for (int i = 1; i < 5000; ++i)
+		{
+			store.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", i, 1, ItemID.BONES, 1, ItemID.COINS_995, i)));
+		}
+
+		assertTrue(file.length() < recordSize * 5000 / 4);
+		store.compact();
+		assertEquals(8 + recordSize, file.length());
+
+		List<LootAggregate> loots = reload().getLoot();
+		assertEquals(1, loots.size());
+		assertLoot(loots.get(0), "Goblin", 5000, 0, 4999, ItemID.BONES, 5000, ItemID.COINS_995, 5000 * 4999 / 2);
+	}
+
+	@Test
+	public void testExpire() throws IOException
+	{
+		LootStore store = reload();
+		store.add(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", 100, 1, ItemID.BONES, 1),
+			loot(LootRecordType.NPC, "Cow", 200, 1, ItemID.COWHIDE, 1)
+		));
+
+		store = new LootStore(file);
+		store.load(150);
+		assertEquals(1, store.size());
+		assertEquals(1, reload().size());
+	}
+
+	@Test
+	public void testTwoWriters() throws IOException
+	{
+		LootStore first = reload();
+		LootStore second = reload();
+
+		first.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 100, 1, ItemID.BONES, 1)));
+		second.add(Collections.singletonList(loot(LootRecordType.NPC, "Cow", 200, 1, ItemID.COWHIDE, 1)));
+		first.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 300, 1, ItemID.BONES, 1)));
+		// appending picked up the record of the other writer, so compacting from memory keeps it
+		first.compact();
+		second.add(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", 400, 1, ItemID.COINS_995, 2)));
+		second.compact();
+
+		for (LootStore s : Arrays.asList(second, reload()))
+		{
+			List<LootAggregate> loots = s.getLoot();
+			assertEquals(2, loots.size());
+			assertLoot(loots.get(0), "Cow", 1, 200, 200, ItemID.COWHIDE, 1);
+			assertLoot(loots.get(1), "Goblin", 3, 100, 400, ItemID.BONES, 2, ItemID.COINS_995, 2);
+		}
+	}
+
+	@Test
+	public void testManyDrops()
+	{
+		LootAggregate loot = new LootAggregate(LootRecordType.NPC, "Goblin", 0, 0);
+		for (int pass = 0; pass < 3; ++pass)
+		{
+			for (int id = 0; id < 1000; ++id)
+			{
+				loot.add(id * 31, 1);
+			}
+		}
+
+		assertEquals(1000, loot.numDrops());
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertEquals(i * 31, loot.getId(i));
+			assertEquals(3, loot.getQuantity(i));
+		}
+	}
+}
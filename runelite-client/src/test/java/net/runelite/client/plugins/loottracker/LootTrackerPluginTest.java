@@ -25,17 +25,22 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -64,11 +69,14 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemStack;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.ui.ClientToolbar;
+import net.runelite.http.api.RuneLiteAPI;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.loottracker.LootRecordType;
 import static org.junit.Assert.assertEquals;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
@@ -105,9 +113,16 @@ public class LootTrackerPluginTest
 		.put(ItemID.GRIMY_TORSTOL, "Grimy torstol")
 		.build();
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Mock
 	@Bind
-	private ScheduledExecutorService scheduledExecutorService;
+	@Named("ioExecutor")
+	private ExecutorService ioExecutor;
+
+	@Bind
+	private Gson gson = RuneLiteAPI.GSON;
 
 	@Mock
 	@Bind
@@ -535,4 +550,63 @@ public class LootTrackerPluginTest
 			new ItemStack(ItemID.SANGUINESTI_STAFF_UNCHARGED, 1)
 		));
 	}
+
+	@Test
+	public void testMigrateLootConfig() throws IOException
+	{
+		LootStore store = new LootStore(new File(folder.getRoot(), "profile.dat"));
+		store.load(Long.MIN_VALUE);
+
+		long now = System.currentTimeMillis();
+		LootAggregate cow = new LootAggregate(LootRecordType.NPC, "Cow", now - 2000, now - 1000);
+		cow.addKills(5);
+		cow.add(ItemID.COWHIDE, 5);
+		LootAggregate imp = new LootAggregate(LootRecordType.NPC, "Imp", now - 5000, now - 5000);
+		imp.addKills(1);
+		imp.add(ItemID.BONES, 1);
+		store.add(Arrays.asList(cow, imp));
+
+		when(configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, "profile", "drops_"))
+			.thenReturn(Arrays.asList("drops_NPC_Cow", "drops_NPC_Goblin", "drops_NPC_Imp"));
+		// the local cow is newer than the synced one, the goblin is only synced, and the synced imp is newer
+		when(configManager.getConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Cow"))
+			.thenReturn(configLoot("Cow", 1, now - 3000, now - 3000, ItemID.COWHIDE, 1));
+		when(configManager.getConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Goblin"))
+			.thenReturn(configLoot("Goblin", 2, now - 500, now - 500, ItemID.BONES, 2));
+		when(configManager.getConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Imp"))
+			.thenReturn(configLoot("Imp", 3, now - 5000, now - 100, ItemID.BONES, 3));
+
+		lootTrackerPlugin.migrateLootConfig(store, "profile");
+
+		assertEquals(3, store.size());
+		assertEquals(5, store.get(LootRecordType.NPC, "Cow").getKills());
+		assertEquals(2, store.get(LootRecordType.NPC, "Goblin").getKills());
+		LootAggregate syncedImp = store.get(LootRecordType.NPC, "Imp");
+		assertEquals(3, syncedImp.getKills());
+		assertEquals(ItemID.BONES, syncedImp.getId(0));
+		assertEquals(3, syncedImp.getQuantity(0));
+
+		// the store is the source of truth once migrated, so every key is removed, including ones which weren't newer
+		verify(configManager).unsetConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Cow");
+		verify(configManager).unsetConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Goblin");
+		verify(configManager).unsetConfiguration(LootTrackerConfig.GROUP, "profile", "drops_NPC_Imp");
+
+		// and the migrated loot survives reloading the store
+		LootStore reloaded = new LootStore(new File(folder.getRoot(), "profile.dat"));
+		reloaded.load(Long.MIN_VALUE);
+		assertEquals(3, reloaded.size());
+		assertEquals(2, reloaded.get(LootRecordType.NPC, "Goblin").getKills());
+	}
+
+	private String configLoot(String name, int kills, long first, long last, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot();
+		loot.type = LootRecordType.NPC;
+		loot.name = name;
+		loot.kills = kills;
+		loot.first = Instant.ofEpochMilli(first);
+		loot.last = Instant.ofEpochMilli(last);
+		loot.drops = drops;
+		return gson.toJson(loot);
+	}
 }
@@ -27,8 +27,9 @@ package net.runelite.client.plugins.screenshot;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import static net.runelite.api.ChatMessageType.GAMEMESSAGE;
 import static net.runelite.api.ChatMessageType.TRADE;
 import net.runelite.api.Client;
@@ -110,7 +111,8 @@ public class ScreenshotPluginTest
 
 	@Mock
 	@Bind
-	ScheduledExecutorService service;
+	@Named("ioExecutor")
+	ExecutorService service;
 
 	@Mock
 	@Bind
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Skill;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class XpTimeSeriesTest
+{
+	private static final long START = 1_700_000_000_000L;
+	private static final long MINUTE = 60_000L;
+	private static final long HOUR = 60 * MINUTE;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSteadyRate()
+	{
+		XpTimeSeries series = new XpTimeSeries(START);
+		long time = START;
+		// 100 xp a tick for 12 hours is 600k xp/hr
+		for (; time < START + 12 * HOUR; time += 600)
+		{
+			series.add(time, 100);
+		}
+
+		assertEquals(600_000, series.getXpPerHour(time, MINUTE / 2), 6_000);
+		assertEquals(600_000, series.getXpPerHour(time, 5 * MINUTE), 6_000);
+		assertEquals(600_000, series.getXpPerHour(time, 15 * MINUTE), 6_000);
+		assertEquals(600_000, series.getXpPerHour(time, HOUR), 6_000);
+		assertEquals(600_000, series.getXpPerHour(time, 6 * HOUR), 6_000);
+		assertEquals(series.getTotal(), series.getXpGained(time, 24 * HOUR));
+		assertEquals(600_000, series.getXpGained(time, HOUR), 2_000);
+	}
+
+	@Test
+	public void testShortHistory()
+	{
+		XpTimeSeries series = new XpTimeSeries(START);
+		for (long time = START; time < START + 2 * MINUTE; time += 600)
+		{
+			series.add(time, 100);
+		}
+
+		// the rate is over the time since tracking started, not the whole window
+		long now = START + 2 * MINUTE;
+		assertEquals(600_000, series.getXpPerHour(now, HOUR), 6_000);
+		assertEquals(20_000, series.getXpGained(now, HOUR));
+		assertEquals(0, series.getXpPerHour(START, HOUR));
+	}
+
+	@Test
+	public void testIdle()
+	{
+		XpTimeSeries series = new XpTimeSeries(START);
+		for (long time = START; time < START + 30 * MINUTE; time += 600)
+		{
+			series.add(time, 100);
+		}
+
+		long now = START + 60 * MINUTE;
+		assertEquals(0, series.getXpPerHour(now, 5 * MINUTE));
+		assertEquals(0, series.getXpPerHour(now, 15 * MINUTE));
+		assertEquals(300_000, series.getXpPerHour(now, HOUR), 3_000);
+
+		// gains after a long break only overwrite the rings
+		now += 48 * HOUR;
+		series.add(now, 1_000);
+		assertEquals(1_000, series.getXpGained(now, 5 * MINUTE));
+		assertEquals(1_000, series.getXpGained(now, 12 * HOUR));
+		assertEquals(1_000, series.getXpGained(now, 24 * HOUR));
+	}
+
+	@Test
+	public void testMatchesNaive()
+	{
+		Random random = new Random(42);
+		XpTimeSeries series = new XpTimeSeries(START);
+		List<long[]> gains = new ArrayList<>();
+		long time = START;
+		for (int i = 0; i < 20_000; ++i)
+		{
+			time += random.nextInt(10) == 0 ? random.nextInt((int) (10 * MINUTE)) : 600 * (1 + random.nextInt(3));
+			int xp = random.nextInt(500);
+			series.add(time, xp);
+			gains.add(new long[]{time, xp});
+
+			if (i % 97 == 0)
+			{
+				long now = time + random.nextInt(5000);
+				// window, and the bucket length used for it
+				long[][] windows = {{30_000, 600}, {15 * MINUTE, 10_000}, {3 * HOUR, 300_000}};
+				for (long[] window : windows)
+				{
+					long from = (Math.floorDiv(now - window[0], window[1]) + 1) * window[1];
+					long expected = gains.stream().filter(g -> g[0] >= from).mapToLong(g -> g[1]).sum();
+					assertEquals(expected, series.getXpGained(now, window[0]));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testHistoryPersistence() throws IOException
+	{
+		XpHistory history = new XpHistory(START);
+		for (long time = START; time < START + HOUR; time += 600)
+		{
+			history.record(Skill.WOODCUTTING, time, 50);
+			history.record(Skill.FIREMAKING, time, 100);
+		}
+
+		File file = new File(folder.getRoot(), "xp/1-normal.dat");
+		history.save(file);
+
+		long now = START + HOUR;
+		XpHistory loaded = XpHistory.load(file, now + HOUR);
+		assertEquals(300_000, loaded.getXpPerHour(Skill.WOODCUTTING, now, 15 * MINUTE), 3_000);
+		assertEquals(600_000, loaded.getXpPerHour(Skill.FIREMAKING, now, 15 * MINUTE), 6_000);
+		assertEquals(900_000, loaded.getOverallXpPerHour(now, 15 * MINUTE), 9_000);
+		assertEquals(0, loaded.getXpPerHour(Skill.MINING, now, 15 * MINUTE));
+		assertEquals(history.getXpGained(Skill.WOODCUTTING, now, HOUR), loaded.getXpGained(Skill.WOODCUTTING, now, HOUR));
+
+		// a missing history starts empty
+		XpHistory empty = XpHistory.load(new File(folder.getRoot(), "missing.dat"), now);
+		assertEquals(0, empty.getOverallXpPerHour(now, HOUR));
+	}
+}
@@ -27,7 +27,9 @@ package net.runelite.client.plugins.xptracker;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.Player;
@@ -82,6 +84,11 @@ public class XpTrackerPluginTest
 	@Bind
 	private OverlayManager overlayManager;
 
+	@Mock
+	@Bind
+	@Named("ioExecutor")
+	private ExecutorService ioExecutor;
+
 	@Before
 	public void before()
 	{
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class MonitoredExecutorTest
+{
+	private final MonitoredExecutor executor = new MonitoredExecutor("test", 1, 2);
+
+	@After
+	public void after() throws InterruptedException
+	{
+		executor.shutdownNow();
+		executor.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testStats() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() ->
+		{
+			started.countDown();
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		});
+		started.await();
+
+		Future<?> first = executor.submit(() ->
+		{
+		});
+		Future<?> second = executor.submit(() ->
+		{
+		});
+
+		MonitoredExecutor.Stats stats = executor.getStats();
+		assertEquals("test", stats.getName());
+		assertEquals(1, stats.getThreads());
+		assertEquals(1, stats.getActive());
+		assertEquals(2, stats.getQueued());
+
+		try
+		{
+			executor.execute(() ->
+			{
+			});
+			fail();
+		}
+		catch (RejectedExecutionException ex)
+		{
+			// the queue is full
+		}
+
+		Thread.sleep(10);
+		release.countDown();
+		first.get();
+		second.get();
+
+		stats = executor.getStats();
+		assertEquals(0, stats.getQueued());
+		assertEquals(1, stats.getRejected());
+		// the last task may not have been counted yet after its future completed
+		assertTrue(stats.getCompleted() >= 2);
+		assertTrue(stats.getMaxQueueNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+		assertTrue(stats.getRunNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+	}
+
+	@Test
+	public void testException() throws Exception
+	{
+		Future<?> future = executor.submit(() ->
+		{
+			throw new IllegalStateException("expected");
+		});
+		try
+		{
+			future.get();
+			fail();
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+
+		// the executor is still usable after a task has thrown
+		assertEquals(42, (int) executor.submit(() -> 42).get());
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	private final MonitoredExecutor executor = new MonitoredExecutor("test", 2, 16);
+	private final Scheduler scheduler = new Scheduler();
+
+	@Before
+	public void before()
+	{
+		scheduler.executor = executor;
+	}
+
+	@After
+	public void after() throws InterruptedException
+	{
+		executor.shutdownNow();
+		executor.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.MILLIS, asynchronous = true)
+	public void task()
+	{
+	}
+
+	@Test
+	public void testAsynchronousRunsDoNotOverlap() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger runs = new AtomicInteger();
+		ScheduledMethod method = new ScheduledMethod(getClass().getMethod("task").getAnnotation(Schedule.class), null, this, () ->
+		{
+			runs.incrementAndGet();
+			started.countDown();
+			try
+			{
+				release.await();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		});
+		scheduler.addScheduledMethod(method);
+
+		method.setLast(Instant.EPOCH);
+		scheduler.tick();
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+
+		// the first run is still going, so these ticks are skipped
+		method.setLast(Instant.EPOCH);
+		scheduler.tick();
+		scheduler.tick();
+		assertEquals(0, executor.getStats().getQueued());
+
+		release.countDown();
+		for (int i = 0; i < 100 && method.getInFlight().get(); ++i)
+		{
+			Thread.sleep(10);
+		}
+
+		// and once it has finished, the next tick runs it again
+		scheduler.tick();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	public void testAsynchronousRunsOfOneObjectAreSerialized() throws Exception
+	{
+		Schedule schedule = getClass().getMethod("task").getAnnotation(Schedule.class);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger runs = new AtomicInteger();
+		Runnable task = () ->
+		{
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try
+			{
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			runs.incrementAndGet();
+		};
+
+		for (int i = 0; i < 4; ++i)
+		{
+			ScheduledMethod method = new ScheduledMethod(schedule, null, this, task);
+			method.setLast(Instant.EPOCH);
+			scheduler.addScheduledMethod(method);
+		}
+
+		scheduler.tick();
+		for (int i = 0; i < 100 && runs.get() < 4; ++i)
+		{
+			Thread.sleep(10);
+		}
+
+		assertEquals(4, runs.get());
+		assertEquals(1, maxRunning.get());
+	}
+}
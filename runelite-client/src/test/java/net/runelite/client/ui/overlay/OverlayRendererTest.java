@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+@Slf4j
+public class OverlayRendererTest
+{
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	KeyManager keyManager;
+
+	@Mock
+	@Bind
+	ClientUI clientUI;
+
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Mock
+	@Bind
+	ChatMessageManager chatMessageManager;
+
+	@Inject
+	OverlayRenderer overlayRenderer;
+
+	private final BufferedImage canvas = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+
+	private static class CountingOverlay extends Overlay
+	{
+		private int renders;
+
+		CountingOverlay(boolean retained)
+		{
+			setRetained(retained);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, 10, 10);
+			return new Dimension(10, 10);
+		}
+	}
+
+	private static class LinesOverlay extends OverlayPanel
+	{
+		LinesOverlay(boolean retained)
+		{
+			setRetained(retained);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			for (int i = 0; i < 5; ++i)
+			{
+				panelComponent.getChildren().add(LineComponent.builder()
+					.left("Line " + i)
+					.right(Integer.toString(i * 1000))
+					.build());
+			}
+			return super.render(graphics);
+		}
+	}
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getRealDimensions()).thenReturn(new Dimension(400, 400));
+		when(client.getCanvasWidth()).thenReturn(400);
+		when(client.getCanvasHeight()).thenReturn(400);
+		when(runeLiteConfig.interfaceFontType()).thenReturn(FontType.REGULAR);
+		when(runeLiteConfig.fontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.tooltipFontType()).thenReturn(FontType.SMALL);
+	}
+
+	private void renderFrame()
+	{
+		overlayRenderer.onBeforeRender(new BeforeRender());
+		Graphics2D graphics = canvas.createGraphics();
+		overlayRenderer.renderOverlayLayer(graphics, OverlayLayer.ABOVE_WIDGETS);
+		graphics.dispose();
+	}
+
+	@Test
+	public void testRetained()
+	{
+		CountingOverlay retained = new CountingOverlay(true);
+		CountingOverlay immediate = new CountingOverlay(false);
+		immediate.setPosition(OverlayPosition.TOP_RIGHT);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(List.of(retained, immediate));
+
+		// the first render may render twice to size the image
+		renderFrame();
+		retained.renders = 0;
+		renderFrame();
+		renderFrame();
+		assertEquals(0, retained.renders);
+		assertEquals(3, immediate.renders);
+
+		// the retained output is drawn at the overlay's location every frame
+		canvas.setRGB(retained.getBounds().x, retained.getBounds().y, 0);
+		renderFrame();
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(retained.getBounds().x, retained.getBounds().y));
+		assertEquals(new Dimension(10, 10), retained.getBounds().getSize());
+		assertEquals(0, retained.renders);
+
+		retained.markDirty();
+		renderFrame();
+		renderFrame();
+		assertEquals(1, retained.renders);
+
+		overlayRenderer.onConfigChanged(new ConfigChanged());
+		renderFrame();
+		assertEquals(2, retained.renders);
+
+		retained.setPreferredSize(new Dimension(20, 20));
+		renderFrame();
+		renderFrame();
+		assertEquals(3, retained.renders);
+	}
+
+	@Test
+	public void testRetainedGrows()
+	{
+		Overlay overlay = new Overlay()
+		{
+			{
+				setRetained(true);
+			}
+
+			@Override
+			public Dimension render(Graphics2D graphics)
+			{
+				graphics.setColor(Color.RED);
+				graphics.fillRect(0, 0, 50, 30);
+				return new Dimension(50, 30);
+			}
+		};
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(List.of(overlay));
+
+		renderFrame();
+		assertEquals(new Dimension(50, 30), overlay.getBounds().getSize());
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(overlay.getBounds().x + 49, overlay.getBounds().y + 29));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkRetained()
+	{
+		final int frames = 2000;
+		long[] nanos = new long[2];
+		for (int pass = 0; pass < 4; ++pass)
+		{
+			for (int mode = 0; mode < 2; ++mode)
+			{
+				List<Overlay> overlays = new ArrayList<>();
+				for (int i = 0; i < 30; ++i)
+				{
+					Overlay overlay = new LinesOverlay(mode == 1);
+					overlay.setPreferredLocation(new Point(i % 5 * 75, i / 5 * 60));
+					overlay.setPosition(OverlayPosition.DETACHED);
+					overlays.add(overlay);
+				}
+				when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(overlays);
+
+				long start = System.nanoTime();
+				for (int i = 0; i < frames; ++i)
+				{
+					renderFrame();
+				}
+				nanos[mode] = (System.nanoTime() - start) / frames;
+			}
+
+			log.info("30 overlays: immediate {}us/frame, retained {}us/frame", nanos[0] / 1000, nanos[1] / 1000);
+		}
+
+		assertTrue(nanos[1] < nanos[0]);
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+@Slf4j
+public class ModelOutlineRendererTest
+{
+	private static final int BASE = -20000;
+
+	// stub only, since the benchmark makes many calls
+	@Mock(stubOnly = true)
+	@Bind
+	Client client;
+
+	@Mock(stubOnly = true)
+	MainBufferProvider bufferProvider;
+
+	@Inject
+	ModelOutlineRenderer modelOutlineRenderer;
+
+	private BufferedImage image;
+	private int cameraZ = -100;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(bufferProvider.getImage()).thenAnswer(i -> image);
+
+		// looking north at the npcs, with no pitch or yaw
+		when(client.getViewportXOffset()).thenReturn(4);
+		when(client.getViewportYOffset()).thenReturn(4);
+		when(client.getViewportWidth()).thenReturn(512);
+		when(client.getViewportHeight()).thenReturn(334);
+		when(client.getScale()).thenReturn(512);
+		when(client.getCameraX()).thenReturn(BASE + 450);
+		when(client.getCameraY()).thenReturn(BASE - 1500);
+		when(client.getCameraZ()).thenAnswer(i -> cameraZ);
+	}
+
+	private static Model sphere(int radius)
+	{
+		final int rings = 16;
+		final int segments = 24;
+		final int vertexCount = (rings + 1) * segments;
+		final float[] x = new float[vertexCount];
+		final float[] y = new float[vertexCount];
+		final float[] z = new float[vertexCount];
+		for (int r = 0; r <= rings; ++r)
+		{
+			double phi = Math.PI * r / rings;
+			for (int s = 0; s < segments; ++s)
+			{
+				double theta = 2 * Math.PI * s / segments;
+				int v = r * segments + s;
+				x[v] = (float) (radius * Math.sin(phi) * Math.cos(theta));
+				y[v] = (float) (radius * Math.sin(phi) * Math.sin(theta));
+				z[v] = (float) (-radius * Math.cos(phi));
+			}
+		}
+
+		final int faceCount = rings * segments * 2;
+		final int[] f1 = new int[faceCount];
+		final int[] f2 = new int[faceCount];
+		final int[] f3 = new int[faceCount];
+		int f = 0;
+		for (int r = 0; r < rings; ++r)
+		{
+			for (int s = 0; s < segments; ++s)
+			{
+				int a = r * segments + s;
+				int b = r * segments + (s + 1) % segments;
+				int c = a + segments;
+				int d = b + segments;
+				f1[f] = a;
+				f2[f] = c;
+				f3[f++] = b;
+				f1[f] = b;
+				f2[f] = c;
+				f3[f++] = d;
+			}
+		}
+
+		Model model = mock(Model.class, withSettings().stubOnly());
+		when(model.getVerticesCount()).thenReturn(vertexCount);
+		when(model.getVerticesX()).thenReturn(x);
+		when(model.getVerticesY()).thenReturn(y);
+		when(model.getVerticesZ()).thenReturn(z);
+		when(model.getFaceCount()).thenReturn(faceCount);
+		when(model.getFaceIndices1()).thenReturn(f1);
+		when(model.getFaceIndices2()).thenReturn(f2);
+		when(model.getFaceIndices3()).thenReturn(f3);
+		return model;
+	}
+
+	private static NPC npc(Model model, int x, int y)
+	{
+		NPC npc = mock(NPC.class, withSettings().stubOnly());
+		when(npc.getModel()).thenReturn(model);
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(x, y));
+		return npc;
+	}
+
+	private static List<NPC> npcs(int count)
+	{
+		List<NPC> npcs = new ArrayList<>();
+		for (int i = 0; i < count; ++i)
+		{
+			npcs.add(npc(sphere(50 + i % 5 * 10), BASE + i % 10 * 100, BASE + i / 10 * 150));
+		}
+		return npcs;
+	}
+
+	private static List<ModelOutlineRenderer.Outline> outlines(List<NPC> npcs)
+	{
+		List<ModelOutlineRenderer.Outline> outlines = new ArrayList<>();
+		for (int i = 0; i < npcs.size(); ++i)
+		{
+			// mix of directly written and queued outlines
+			outlines.add(i % 2 == 0
+				? ModelOutlineRenderer.Outline.of(npcs.get(i), 2, Color.CYAN, 0)
+				: ModelOutlineRenderer.Outline.of(npcs.get(i), 4, new Color(255, 0, 0, 128), 2));
+		}
+		return outlines;
+	}
+
+	private int[] drawSequential(List<ModelOutlineRenderer.Outline> outlines)
+	{
+		image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		for (ModelOutlineRenderer.Outline outline : outlines)
+		{
+			modelOutlineRenderer.drawOutline((NPC) outline.getEntity(), outline.getWidth(), outline.getColor(), outline.getFeather());
+		}
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	private int[] drawBatch(List<ModelOutlineRenderer.Outline> outlines)
+	{
+		image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		modelOutlineRenderer.drawOutlines(outlines);
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	@Test
+	public void testBatchMatchesSequential()
+	{
+		List<NPC> npcs = npcs(20);
+		List<ModelOutlineRenderer.Outline> outlines = outlines(npcs);
+
+		int[] sequential = drawSequential(outlines);
+		assertTrue(Arrays.stream(sequential).filter(rgb -> rgb != 0).count() > 2000);
+
+		when(client.getGameCycle()).thenReturn(1);
+		assertArrayEquals(sequential, drawBatch(outlines));
+		// the coverages are reused on the next frame
+		when(client.getGameCycle()).thenReturn(2);
+		assertArrayEquals(sequential, drawBatch(outlines));
+
+		// moving an npc or the camera invalidates its coverage
+		when(npcs.get(3).getLocalLocation()).thenReturn(new LocalPoint(BASE + 330, BASE));
+		cameraZ = -120;
+		when(client.getGameCycle()).thenReturn(3);
+		int[] batch = drawBatch(outlines);
+		assertArrayEquals(drawSequential(outlines), batch);
+	}
+
+	@Test
+	public void testChangedModel()
+	{
+		List<NPC> npcs = npcs(4);
+		List<ModelOutlineRenderer.Outline> outlines = outlines(npcs);
+
+		when(client.getGameCycle()).thenReturn(1);
+		drawBatch(outlines);
+
+		// a different model in the same place can't reuse the coverage
+		Model model = sphere(55);
+		when(npcs.get(1).getModel()).thenReturn(model);
+		when(client.getGameCycle()).thenReturn(2);
+		int[] batch = drawBatch(outlines);
+		assertArrayEquals(drawSequential(outlines), batch);
+
+		// nor can the same model once its faces change
+		int[] faces = model.getFaceIndices3();
+		faces[0] = faces[1];
+		when(client.getGameCycle()).thenReturn(3);
+		batch = drawBatch(outlines);
+		assertArrayEquals(drawSequential(outlines), batch);
+	}
+
+	@Test
+	public void testDuplicateInBatch()
+	{
+		NPC npc = npc(sphere(40), BASE + 450, BASE);
+		List<ModelOutlineRenderer.Outline> outlines = List.of(
+			ModelOutlineRenderer.Outline.of(npc, 6, Color.RED, 0),
+			ModelOutlineRenderer.Outline.of(npc, 2, Color.GREEN, 0));
+
+		assertArrayEquals(drawSequential(outlines), drawBatch(outlines));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkOutlines()
+	{
+		List<ModelOutlineRenderer.Outline> outlines = outlines(npcs(50));
+
+		for (int pass = 0; pass < 5; ++pass)
+		{
+			final int frames = 50;
+
+			long start = System.nanoTime();
+			for (int i = 0; i < frames; ++i)
+			{
+				// moving the camera each frame defeats coverage reuse
+				cameraZ = -100 - i % 2;
+				drawSequential(outlines);
+			}
+			long sequential = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < frames; ++i)
+			{
+				cameraZ = -100 - i % 2;
+				drawBatch(outlines);
+			}
+			long parallel = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < frames; ++i)
+			{
+				drawBatch(outlines);
+			}
+			long reused = System.nanoTime() - start;
+
+			log.info("50 npcs: sequential {}us, parallel {}us, reused {}us",
+				sequential / frames / 1000, parallel / frames / 1000, reused / frames / 1000);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class MultiPatternMatcherTest
+{
+	private static List<String> spans(MultiPatternMatcher matcher, String text)
+	{
+		List<String> spans = new ArrayList<>();
+		matcher.findAll(text, (start, end) -> spans.add(start + "-" + end));
+		Collections.sort(spans);
+		return spans;
+	}
+
+	/**
+	 * The spans found by matching each word and regex separately
+	 */
+	private static List<String> expectedSpans(List<String> words, List<Pattern> regexes, String text)
+	{
+		List<Pattern> patterns = new ArrayList<>();
+		// words which differ only in case are the same word
+		words.stream()
+			.map(String::toLowerCase)
+			.distinct()
+			.map(w -> Pattern.compile(Pattern.quote(w), Pattern.CASE_INSENSITIVE))
+			.forEach(patterns::add);
+		patterns.addAll(regexes);
+
+		List<String> spans = new ArrayList<>();
+		for (Pattern pattern : patterns)
+		{
+			Matcher m = pattern.matcher(text);
+			while (m.find())
+			{
+				spans.add(m.start() + "-" + m.end());
+			}
+		}
+		Collections.sort(spans);
+		return spans;
+	}
+
+	@Test
+	public void testFindAll()
+	{
+		List<String> words = Arrays.asList("he", "she", "his", "hers", "aa");
+		List<Pattern> regexes = Collections.singletonList(Pattern.compile("r+s", Pattern.CASE_INSENSITIVE));
+		MultiPatternMatcher matcher = new MultiPatternMatcher(words, regexes, true);
+
+		assertEquals(Arrays.asList("1-4", "2-4", "2-6", "4-6"), spans(matcher, "ushers"));
+		// matches of the same word don't overlap, like Matcher.find()
+		assertEquals(Arrays.asList("0-2", "2-4"), spans(matcher, "aaaaa"));
+		assertEquals(Arrays.asList("0-3", "1-3"), spans(matcher, "SHE"));
+		assertTrue(matcher.find("a hiss"));
+		assertFalse(matcher.find("nothing"));
+		assertFalse(matcher.isEmpty());
+		assertTrue(MultiPatternMatcher.EMPTY.isEmpty());
+		assertFalse(MultiPatternMatcher.EMPTY.find("anything"));
+	}
+
+	@Test
+	public void testCaseFolding()
+	{
+		// like Pattern.CASE_INSENSITIVE, only ascii is case insensitive
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("Ärger", "abc"), Collections.emptyList(), true);
+		assertTrue(matcher.find("ÄRGER"));
+		assertFalse(matcher.find("äRGER"));
+		assertTrue(matcher.find("xABCx"));
+
+		MultiPatternMatcher caseSensitive = new MultiPatternMatcher(Collections.singletonList("abc"), Collections.emptyList(), false);
+		assertFalse(caseSensitive.find("ABC"));
+		assertTrue(caseSensitive.find("abc"));
+	}
+
+	@Test
+	public void testRandom()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < 500; ++i)
+		{
+			List<String> words = new ArrayList<>();
+			for (int j = random.nextInt(8); j >= 0; --j)
+			{
+				words.add(randomString(random, 1 + random.nextInt(4)));
+			}
+
+			String text = randomString(random, random.nextInt(40));
+			MultiPatternMatcher matcher = new MultiPatternMatcher(words, Collections.emptyList(), true);
+			assertEquals(words + " in " + text, expectedSpans(words, Collections.emptyList(), text), spans(matcher, text));
+		}
+	}
+
+	private static String randomString(Random random, int length)
+	{
+		char[] chars = new char[length];
+		for (int i = 0; i < length; ++i)
+		{
+			chars[i] = "abAB ".charAt(random.nextInt(5));
+		}
+		return new String(chars);
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkWords()
+	{
+		Random random = new Random(42);
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i)
+		{
+			words.add(Integer.toString(Math.abs(random.nextInt()), 36));
+		}
+
+		List<String> messages = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i)
+		{
+			messages.add("Buying lobsters and sharks at the grand exchange, trade me " + i);
+		}
+
+		List<Pattern> patterns = new ArrayList<>();
+		for (String word : words)
+		{
+			patterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+		}
+		MultiPatternMatcher matcher = new MultiPatternMatcher(words, Collections.emptyList(), true);
+
+		for (int pass = 0; pass < 5; ++pass)
+		{
+			int found = 0;
+			long start = System.nanoTime();
+			for (String message : messages)
+			{
+				for (Pattern pattern : patterns)
+				{
+					Matcher m = pattern.matcher(message);
+					while (m.find())
+					{
+						++found;
+					}
+				}
+			}
+			long sequential = System.nanoTime() - start;
+
+			int[] matched = new int[1];
+			start = System.nanoTime();
+			for (String message : messages)
+			{
+				matcher.findAll(message, (s, e) -> ++matched[0]);
+			}
+			long automaton = System.nanoTime() - start;
+
+			assertEquals(found, matched[0]);
+			log.info("{} messages x {} words: patterns {}us, automaton {}us",
+				messages.size(), words.size(), sequential / 1000, automaton / 1000);
+		}
+	}
+}
@@ -24,11 +24,21 @@
  */
 package net.runelite.client.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
 import static junit.framework.TestCase.assertTrue;
 import static net.runelite.client.util.WildcardMatcher.matches;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import org.junit.Ignore;
 import org.junit.Test;
 
+@Slf4j
 public class WildcardMatcherTest
 {
 	@Test
@@ -41,4 +51,138 @@ public class WildcardMatcherTest
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testShapes()
+	{
+		assertTrue(matches("*", ""));
+		assertTrue(matches("**", "anything"));
+		assertTrue(matches("*whip", "Abyssal whip"));
+		assertFalse(matches("*whip", "Abyssal whip (or)"));
+		assertTrue(matches("*sal wh*", "Abyssal whip"));
+		assertTrue(matches("a*b*c", "abc"));
+		assertTrue(matches("a*b*c", "axxbyyc"));
+		assertFalse(matches("a*b*c", "acb"));
+		assertFalse(matches("ab*ba", "aba"));
+		assertTrue(matches("ab*ba", "abba"));
+		assertFalse(matches("", "a"));
+		assertTrue(matches("", ""));
+		// like the regex these replace, only ascii is case insensitive and * does not match newlines
+		assertTrue(matches("ÄR*", "ÄRGER"));
+		assertFalse(matches("äR*", "ÄRGER"));
+		assertFalse(matches("a*b", "a\nb"));
+	}
+
+	@Test
+	public void testPatternSet()
+	{
+		List<String> entries = Arrays.asList("Rune*", "Dragon dagger", "*(p++)", "dragon DAGGER", "*");
+		WildcardMatcher.PatternSet<String> patterns = WildcardMatcher.compile(entries);
+
+		assertEquals("Rune*", patterns.match("rune scimitar"));
+		assertEquals("Dragon dagger", patterns.match("DRAGON DAGGER"));
+		assertEquals("dragon DAGGER", patterns.match("Dragon dagger", e -> !e.equals("Dragon dagger")));
+		assertEquals("*(p++)", patterns.match("Dragon dagger(p++)"));
+		assertEquals("*", patterns.match("Coins"));
+		assertNull(patterns.match("Coins", e -> !e.equals("*")));
+		assertFalse(WildcardMatcher.compile(new ArrayList<>()).matches("Coins"));
+	}
+
+	@Test
+	public void testRandom()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; ++i)
+		{
+			String pattern = randomString(random, random.nextInt(6), "ab*B");
+			String text = randomString(random, random.nextInt(8), "abAB");
+			assertEquals(pattern + " " + text, regexMatches(pattern, text), matches(pattern, text));
+		}
+	}
+
+	private static boolean regexMatches(String pattern, String text)
+	{
+		StringBuilder regex = new StringBuilder("(?i)");
+		for (String part : pattern.split("\\*", -1))
+		{
+			regex.append(Pattern.quote(part)).append(".*");
+		}
+		regex.setLength(regex.length() - 2);
+		return text.matches(regex.toString());
+	}
+
+	private static String randomString(Random random, int length, String chars)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < length; ++i)
+		{
+			sb.append(chars.charAt(random.nextInt(chars.length())));
+		}
+		return sb.toString();
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkPatternSet()
+	{
+		Random random = new Random(42);
+		List<String> entries = new ArrayList<>();
+		for (int i = 0; i < 500; ++i)
+		{
+			String name = "item " + Integer.toString(random.nextInt(100_000), 36);
+			switch (i % 4)
+			{
+				case 0:
+					entries.add(name);
+					break;
+				case 1:
+					entries.add(name + "*");
+					break;
+				case 2:
+					entries.add("*" + name);
+					break;
+				default:
+					entries.add("*" + name + "*");
+			}
+		}
+
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 10_000; ++i)
+		{
+			names.add("Item " + Integer.toString(random.nextInt(100_000), 36));
+		}
+
+		WildcardMatcher.PatternSet<String> patterns = WildcardMatcher.compile(entries);
+		for (int pass = 0; pass < 5; ++pass)
+		{
+			int found = 0;
+			long start = System.nanoTime();
+			for (String name : names)
+			{
+				for (String entry : entries)
+				{
+					if (regexMatches(entry, name))
+					{
+						++found;
+						break;
+					}
+				}
+			}
+			long regex = System.nanoTime() - start;
+
+			int matched = 0;
+			start = System.nanoTime();
+			for (String name : names)
+			{
+				if (patterns.matches(name))
+				{
+					++matched;
+				}
+			}
+			long set = System.nanoTime() - start;
+
+			assertEquals(found, matched);
+			log.info("{} names x {} entries: regex {}ms, pattern set {}ms", names.size(), entries.size(), regex / 1_000_000, set / 1_000_000);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Writes a manifest of the plugins in a package, so the client can load its plugins without
+ * loading every class in the package to find them. Each line is a plugin, with tab separated
+ * class name, name, config name, flags, dependencies and config groups. Flags, dependencies
+ * and config groups are comma separated.
+ */
+@Mojo(
+	name = "build-plugin-manifest",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+	requiresDependencyResolution = ResolutionScope.COMPILE
+)
+public class PluginManifestMojo extends AbstractMojo
+{
+	private static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	private static final String CONFIG_GROUP = "net.runelite.client.config.ConfigGroup";
+	private static final String PROVIDES = "com.google.inject.Provides";
+	private static final String[] FLAGS = {"enabledByDefault", "hidden", "developerPlugin", "loadWhenOutdated", "loadInSafeMode"};
+
+	@Parameter(defaultValue = "${project}")
+	private MavenProject project;
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}")
+	private File classesDirectory;
+
+	@Parameter(required = true)
+	private String packageName;
+
+	@Parameter(required = true)
+	private File manifestFile;
+
+	private final Log log = getLog();
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		final List<String> candidates = new ArrayList<>();
+		final Path classes = classesDirectory.toPath();
+		// the descriptor of the annotation is in the constant pool of every class it is on
+		final byte[] descriptor = ("L" + PLUGIN_DESCRIPTOR.replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
+		try (Stream<Path> files = Files.walk(classes.resolve(packageName.replace('.', '/'))))
+		{
+			for (Path file : (Iterable<Path>) files::iterator)
+			{
+				final String path = classes.relativize(file).toString();
+				if (path.endsWith(".class") && path.indexOf('$') == -1 && contains(Files.readAllBytes(file), descriptor))
+				{
+					candidates.add(path.substring(0, path.length() - ".class".length()).replace(File.separatorChar, '.'));
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to read classes", ex);
+		}
+
+		final TreeMap<String, String> plugins = new TreeMap<>();
+		try (URLClassLoader loader = new URLClassLoader(classpath(), ClassLoader.getPlatformClassLoader()))
+		{
+			final Class<? extends Annotation> pluginDescriptor = annotation(loader, PLUGIN_DESCRIPTOR);
+			final Class<? extends Annotation> pluginDependency = annotation(loader, PLUGIN_DEPENDENCY);
+			final Class<? extends Annotation> configGroup = annotation(loader, CONFIG_GROUP);
+			final Class<? extends Annotation> provides = annotation(loader, PROVIDES);
+
+			for (String className : candidates)
+			{
+				final Class<?> clazz = Class.forName(className, false, loader);
+				final Annotation descriptorAnnotation = clazz.getAnnotation(pluginDescriptor);
+				if (descriptorAnnotation == null)
+				{
+					continue;
+				}
+
+				final List<String> flags = new ArrayList<>();
+				for (String flag : FLAGS)
+				{
+					if ((Boolean) value(descriptorAnnotation, flag))
+					{
+						flags.add(flag);
+					}
+				}
+
+				final List<String> dependencies = new ArrayList<>();
+				for (Annotation dependency : clazz.getAnnotationsByType(pluginDependency))
+				{
+					dependencies.add(((Class<?>) value(dependency, "value")).getName());
+				}
+
+				final List<String> configGroups = new ArrayList<>();
+				for (Method method : clazz.getDeclaredMethods())
+				{
+					final Annotation group = method.isAnnotationPresent(provides) ? method.getReturnType().getAnnotation(configGroup) : null;
+					if (group != null)
+					{
+						configGroups.add((String) value(group, "value"));
+					}
+				}
+
+				plugins.put(className, String.join("\t",
+					className,
+					(String) value(descriptorAnnotation, "name"),
+					(String) value(descriptorAnnotation, "configName"),
+					String.join(",", flags),
+					String.join(",", dependencies),
+					String.join(",", configGroups)));
+			}
+		}
+		catch (IOException | ReflectiveOperationException | LinkageError ex)
+		{
+			throw new MojoExecutionException("unable to load plugin classes", ex);
+		}
+
+		manifestFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(manifestFile, StandardCharsets.UTF_8))
+		{
+			plugins.values().forEach(out::println);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to write plugin manifest", ex);
+		}
+
+		log.info("Wrote " + plugins.size() + " plugins to manifest, of " + candidates.size() + " candidate classes");
+	}
+
+	private URL[] classpath() throws MojoExecutionException
+	{
+		try
+		{
+			final List<URL> urls = new ArrayList<>();
+			urls.add(classesDirectory.toURI().toURL());
+			for (String element : project.getCompileClasspathElements())
+			{
+				urls.add(new File(element).toURI().toURL());
+			}
+			return urls.toArray(new URL[0]);
+		}
+		catch (DependencyResolutionRequiredException | MalformedURLException ex)
+		{
+			throw new MojoExecutionException("unable to build classpath", ex);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Annotation> annotation(ClassLoader loader, String name) throws ClassNotFoundException
+	{
+		return (Class<? extends Annotation>) Class.forName(name, false, loader);
+	}
+
+	private static Object value(Annotation annotation, String name) throws ReflectiveOperationException
+	{
+		return annotation.annotationType().getMethod(name).invoke(annotation);
+	}
+
+	private static boolean contains(byte[] data, byte[] search)
+	{
+		outer:
+		for (int i = 0; i <= data.length - search.length; ++i)
+		{
+			for (int j = 0; j < search.length; ++j)
+			{
+				if (data[i + j] != search[j])
+				{
+					continue outer;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+}